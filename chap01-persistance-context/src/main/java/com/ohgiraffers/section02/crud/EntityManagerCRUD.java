@@ -2,12 +2,18 @@ package com.ohgiraffers.section02.crud;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.RollbackException;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * EntityManager를 이용한 기본 CRUD 기능 제공 클래스
  */
 public class EntityManagerCRUD {
 
+    /* 낙관적 락 충돌 시 메뉴 수정을 다시 시도하는 최대 횟수 */
+    private static final int MAX_MODIFY_ATTEMPTS = 5;
+
     private EntityManager entityManager;
 
     /**
@@ -73,25 +79,63 @@ public class EntityManagerCRUD {
      * - 주어진 menuCode에 해당하는 메뉴를 조회하여 이름을 변경함
      * - 트랜잭션을 시작한 뒤, 엔티티를 수정하고 커밋하여 DB에 반영
      * - JPA 는 변경 감지를 통해 자동으로 update SQL을 생성함
+     * - Menu는 @Version으로 낙관적 락을 사용하므로, 조회 이후 다른 트랜잭션이 먼저 수정했다면 커밋 시 충돌이 발생한다.
+     *   이 경우 새 EntityManager로 조회부터 다시 수행한다. (최대 MAX_MODIFY_ATTEMPTS회, 시도마다 대기 시간 증가)
      *
      * @param menuCode 수정할 대상 메뉴의 PK
      * @param menuName 변경할 메뉴 이름
      * @return 수정된 Menu 엔티티
+     * @throws OptimisticLockException 모든 시도가 충돌로 실패한 경우
      */
     public Menu modifyMenuName(int menuCode, String menuName) {
-        entityManager = EntityManagerGenerator.getInstance();
-
-        Menu foundMenu = entityManager.find(Menu.class, menuCode);
-
-        EntityTransaction transaction = entityManager.getTransaction();
-        transaction.begin();
-
-        // 엔티티의 필드 값 변경 → JPA 가 변경 감지하여 update 수행
-        foundMenu.setMenuName(menuName);
+        for (int attempt = 1; ; attempt++) {
+            entityManager = EntityManagerGenerator.getInstance();
+
+            Menu foundMenu = entityManager.find(Menu.class, menuCode);
+
+            EntityTransaction transaction = entityManager.getTransaction();
+            transaction.begin();
+
+            // 엔티티의 필드 값 변경 → JPA 가 변경 감지하여 update 수행 (WHERE 절에 version 조건이 추가됨)
+            foundMenu.setMenuName(menuName);
+
+            try {
+                transaction.commit();
+                return foundMenu;
+            } catch (RollbackException | OptimisticLockException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                entityManager.close();
+
+                // 낙관적 락 충돌이 아니거나 재시도 횟수를 모두 사용했다면 그대로 던진다.
+                if (!isOptimisticLockFailure(e) || attempt >= MAX_MODIFY_ATTEMPTS) {
+                    throw e;
+                }
+                backoff(attempt);
+            }
+        }
+    }
 
-        transaction.commit();
+    /* 커밋 중 발생한 충돌은 RollbackException의 cause로 감싸져 전달된다. */
+    private static boolean isOptimisticLockFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockException) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return foundMenu;
+    /* 충돌한 트랜잭션들이 다시 동시에 부딪히지 않도록 지수적으로 늘어나는 대기 시간에 무작위 값을 섞는다. */
+    private static void backoff(int attempt) {
+        long delay = 10L << Math.min(attempt - 1, 4);
+        try {
+            Thread.sleep(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
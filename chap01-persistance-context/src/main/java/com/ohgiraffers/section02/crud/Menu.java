@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * Menu 엔티티 클래스
@@ -33,6 +34,10 @@ public class Menu {
     @Column(name = "orderable_status") // 주문 가능 상태 컬럼과 매핑
     private char orderableStatus;
 
+    @Version // 낙관적 락 버전 컬럼 (META-INF/sql/menu-version.sql을 한 번 실행해 컬럼을 추가한다)
+    @Column(name = "version") // 수정할 때마다 1씩 증가하며, 커밋 시점에 다른 트랜잭션의 선행 수정을 감지한다.
+    private int version;
+
     /**
      * 기본 생성자
      * - JPA 스펙에 따라 반드시 필요
@@ -90,6 +95,10 @@ public class Menu {
         this.orderableStatus = orderableStatus;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return "Menu{" +
@@ -98,6 +107,7 @@ public class Menu {
             ", menuPrice=" + menuPrice +
             ", categoryCode=" + categoryCode +
             ", orderableStatus=" + orderableStatus +
+            ", version=" + version +
             '}';
     }
 }
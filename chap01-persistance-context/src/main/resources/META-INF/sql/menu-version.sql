@@ -0,0 +1,8 @@
+-- 낙관적 락 버전 컬럼 (section02.crud.Menu의 @Version)
+-- 한 번만 실행하는 스크립트다. (mysql -u ohgiraffers -p menudb < src/main/resources/META-INF/sql/menu-version.sql)
+-- 실수로 다시 실행해도 안전하도록 컬럼이 없을 때만 추가한다.
+-- MySQL은 ADD COLUMN IF NOT EXISTS를 지원하지 않으므로 information_schema로 확인한 뒤 준비된 문장으로 실행한다.
+SET @menu_version_ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE tbl_menu ADD COLUMN version INT NOT NULL DEFAULT 0', 'DO 0') FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'tbl_menu' AND column_name = 'version');
+PREPARE menu_version_stmt FROM @menu_version_ddl;
+EXECUTE menu_version_stmt;
+DEALLOCATE PREPARE menu_version_stmt;
@@ -0,0 +1,105 @@
+package com.ohgiraffers.section02.crud;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import java.util.List;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 영속성 컨텍스트에 엔티티가 많을 때 flush 시점의 변경 감지(dirty checking) 비용을 측정한다.
+ * <p>
+ * - 바이트코드 향상(build.gradle의 enableDirtyTracking)을 적용하면 엔티티가 변경된 속성을 직접 기록하므로
+ *   변경 표시가 없는 엔티티는 스냅샷 비교 없이 건너뛴다.
+ * - 향상이 없으면 flush마다 모든 엔티티의 모든 필드를 스냅샷과 비교한다.
+ * - 두 결과를 비교하려면 아래 두 명령을 각각 실행한다.
+ *   ./gradlew test -Pbenchmark --tests '*FlushBenchmarkTests'
+ *   ./gradlew test -Pbenchmark -PnoEnhance --tests '*FlushBenchmarkTests'
+ * - 측정 데이터는 DB에 저장하지 않으며, 트랜잭션은 항상 롤백한다.
+ */
+@Tag("benchmark")
+public class FlushBenchmarkTests {
+
+    private static final int ENTITY_COUNT = 100_000;
+    private static final int MODIFY_INTERVAL = 100;     // 100건 중 1건 (1%) 변경
+    private static final int REPEAT = 5;
+
+    /* 0 ~ 99,999를 만드는 숫자 테이블을 tbl_menu 컬럼 형태로 조회한다. (실제 tbl_menu의 행이 아님) */
+    private static final String GENERATE_QUERY =
+        "SELECT n + 1000000 AS menu_code, CONCAT('메뉴', n) AS menu_name, 1000 AS menu_price," +
+            " 1 AS category_code, 'Y' AS orderable_status, 0 AS version" +
+            " FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + f.d * 10000 AS n" +
+            "       FROM " + digits("a") + " CROSS JOIN " + digits("b") + " CROSS JOIN " + digits("c") +
+            "       CROSS JOIN " + digits("e") + " CROSS JOIN " + digits("f") + ") numbers";
+
+    private EntityManager entityManager;
+    private EntityTransaction transaction;
+
+    private static String digits(String alias) {
+        return "(SELECT 0 d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4" +
+            " UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) " + alias;
+    }
+
+    @BeforeEach
+    void setUp() {
+        entityManager = EntityManagerGenerator.getInstance();
+        transaction = entityManager.getTransaction();
+        transaction.begin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.clear();
+        transaction.rollback();
+        entityManager.close();
+    }
+
+    @Test
+    @DisplayName("엔티티 10만 건의 변경 감지 시간 측정")
+    void testDirtyCheckingCost() {
+
+        // given : 10만 건을 영속 상태로 만든다.
+        List<Menu> menus = entityManager.createNativeQuery(GENERATE_QUERY, Menu.class).getResultList();
+        assertEquals(ENTITY_COUNT, menus.size());
+        Session session = entityManager.unwrap(Session.class);
+        System.out.println("바이트코드 향상 적용 여부 = " + (menus.get(0) instanceof ManagedEntity));
+
+        // when : 변경 없이 flush
+        long unchangedFlush = measure(entityManager::flush);
+
+        // when : 변경 없이 변경 감지만 수행 (isDirty는 SQL을 실행하지 않고 flush 대상만 계산한다)
+        long unchangedCheck = measure(() -> assertFalse(session.isDirty()));
+
+        // when : 1%를 변경한 뒤 변경 감지
+        // (측정용 행은 실제 테이블에 없으므로 UPDATE를 실행하는 flush 대신 isDirty로 측정한다)
+        for (int i = 0; i < menus.size(); i += MODIFY_INTERVAL) {
+            menus.get(i).setMenuPrice(2000);
+        }
+        long modifiedCheck = measure(() -> assertTrue(session.isDirty()));
+
+        // then
+        System.out.printf("엔티티 %,d건 : 변경 없는 flush %.2fms, 변경 없는 변경 감지 %.2fms, 1%% 변경 후 변경 감지 %.2fms%n",
+            ENTITY_COUNT, unchangedFlush / 1_000_000.0, unchangedCheck / 1_000_000.0, modifiedCheck / 1_000_000.0);
+    }
+
+    /* 첫 실행(JIT 예열)을 제외한 REPEAT회 평균 (나노초) */
+    private static long measure(Runnable action) {
+        action.run();
+        long total = 0;
+        for (int i = 0; i < REPEAT; i++) {
+            long start = System.nanoTime();
+            action.run();
+            total += System.nanoTime() - start;
+        }
+        return total / REPEAT;
+    }
+}
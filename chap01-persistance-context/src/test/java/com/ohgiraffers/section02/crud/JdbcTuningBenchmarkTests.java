@@ -0,0 +1,147 @@
+package com.ohgiraffers.section02.crud;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 기본 설정(jpatest)과 MySQL 드라이버 튜닝 설정(jpatest-perf)의 INSERT/조회 처리량을 비교한다.
+ * <p>
+ * - batch INSERT : 임시 테이블에 INSERT_ROWS건을 BATCH_SIZE개씩 addBatch/executeBatch로 등록한다.
+ *   rewriteBatchedStatements가 켜져 있으면 batch 하나가 여러 행 INSERT 한 문장으로 전송된다.
+ * - 단건 조회(JDBC) : Hibernate처럼 조회할 때마다 prepareStatement → 실행 → close를 반복한다.
+ *   cachePrepStmts/useServerPrepStmts가 켜져 있으면 close한 문장이 캐시되어 다음 prepareStatement에서 재사용된다.
+ * - 단건 조회(JPQL) : 같은 조회를 각 영속성 유닛의 EntityManager로 실행한다.
+ * - 두 유닛의 결과를 같은 실행에서 나란히 출력하므로 그대로 비교하면 된다. (./gradlew test -Pbenchmark)
+ * - 설정에 따라 결과가 달라지지 않았는지, 두 유닛 모두 임시 테이블의 행 수가 (예열 BATCH_SIZE + INSERT_ROWS)인지 확인한다.
+ *   (rewriteBatchedStatements가 켜져 있으면 executeBatch가 행별 건수 대신 SUCCESS_NO_INFO를 돌려주므로 COUNT(*)로 확인한다)
+ * - 임시 테이블(TEMPORARY)은 커넥션을 닫으면 사라지므로 tbl_menu 등 실제 데이터는 바뀌지 않는다.
+ */
+@Tag("benchmark")
+public class JdbcTuningBenchmarkTests {
+
+    private static final int INSERT_ROWS = 20_000;
+    private static final int BATCH_SIZE = 500;
+    private static final int QUERY_COUNT = 20_000;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"jpatest", "jpatest-perf"})
+    @DisplayName("영속성 유닛별 batch INSERT / 단건 조회 처리량 측정")
+    void testThroughput(String persistenceUnit) throws SQLException {
+
+        // given : 영속성 유닛에 설정된 접속 정보를 그대로 사용한다.
+        //         (SQL 출력은 두 유닛 모두 꺼서 드라이버 설정 차이만 비교되도록 한다)
+        EntityManagerFactory factory = Persistence.createEntityManagerFactory(
+            persistenceUnit, Map.of("hibernate.show_sql", "false"));
+        String url = (String) factory.getProperties().get("jakarta.persistence.jdbc.url");
+        String user = (String) factory.getProperties().get("jakarta.persistence.jdbc.user");
+        String password = (String) factory.getProperties().get("jakarta.persistence.jdbc.password");
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMPORARY TABLE bench_menu (" +
+                    " menu_code INT AUTO_INCREMENT PRIMARY KEY, menu_name VARCHAR(30), menu_price INT," +
+                    " category_code INT, orderable_status CHAR(1))");
+            }
+            insertRows(connection, BATCH_SIZE);     // 예열 (JIT, 문장 캐시)
+
+            // when
+            long insertNanos = time(() -> insertRows(connection, INSERT_ROWS));
+            long jdbcQueryNanos = time(() -> queryRows(connection, QUERY_COUNT));
+            long jpqlQueryNanos = time(() -> queryMenus(factory, QUERY_COUNT));
+
+            // then : 처리량과 관계없이 두 유닛이 같은 행을 등록해야 비교가 의미 있다.
+            assertEquals(BATCH_SIZE + INSERT_ROWS, countRows(connection));
+            System.out.printf("[%s] batch INSERT %,.0f행/초, JDBC 단건 조회 %,.0f건/초, JPQL 단건 조회 %,.0f건/초%n",
+                persistenceUnit, perSecond(INSERT_ROWS, insertNanos), perSecond(QUERY_COUNT, jdbcQueryNanos),
+                perSecond(QUERY_COUNT, jpqlQueryNanos));
+        } finally {
+            factory.close();
+        }
+    }
+
+    private static void insertRows(Connection connection, int rows) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+            "INSERT INTO bench_menu (menu_name, menu_price, category_code, orderable_status) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                statement.setString(1, "측정메뉴" + i);
+                statement.setInt(2, 1000 + i % 100);
+                statement.setInt(3, 1 + i % 10);
+                statement.setString(4, "Y");
+                statement.addBatch();
+                if (i % BATCH_SIZE == 0 || i == rows) {
+                    statement.executeBatch();
+                }
+            }
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static int countRows(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM bench_menu")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static void queryRows(Connection connection, int count) throws SQLException {
+        for (int i = 0; i < count; i++) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT menu_code, menu_name, menu_price FROM bench_menu WHERE menu_code = ?")) {
+                statement.setInt(1, 1 + i % INSERT_ROWS);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    assertTrue(resultSet.next());
+                }
+            }
+        }
+    }
+
+    private static void queryMenus(EntityManagerFactory factory, int count) {
+        EntityManager entityManager = factory.createEntityManager();
+        try {
+            for (int i = 0; i < count; i++) {
+                entityManager.createQuery(
+                        "SELECT m FROM Section02Menu m WHERE m.menuCode = :menuCode", Menu.class)
+                    .setParameter("menuCode", 1 + i % 10)
+                    .getResultList();
+                entityManager.clear();  // 1차 캐시에서 바로 돌려주지 않도록 매번 비운다.
+            }
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static long time(SqlAction action) throws SQLException {
+        long start = System.nanoTime();
+        action.run();
+        return System.nanoTime() - start;
+    }
+
+    private static double perSecond(int count, long nanos) {
+        return count * 1_000_000_000.0 / nanos;
+    }
+
+    @FunctionalInterface
+    private interface SqlAction {
+
+        void run() throws SQLException;
+    }
+}
@@ -2,10 +2,12 @@ package com.ohgiraffers.mapping.section01.entity;
 
 import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -48,6 +50,7 @@ public class Member {
     @Column(name = "phone")
     private String phone;
 
+    @Basic(fetch = FetchType.LAZY) // 긴 컬럼은 실제로 사용할 때 별도 SELECT로 읽는다. (바이트코드 향상을 적용한 경우에만 동작하며, 없으면 무시된다)
     @Column(name = "address", length = 900) // VARCHAR(900)으로 컬럼 길이 제한 설정
     private String address;
 
@@ -41,6 +41,26 @@ public class Book {
         this.price = price;
     }
 
+    public String getBookTitle() {
+        return bookTitle;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public String getPublisher() {
+        return publisher;
+    }
+
+    public LocalDate getPublishedDate() {
+        return publishedDate;
+    }
+
+    public Price getPrice() {
+        return price;
+    }
+
     @Override
     public String toString() {
         return "Book{" +
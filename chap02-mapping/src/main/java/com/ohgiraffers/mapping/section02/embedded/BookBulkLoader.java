@@ -0,0 +1,151 @@
+package com.ohgiraffers.mapping.section02.embedded;
+
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcStatement;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 생성된 Book 엔티티를 persist 하지 않고 tbl_book에 한 번에 적재한다.
+ * <p>
+ * - LOAD_DATA : LOAD DATA LOCAL INFILE로 적재한다. 파일 대신 행을 하나씩 변환하는 TsvRowInputStream을 넘긴다.
+ *   (bulk-load 프로필의 allowLoadLocalInfile=true와 서버의 local_infile=ON이 필요하다)
+ * - MULTI_ROW_INSERT : INSERT ... VALUES (...), (...)로 적재한다.
+ * - AUTO : MySQL 드라이버 커넥션이면 LOAD_DATA를 시도하고, 허용되지 않아 실패하면 이후로는 MULTI_ROW_INSERT를 사용한다.
+ *   "허용되지 않음"(서버 오류 1148/3948, 드라이버의 allowLoadLocalInfile 거부)만 대체하며, 그 밖의 오류는 그대로 던진다.
+ * - book.bulk-load.mode로 방식을 고른다. (기본값 auto)
+ * - 호출한 쪽의 트랜잭션에 참여한다. LOAD DATA가 건너뛰거나 잘라서 넣은 행이 있으면(행 수 불일치, 경고)
+ *   DataIntegrityViolationException을 던져 트랜잭션이 롤백되게 한다.
+ */
+@Repository
+public class BookBulkLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(BookBulkLoader.class);
+
+    private static final String COLUMNS =
+        "(book_title, author, publisher, published_date, regular_price, discount_rate, sell_price)";
+
+    private static final String LOAD_DATA_SQL =
+        "LOAD DATA LOCAL INFILE 'book.tsv' INTO TABLE tbl_book CHARACTER SET utf8mb4"
+            + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' " + COLUMNS;
+
+    private static final int ER_NOT_ALLOWED_COMMAND = 1148;           // 서버의 local_infile=OFF (이전 버전)
+    private static final int ER_CLIENT_LOCAL_FILES_DISABLED = 3948;   // 서버의 local_infile=OFF
+
+    public enum Mode {
+        AUTO, LOAD_DATA, MULTI_ROW_INSERT
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Mode mode;
+    private final int rowsPerStatement;
+
+    // AUTO 모드에서 LOAD DATA가 허용되지 않는 것을 한 번 확인하면 이후로는 시도하지 않는다.
+    private volatile boolean loadDataAvailable = true;
+
+    public BookBulkLoader(JdbcTemplate jdbcTemplate,
+        @Value("${book.bulk-load.mode:auto}") String mode,
+        @Value("${book.bulk-load.rows-per-statement:1000}") int rowsPerStatement) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mode = Mode.valueOf(mode.strip().replace('-', '_').toUpperCase(Locale.ROOT));
+        this.rowsPerStatement = Math.max(1, rowsPerStatement);
+    }
+
+    /**
+     * @param books 등록할 도서 (bookNo는 무시되고 새로 발급된다)
+     * @return 적재된 행 수
+     */
+    public int load(List<Book> books) {
+        if (books.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection ->
+            useLoadData(connection) ? loadData(connection, books) : insertMultiRow(connection, books));
+    }
+
+    private boolean useLoadData(Connection connection) throws SQLException {
+        return switch (mode) {
+            case LOAD_DATA -> true;
+            case MULTI_ROW_INSERT -> false;
+            case AUTO -> loadDataAvailable && connection.isWrapperFor(JdbcConnection.class);
+        };
+    }
+
+    private int loadData(Connection connection, List<Book> books) throws SQLException {
+        int loaded;
+        SQLWarning warning;
+        try (Statement statement = connection.createStatement()) {
+            statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(
+                new TsvRowInputStream<>(books.iterator(), book -> new Object[]{
+                    book.getBookTitle(), book.getAuthor(), book.getPublisher(), book.getPublishedDate(),
+                    book.getPrice().getRegularPrice(), book.getPrice().getDiscountRate(), book.getPrice().getSellPrice()
+                }));
+            loaded = statement.executeUpdate(LOAD_DATA_SQL);
+            warning = statement.getWarnings();
+        } catch (SQLException e) {
+            if (mode != Mode.AUTO || !isLocalInfileDisabled(e)) {
+                throw e;
+            }
+            // 실패한 LOAD DATA 문은 전체가 취소되므로 다른 방식으로 다시 적재해도 중복되지 않는다.
+            loadDataAvailable = false;
+            log.warn("LOAD DATA LOCAL INFILE을 사용할 수 없어 여러 행 INSERT로 적재합니다 : {}", e.getMessage());
+            return insertMultiRow(connection, books);
+        }
+
+        // 건너뛰거나 잘린 행이 있으면 경고로만 알려 주므로, 행 수와 경고를 직접 확인한다.
+        if (loaded != books.size() || warning != null) {
+            throw new DataIntegrityViolationException("LOAD DATA로 적재한 행이 요청과 다릅니다 (요청 " + books.size()
+                + "행, 적재 " + loaded + "행)" + (warning == null ? "" : " : " + warning.getMessage()));
+        }
+        return loaded;
+    }
+
+    /* 클라이언트나 서버에서 LOAD DATA LOCAL이 허용되지 않아 실패했는지 여부 */
+    private static boolean isLocalInfileDisabled(SQLException e) {
+        return e.getErrorCode() == ER_NOT_ALLOWED_COMMAND
+            || e.getErrorCode() == ER_CLIENT_LOCAL_FILES_DISABLED
+            || (e.getMessage() != null && e.getMessage().contains("allowLoadLocalInfile"));   // 드라이버가 거부한 경우
+    }
+
+    private int insertMultiRow(Connection connection, List<Book> books) throws SQLException {
+        int loaded = 0;
+        for (int from = 0; from < books.size(); from += rowsPerStatement) {
+            List<Book> chunk = books.subList(from, Math.min(from + rowsPerStatement, books.size()));
+            try (PreparedStatement statement = connection.prepareStatement(insertSql(chunk.size()))) {
+                int index = 1;
+                for (Book book : chunk) {
+                    statement.setString(index++, book.getBookTitle());
+                    statement.setString(index++, book.getAuthor());
+                    statement.setString(index++, book.getPublisher());
+                    statement.setDate(index++, book.getPublishedDate() == null ? null : Date.valueOf(book.getPublishedDate()));
+                    statement.setInt(index++, book.getPrice().getRegularPrice());
+                    statement.setDouble(index++, book.getPrice().getDiscountRate());
+                    statement.setInt(index++, book.getPrice().getSellPrice());
+                }
+                loaded += statement.executeUpdate();
+            }
+        }
+        return loaded;
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO tbl_book ").append(COLUMNS).append(" VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?)");
+        }
+        return sql.toString();
+    }
+}
@@ -1,5 +1,7 @@
 package com.ohgiraffers.mapping.section02.embedded;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -7,15 +9,37 @@ import org.springframework.transaction.annotation.Transactional;
 public class BookRegistService {
 
     private BookRepository bookRepository;
+    private BookBulkLoader bookBulkLoader;
 
-    public BookRegistService(BookRepository bookRepository) {
+    public BookRegistService(BookRepository bookRepository, BookBulkLoader bookBulkLoader) {
         this.bookRepository = bookRepository;
+        this.bookBulkLoader = bookBulkLoader;
     }
 
     @Transactional
     public void registBook(BookRegistDTO newBook) {
+        bookRepository.save(toBook(newBook));
+    }
+
+    /**
+     * 도서를 대량 등록한다.
+     * - registBook과 같이 Book/Price를 생성하며 검증(음수 가격/할인율)과 판매가 계산을 먼저 모두 마친다.
+     *   하나라도 실패하면 아무것도 등록하지 않는다.
+     * - 생성한 엔티티는 persist 하지 않고 BookBulkLoader로 한 번에 적재한다. (영속성 컨텍스트에 쌓이지 않는다)
+     *
+     * @return 등록된 도서 수
+     */
+    @Transactional
+    public int registBooks(List<BookRegistDTO> newBooks) {
+        List<Book> books = new ArrayList<>(newBooks.size());
+        for (BookRegistDTO newBook : newBooks) {
+            books.add(toBook(newBook));
+        }
+        return bookBulkLoader.load(books);
+    }
 
-        Book book = new Book(
+    private Book toBook(BookRegistDTO newBook) {
+        return new Book(
             newBook.getBookTitle(),
             newBook.getAuthor(),
             newBook.getPublisher(),
@@ -25,6 +49,5 @@ public class BookRegistService {
                 newBook.getDiscountRate()
             )
         );
-        bookRepository.save(book);
     }
 }
@@ -45,6 +45,18 @@ public class Price {
         return (int) (regularPrice - (regularPrice * discountRate));
     }
 
+    public int getRegularPrice() {
+        return regularPrice;
+    }
+
+    public double getDiscountRate() {
+        return discountRate;
+    }
+
+    public int getSellPrice() {
+        return sellPrice;
+    }
+
     @Override
     public String toString() {
         return "Price{" +
@@ -1,13 +1,19 @@
 package com.ohgiraffers.mapping.section02.embedded;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
 public class BookRegistServiceTests {
@@ -16,6 +22,9 @@ public class BookRegistServiceTests {
     @Autowired
     private BookRegistService bookRegistService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private static Stream<Arguments> getBook() {
         return Stream.of(
             Arguments.of(
@@ -51,4 +60,39 @@ public class BookRegistServiceTests {
             () -> bookRegistService.registBook(newBook)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional  // 테스트가 끝나면 적재한 행도 롤백된다.
+    @DisplayName("도서 대량 등록 시 판매가가 계산되어 모두 적재되는지 확인")
+    void testRegistBooks() {
+        //given
+        List<BookRegistDTO> newBooks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            newBooks.add(new BookRegistDTO("대량등록" + i, "김영한", "에이콘", LocalDate.now(), 10000, 0.1));
+        }
+
+        //when
+        int registered = bookRegistService.registBooks(newBooks);
+
+        //then
+        Assertions.assertEquals(100, registered);
+        Assertions.assertEquals(100, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM tbl_book WHERE book_title LIKE '대량등록%' AND sell_price = 9000", Integer.class));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("도서 대량 등록 시 하나라도 검증에 실패하면 아무것도 등록되지 않는지 확인")
+    void testRegistBooksWithInvalidPrice() {
+        //given
+        List<BookRegistDTO> newBooks = List.of(
+            new BookRegistDTO("대량등록정상", "김영한", "에이콘", LocalDate.now(), 10000, 0.1),
+            new BookRegistDTO("대량등록오류", "김영한", "에이콘", LocalDate.now(), -1, 0.1)
+        );
+
+        //when & then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bookRegistService.registBooks(newBooks));
+        Assertions.assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM tbl_book WHERE book_title LIKE '대량등록%'", Integer.class));
+    }
+}
@@ -0,0 +1,169 @@
+package com.ohgiraffers.associationmapping.common;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 모든 엔티티의 연관관계 매핑을 검사하여 즉시 로딩(EAGER)으로 설정된 연관관계를 보고한다.
+ * <p>
+ * - JPA 메타모델로 엔티티의 연관관계 속성을 찾고, 매핑 어노테이션의 fetch 값을 확인한다.
+ *   (@ManyToOne, @OneToOne은 fetch를 생략하면 EAGER이다)
+ * - 컬렉션(@OneToMany 등)은 "대상 엔티티 행 수 / 소유 엔티티 행 수"로 소유 엔티티 1건당 함께 읽히는 평균 행 수(fan-out)를 추정한다.
+ *   소유 엔티티 목록을 조회하면 대략 (소유 엔티티 수 × fan-out)행을 추가로 읽게 된다.
+ * - association.fetch-audit.enabled=true 일 때만 동작한다. (기본은 꺼져 있으며 diagnostic 프로필에서 켠다)
+ */
+@Component
+@ConditionalOnProperty(name = "association.fetch-audit.enabled", havingValue = "true")
+public class EagerFetchAuditor {
+
+    private static final Logger log = LoggerFactory.getLogger(EagerFetchAuditor.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EagerFetchAuditor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        List<EagerAssociation> associations = audit();
+        if (associations.isEmpty()) {
+            log.info("[fetch-audit] EAGER 연관관계 없음");
+            return;
+        }
+        associations.forEach(association -> log.warn("[fetch-audit] {}", association));
+    }
+
+    /**
+     * EAGER로 설정된 연관관계 목록을 예상 fan-out이 큰 순서로 반환한다.
+     */
+    public List<EagerAssociation> audit() {
+        List<EagerAssociation> result = new ArrayList<>();
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        Map<String, Long> rowCounts = new HashMap<>();   // 같은 엔티티의 행 수를 한 번만 조회한다.
+        try {
+            for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+                for (Attribute<?, ?> attribute : entity.getAttributes()) {
+                    if (!attribute.isAssociation() && !attribute.isCollection()) {
+                        continue;
+                    }
+                    if (fetchTypeOf(attribute.getJavaMember()) != FetchType.EAGER) {
+                        continue;
+                    }
+                    result.add(toEagerAssociation(entityManager, rowCounts, entity, attribute));
+                }
+            }
+        } finally {
+            entityManager.close();
+        }
+        result.sort(Comparator.comparingDouble(EagerAssociation::fanOut).reversed());
+        return result;
+    }
+
+    private EagerAssociation toEagerAssociation(EntityManager entityManager, Map<String, Long> rowCounts,
+        EntityType<?> owner, Attribute<?, ?> attribute) {
+        String mapping = attribute.getPersistentAttributeType().name();
+        if (!(attribute instanceof PluralAttribute<?, ?, ?> plural)) {
+            // 단일 값 연관관계는 소유 엔티티 1건당 최대 1건을 함께 읽는다.
+            return new EagerAssociation(owner.getName(), attribute.getName(), mapping,
+                attribute.getJavaType().getSimpleName(), 1.0, countRows(entityManager, rowCounts, owner.getName()));
+        }
+
+        long ownerRows = countRows(entityManager, rowCounts, owner.getName());
+        double fanOut = -1;
+        if (plural.getElementType() instanceof EntityType<?> target) {
+            long targetRows = countRows(entityManager, rowCounts, target.getName());
+            if (ownerRows > 0 && targetRows >= 0) {
+                fanOut = (double) targetRows / ownerRows;
+            }
+        }
+        return new EagerAssociation(owner.getName(), attribute.getName(), mapping,
+            plural.getElementType().getJavaType().getSimpleName(), fanOut, ownerRows);
+    }
+
+    private long countRows(EntityManager entityManager, Map<String, Long> rowCounts, String entityName) {
+        return rowCounts.computeIfAbsent(entityName, name -> {
+            try {
+                return entityManager.createQuery("SELECT COUNT(e) FROM " + name + " e", Long.class)
+                    .getSingleResult();
+            } catch (RuntimeException e) {
+                log.debug("[fetch-audit] {} 행 수 조회 실패 : {}", name, e.getMessage());
+                return -1L;
+            }
+        });
+    }
+
+    /* 매핑 어노테이션에 지정된(또는 기본) fetch 전략 */
+    static FetchType fetchTypeOf(Member member) {
+        if (!(member instanceof AnnotatedElement element)) {
+            return null;
+        }
+        ManyToOne manyToOne = element.getAnnotation(ManyToOne.class);
+        if (manyToOne != null) {
+            return manyToOne.fetch();
+        }
+        OneToOne oneToOne = element.getAnnotation(OneToOne.class);
+        if (oneToOne != null) {
+            return oneToOne.fetch();
+        }
+        OneToMany oneToMany = element.getAnnotation(OneToMany.class);
+        if (oneToMany != null) {
+            return oneToMany.fetch();
+        }
+        ManyToMany manyToMany = element.getAnnotation(ManyToMany.class);
+        if (manyToMany != null) {
+            return manyToMany.fetch();
+        }
+        ElementCollection elementCollection = element.getAnnotation(ElementCollection.class);
+        return elementCollection != null ? elementCollection.fetch() : null;
+    }
+
+    /**
+     * EAGER로 설정된 연관관계 하나의 검사 결과.
+     *
+     * @param entity     소유 엔티티 이름
+     * @param attribute  연관관계 필드명
+     * @param mapping    매핑 종류 (MANY_TO_ONE, ONE_TO_MANY 등)
+     * @param target     대상 타입
+     * @param fanOut     소유 엔티티 1건당 함께 읽히는 평균 행 수 (추정 불가 시 -1)
+     * @param ownerRows  소유 엔티티 전체 행 수 (조회 실패 시 -1)
+     */
+    public record EagerAssociation(String entity, String attribute, String mapping, String target,
+                                   double fanOut, long ownerRows) {
+
+        @Override
+        public String toString() {
+            String estimate;
+            if (fanOut < 0) {
+                estimate = "추정 불가";
+            } else if (ownerRows < 0) {
+                estimate = String.format("1건당 평균 %.1f행", fanOut);
+            } else {
+                estimate = String.format("1건당 평균 %.1f행, 전체 조회 시 약 %d행 추가", fanOut, Math.round(fanOut * ownerRows));
+            }
+            return entity + "." + attribute + " (" + mapping + " → " + target + ") : " + estimate;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ohgiraffers.associationmapping.common;
+
+/**
+ * 하나의 영속성 컨텍스트가 관리하는 엔티티 수가 허용 한도를 넘었을 때 발생하는 예외.
+ */
+public class PersistenceContextOverflowException extends RuntimeException {
+
+    public PersistenceContextOverflowException(int managedEntities, int maxEntities) {
+        super("영속성 컨텍스트의 엔티티 수가 한도를 초과했습니다 : " + managedEntities + " > " + maxEntities
+            + " (PersistenceContextGuard.forEachPage() 등으로 나누어 처리하세요)");
+    }
+}
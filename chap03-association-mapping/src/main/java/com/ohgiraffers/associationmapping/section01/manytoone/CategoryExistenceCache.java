@@ -0,0 +1,31 @@
+package com.ohgiraffers.associationmapping.section01.manytoone;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB에 존재하는 것으로 확인된 카테고리 코드를 보관하는 캐시.
+ * <p>
+ * - 한 번 존재가 확인된 카테고리는 다시 조회하지 않고 getReference()로 연결한다.
+ * - 존재하지 않는 코드는 저장하지 않는다. (다른 곳에서 나중에 등록될 수 있으므로 매번 DB로 확인한다)
+ * - 롤백될 수 있는 등록 중의 카테고리는 넣지 않고, DB 조회로 확인된 코드만 넣는다.
+ */
+@Component
+public class CategoryExistenceCache {
+
+    private final Set<Integer> existingCodes = ConcurrentHashMap.newKeySet();
+
+    public boolean contains(int categoryCode) {
+        return existingCodes.contains(categoryCode);
+    }
+
+    public void add(int categoryCode) {
+        existingCodes.add(categoryCode);
+    }
+
+    /* 카테고리를 삭제한 경우 호출한다. */
+    public void remove(int categoryCode) {
+        existingCodes.remove(categoryCode);
+    }
+}
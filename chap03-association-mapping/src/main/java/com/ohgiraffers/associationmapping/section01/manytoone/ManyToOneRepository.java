@@ -22,6 +22,27 @@ public class ManyToOneRepository {
 
     }
 
+    /**
+     * 카테고리 존재 여부를 엔티티를 읽지 않고 확인한다.
+     */
+    public boolean existsCategory(int categoryCode) {
+        String jpql = "SELECT COUNT(c) FROM Section01Category c WHERE c.categoryCode = :categoryCode";
+
+        return entityManager.createQuery(jpql, Long.class).setParameter("categoryCode", categoryCode)
+            .getSingleResult() > 0;
+    }
+
+    /**
+     * 식별자만 가진 카테고리 프록시를 반환한다.
+     * <p>
+     * - getReference()는 SELECT를 실행하지 않고, 프록시의 식별자 외 필드를 처음 사용할 때 조회한다.
+     * - 메뉴의 외래키(category_code)를 채우는 데는 식별자만 필요하므로, 메뉴 등록 시 카테고리 조회가 발생하지 않는다.
+     * - 존재하지 않는 식별자여도 예외가 나지 않으므로(INSERT 시 외래키 제약 조건 위반) 존재 여부는 먼저 확인해야 한다.
+     */
+    public Category getCategoryReference(int categoryCode) {
+        return entityManager.getReference(Category.class, categoryCode);
+    }
+
     public void regist(Menu menu) {
         entityManager.persist(menu);
     }
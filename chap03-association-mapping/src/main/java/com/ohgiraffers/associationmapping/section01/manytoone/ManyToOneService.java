@@ -7,9 +7,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class ManyToOneService {
 
     private ManyToOneRepository manyToOneRepository;
+    private CategoryExistenceCache categoryExistenceCache;
 
-    public ManyToOneService(ManyToOneRepository manyToOneRepository) {
+    public ManyToOneService(ManyToOneRepository manyToOneRepository,
+        CategoryExistenceCache categoryExistenceCache) {
         this.manyToOneRepository = manyToOneRepository;
+        this.categoryExistenceCache = categoryExistenceCache;
     }
 
     public Menu findMenu(int menuCode) {
@@ -20,21 +23,50 @@ public class ManyToOneService {
         return manyToOneRepository.findCategoryName(menuCode);
     }
 
+    /**
+     * 메뉴를 등록한다.
+     * <p>
+     * - 이미 존재하는 카테고리 : new Category(...)로 만들면 CascadeType.PERSIST가 카테고리까지 INSERT하려다 실패하므로,
+     *   getReference()로 얻은 프록시를 연결한다. → SELECT 없이 메뉴 INSERT 한 번으로 등록된다.
+     * - 존재하지 않는 카테고리 : 전달받은 정보로 카테고리를 만들어 메뉴와 함께 저장한다. (CascadeType.PERSIST)
+     * - 존재 여부는 CategoryExistenceCache에 없을 때만 DB로 확인한다.
+     *
+     * @param menuInfo 등록할 메뉴 정보 (카테고리 정보 포함)
+     */
     @Transactional
     public void registMenu(MenuDTO menuInfo) {
 
+        int categoryCode = menuInfo.getCategory().getCategoryCode();
+        Category category;
+        if (isExistingCategory(categoryCode)) {
+            category = manyToOneRepository.getCategoryReference(categoryCode);
+        } else {
+            category = new Category(
+                categoryCode,
+                menuInfo.getCategory().getCategoryName(),
+                menuInfo.getCategory().getRefCategoryCode()
+            );
+        }
+
         Menu menu = new Menu(
             menuInfo.getMenuCode(),
             menuInfo.getMenuName(),
             menuInfo.getMenuPrice(),
-            new Category(
-                menuInfo.getCategory().getCategoryCode(),
-                menuInfo.getCategory().getCategoryName(),
-                menuInfo.getCategory().getRefCategoryCode()
-            ),
+            category,
             menuInfo.getOrderableStatus()
         );
         manyToOneRepository.regist(menu);
 
     }
+
+    private boolean isExistingCategory(int categoryCode) {
+        if (categoryExistenceCache.contains(categoryCode)) {
+            return true;
+        }
+        boolean exists = manyToOneRepository.existsCategory(categoryCode);
+        if (exists) {
+            categoryExistenceCache.add(categoryCode);
+        }
+        return exists;
+    }
 }
@@ -5,10 +5,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.util.List;
 
+/* 엔티티 그래프 : 조회 시점에 함께 읽을 연관관계를 이름으로 정의한다.
+ * - 매핑은 LAZY로 두고, 메뉴 목록이 필요한 조회에서만 이 그래프를 지정해 한 번의 조인으로 읽는다.
+ * - fetchgraph 힌트로 지정하면 그래프에 포함된 속성만 즉시 로딩하고 나머지는 매핑의 LAZY 설정을 따른다. */
+@NamedEntityGraph(name = "Category.withMenuList", attributeNodes = @NamedAttributeNode("menuList"))
 @Entity(name = "category_and_menu")
 @Table(name = "tbl_category")
 public class Category {
@@ -22,13 +28,16 @@ public class Category {
      * - 기본값: LAZY(지연 로딩) - 컬렉션 사용 시점에 쿼리 실행 (권장)
      * - EAGER: 즉시 로딩 - 엔티티 조회 시 컬렉션도 즉시 로딩 (N+1 문제 발생 가능)
      *
-     * 사용법: @OneToMany(fetch = FetchType.LAZY) // 생략 가능 */
+     * 사용법: @OneToMany(fetch = FetchType.LAZY) // 생략 가능
+     *
+     * 카테고리만 필요한 조회에서도 메뉴 전체를 함께 읽지 않도록 LAZY로 두고,
+     * 메뉴 목록이 필요하면 OneToManyRepository.findWithMenuList()처럼 엔티티 그래프로 명시해서 읽는다. */
 
     /* 일대다(@OneToMany) 연관관계
      * - 하나(1)의 카테고리가 여러(N)개의 메뉴를 포함하는 관계
      * - 외래키는 Menu 테이블의 categoryCode 컬럼에 존재
      * - 연관관계 주인은 외래키가 있는 Menu 쪽 */
-    @OneToMany(fetch = FetchType.EAGER, cascade = CascadeType.PERSIST)
+    @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     @JoinColumn(name = "categoryCode") // 외래키 컬럼명 지정
     private List<Menu> menuList;
     public Category() {
@@ -81,7 +90,6 @@ public class Category {
             "categoryCode=" + categoryCode +
             ", categoryName='" + categoryName + '\'' +
             ", refCategoryCode=" + refCategoryCode +
-            ", menuList=" + menuList +
-            '}';
+            '}';   // menuList는 출력하지 않는다. (출력만으로 지연 로딩 쿼리가 실행되거나, 트랜잭션 밖에서 예외가 발생한다)
     }
 }
@@ -1,7 +1,9 @@
 package com.ohgiraffers.associationmapping.section02.onetomany;
 
+import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.util.Map;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,6 +16,19 @@ public class OneToManyRepository {
         return entityManager.find(Category.class, categoryCode);
     }
 
+    /**
+     * 카테고리와 메뉴 목록을 함께 조회한다.
+     * - "Category.withMenuList" 엔티티 그래프를 fetchgraph 힌트로 전달하면 menuList를 조인하여 한 번의 쿼리로 읽는다.
+     *
+     * @param categoryCode 카테고리 코드
+     * @return 메뉴 목록이 로딩된 카테고리 (없으면 null)
+     */
+    public Category findWithMenuList(int categoryCode) {
+        EntityGraph<?> graph = entityManager.getEntityGraph("Category.withMenuList");
+        return entityManager.find(Category.class, categoryCode,
+            Map.of("jakarta.persistence.fetchgraph", graph));
+    }
+
     public void regist(Category category) {
         entityManager.persist(category);
     }
@@ -21,6 +21,12 @@ public class OneToManyService {
         return category;
     }
 
+    /* 메뉴 목록까지 필요한 경우에만 엔티티 그래프로 함께 조회한다. */
+    @Transactional(readOnly = true)
+    public Category findCategoryWithMenuList(int categoryCode) {
+        return oneToManyRepository.findWithMenuList(categoryCode);
+    }
+
     @Transactional
     public void registCategory(CategoryDTO categoryInfo) {
         Category category = new Category(
@@ -18,5 +18,37 @@ public class BiDirectionRepository {
         return entityManager.find(Category.class, categoryCode);
     }
 
+    public void registMenu(Menu menu) {
+        entityManager.persist(menu);
+    }
+
+    public void removeMenu(Menu menu) {
+        entityManager.remove(menu);
+    }
+
+    /**
+     * 카테고리의 메뉴 수를 메뉴 목록을 로딩하지 않고 조회한다.
+     */
+    public long countMenus(int categoryCode) {
+        String jpql = "SELECT COUNT(m) FROM bidirection_menu m WHERE m.category.categoryCode = :categoryCode";
+
+        return entityManager.createQuery(jpql, Long.class)
+            .setParameter("categoryCode", categoryCode)
+            .getSingleResult();
+    }
+
+    /**
+     * 메뉴가 카테고리에 속해 있는지 메뉴 목록을 로딩하지 않고 확인한다.
+     */
+    public boolean containsMenu(int categoryCode, int menuCode) {
+        String jpql = "SELECT COUNT(m) FROM bidirection_menu m"
+            + " WHERE m.menuCode = :menuCode AND m.category.categoryCode = :categoryCode";
+
+        return entityManager.createQuery(jpql, Long.class)
+            .setParameter("menuCode", menuCode)
+            .setParameter("categoryCode", categoryCode)
+            .getSingleResult() > 0;
+    }
+
 
 }
@@ -24,5 +24,56 @@ public class BiDirectionService {
         return category;
     }
 
+    /**
+     * 카테고리에 새 메뉴를 등록한다.
+     * - 카테고리의 메뉴 목록은 로딩하지 않는다. (메뉴 INSERT 한 번)
+     */
+    @Transactional
+    public void addMenu(int categoryCode, int menuCode, String menuName, int menuPrice, String orderableStatus) {
+        Category category = biDirectionRepository.findCategory(categoryCode);
+        if (category == null) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다 : " + categoryCode);
+        }
+        Menu menu = new Menu(menuCode, menuName, menuPrice, null, orderableStatus);
+        category.addMenu(menu);
+        biDirectionRepository.registMenu(menu);
+    }
+
+    /**
+     * 메뉴를 다른 카테고리로 옮긴다. (메뉴의 category_code UPDATE 한 번)
+     */
+    @Transactional
+    public void moveMenu(int menuCode, int targetCategoryCode) {
+        Menu menu = biDirectionRepository.findMenu(menuCode);
+        Category target = biDirectionRepository.findCategory(targetCategoryCode);
+        if (menu == null || target == null) {
+            throw new IllegalArgumentException("존재하지 않는 메뉴 또는 카테고리입니다.");
+        }
+        target.addMenu(menu);
+    }
+
+    /**
+     * 메뉴를 카테고리에서 제거하고 삭제한다.
+     */
+    @Transactional
+    public void removeMenu(int menuCode) {
+        Menu menu = biDirectionRepository.findMenu(menuCode);
+        if (menu == null) {
+            throw new IllegalArgumentException("존재하지 않는 메뉴입니다 : " + menuCode);
+        }
+        if (menu.getCategory() != null) {
+            menu.getCategory().removeMenu(menu);
+        }
+        biDirectionRepository.removeMenu(menu);
+    }
+
+    public long countMenus(int categoryCode) {
+        return biDirectionRepository.countMenus(categoryCode);
+    }
+
+    public boolean containsMenu(int categoryCode, int menuCode) {
+        return biDirectionRepository.containsMenu(categoryCode, menuCode);
+    }
+
 
 }
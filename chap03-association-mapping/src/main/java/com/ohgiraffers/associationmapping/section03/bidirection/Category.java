@@ -3,8 +3,10 @@ package com.ohgiraffers.associationmapping.section03.bidirection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Entity(name = "bidirection_category")
@@ -21,7 +23,16 @@ public class Category {
     // - mappedBy = "category"는 Menu 엔티티의 'category' 필드가 연관관계의 주인임을 나타냄
     // - 이 필드는 외래 키를 관리하지 않기 때문에 DB에 직접적인 변경 사항을 반영하지 않는다.
     // - 단순히 '카테고리에 속한 메뉴들'을 조회할 수 있는 읽기 전용 관계이다.
+    //
+    // 컬렉션 타입 선택
+    // - List(중복 허용, 순서 없는 bag) : 연관관계의 주인이 아닌(mappedBy) bag은 초기화되지 않은 상태에서 add()를 하면
+    //   컬렉션을 로딩하지 않고 추가 작업만 기억해 둔다. → 메뉴가 많은 카테고리에 메뉴를 추가해도 전체 목록을 읽지 않는다.
+    // - Set은 중복 확인을 위해 add() 시점에 컬렉션(또는 해당 원소)을 조회해야 하므로 여기서는 사용하지 않는다.
+    // - @OrderColumn은 tbl_menu에 순서 컬럼이 필요하고 순서 변경 시 UPDATE가 발생하므로, 조회 순서만 @OrderBy로 지정한다.
+    // - 개수/포함 여부 확인은 컬렉션을 로딩하지 않도록 BiDirectionRepository의 COUNT/EXISTS 쿼리를 사용한다.
+    //   (Hibernate 6에서 @LazyCollection(EXTRA)는 더 이상 권장되지 않는다)
     @OneToMany(mappedBy = "category")
+    @OrderBy("menuCode ASC")
     private List<Menu> menuList = new ArrayList<>();
 
     protected Category() {
@@ -68,8 +79,38 @@ public class Category {
             '}';
     }
 
+    /* 컬렉션을 직접 변경하면 Menu.category(연관관계의 주인)와 어긋나므로, 변경은 addMenu()/removeMenu()로만 한다. */
     public List<Menu> getMenuList() {
-        return menuList;
+        return Collections.unmodifiableList(menuList);
+    }
+
+    /**
+     * 메뉴를 이 카테고리에 추가한다. (양쪽 연관관계를 함께 설정)
+     * - 다른 카테고리에 속해 있던 메뉴라면 이전 카테고리의 목록에서 제거된다. (이전 카테고리의 목록은 로딩된다)
+     * - 이 카테고리의 메뉴 목록이 아직 로딩되지 않았다면 로딩하지 않는다.
+     */
+    public void addMenu(Menu menu) {
+        menu.changeCategory(this);
+    }
+
+    /**
+     * 메뉴를 이 카테고리에서 제거한다. (메뉴 삭제 전에 호출)
+     */
+    public void removeMenu(Menu menu) {
+        if (menu.getCategory() == this) {
+            menu.changeCategory(null);
+        }
+    }
+
+    /* Menu.changeCategory()에서만 호출한다. */
+    void linkMenu(Menu menu) {
+        menuList.add(menu);   // 초기화되지 않은 mappedBy bag은 로딩 없이 추가 작업으로 기억된다.
+    }
+
+    void unlinkMenu(Menu menu) {
+        // 로딩되지 않은 목록을 그대로 두면, flush 전에 목록을 읽을 때 DB의 외래키가 아직 바뀌지 않아 옮겨 간 메뉴가 다시 나타난다.
+        // remove()는 목록을 먼저 로딩(초기화)한 뒤 제거하므로 flush 여부와 관계없이 목록에서 빠진다.
+        menuList.remove(menu);
     }
 
 }
\ No newline at end of file
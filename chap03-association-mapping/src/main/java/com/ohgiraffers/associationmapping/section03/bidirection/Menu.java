@@ -66,8 +66,25 @@ public class Menu {
         return category;
     }
 
-    public void setCategory(Category category) {
+    /**
+     * 메뉴의 카테고리를 변경한다. (양쪽 연관관계를 함께 설정)
+     * - 연관관계의 주인인 이 필드의 값이 외래키(category_code)로 저장된다.
+     * - 이전 카테고리의 메뉴 목록은 로딩한 뒤 제거하고, 새 카테고리의 목록은 로딩하지 않고 추가한다.
+     * - 연관관계의 주인을 한쪽만 바꾸지 않도록 category 필드의 setter는 두지 않는다.
+     *
+     * @param category 새 카테고리 (null이면 카테고리에서 제거)
+     */
+    public void changeCategory(Category category) {
+        if (this.category == category) {
+            return;
+        }
+        if (this.category != null) {
+            this.category.unlinkMenu(this);
+        }
         this.category = category;
+        if (category != null) {
+            category.linkMenu(this);
+        }
     }
 
     public String getOrderableStatus() {
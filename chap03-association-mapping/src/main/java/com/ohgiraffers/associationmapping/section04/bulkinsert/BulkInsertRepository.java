@@ -0,0 +1,54 @@
+package com.ohgiraffers.associationmapping.section04.bulkinsert;
+
+import com.ohgiraffers.associationmapping.common.PersistenceContextGuard;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class BulkInsertRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final PersistenceContextGuard persistenceContextGuard;
+
+    /* hibernate.jdbc.batch_size와 같은 값으로 맞춘다. */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int flushSize;
+
+    public BulkInsertRepository(PersistenceContextGuard persistenceContextGuard) {
+        this.persistenceContextGuard = persistenceContextGuard;
+    }
+
+    public Category find(int categoryCode) {
+        return entityManager.find(Category.class, categoryCode);
+    }
+
+    /**
+     * 카테고리와 메뉴를 함께 저장한다.
+     * <p>
+     * - persist()는 영속성 컨텍스트에 등록만 하고, INSERT는 flush 시점에 모아서 실행된다.
+     * - 저장한 엔티티 수가 flushSize에 이를 때마다 flush()로 INSERT를 배치 전송하고,
+     *   clear()로 영속성 컨텍스트를 비워 엔티티가 계속 쌓이지 않게 한다. (dirty checking 대상도 줄어든다)
+     *
+     * @param categories 저장할 카테고리 목록 (메뉴 포함)
+     */
+    public void registAll(List<Category> categories) {
+        int pending = 0;
+        for (Category category : categories) {
+            entityManager.persist(category);   // CascadeType.PERSIST로 메뉴도 함께 저장된다.
+            pending += 1 + category.getMenuList().size();
+            persistenceContextGuard.check(entityManager);
+            if (pending >= flushSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
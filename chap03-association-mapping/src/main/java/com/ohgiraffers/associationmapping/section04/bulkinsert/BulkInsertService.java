@@ -0,0 +1,44 @@
+package com.ohgiraffers.associationmapping.section04.bulkinsert;
+
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class BulkInsertService {
+
+    private BulkInsertRepository bulkInsertRepository;
+
+    public BulkInsertService(BulkInsertRepository bulkInsertRepository) {
+        this.bulkInsertRepository = bulkInsertRepository;
+    }
+
+    /**
+     * 여러 카테고리와 각 카테고리의 메뉴 목록을 한 트랜잭션으로 등록한다.
+     * - 메뉴의 외래키는 INSERT 문에 포함되므로 메뉴마다 추가 UPDATE가 발생하지 않는다.
+     *
+     * @param categoryInfos 등록할 카테고리 목록 (메뉴 목록 포함)
+     */
+    @Transactional
+    public void registCategories(List<CategoryDTO> categoryInfos) {
+        List<Category> categories = categoryInfos.stream()
+            .map(categoryInfo -> {
+                Category category = new Category(
+                    categoryInfo.getCategoryCode(),
+                    categoryInfo.getCategoryName(),
+                    categoryInfo.getRefCategoryCode()
+                );
+                if (categoryInfo.getMenuList() != null) {
+                    categoryInfo.getMenuList().forEach(menuInfo -> category.addMenu(new Menu(
+                        menuInfo.getMenuCode(),
+                        menuInfo.getMenuName(),
+                        menuInfo.getMenuPrice(),
+                        menuInfo.getOrderableStatus()
+                    )));
+                }
+                return category;
+            })
+            .toList();
+        bulkInsertRepository.registAll(categories);
+    }
+}
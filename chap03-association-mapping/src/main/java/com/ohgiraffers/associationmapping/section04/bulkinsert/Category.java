@@ -0,0 +1,68 @@
+package com.ohgiraffers.associationmapping.section04.bulkinsert;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity(name = "bulk_insert_category")
+@Table(name = "tbl_category")
+public class Category {
+
+    @Id
+    private int categoryCode;
+    private String categoryName;
+    private Integer refCategoryCode;
+
+    /* section02(단방향 @OneToMany + @JoinColumn)와의 차이
+     * - section02는 외래키를 Category의 컬렉션이 관리하므로, 메뉴를 INSERT한 뒤
+     *   "UPDATE tbl_menu SET category_code = ? WHERE menu_code = ?"를 메뉴마다 한 번씩 더 실행한다.
+     * - 여기서는 mappedBy로 외래키 관리를 Menu.category(연관관계의 주인)에 맡긴다.
+     *   → 메뉴 INSERT 문에 category_code가 함께 들어가므로 추가 UPDATE가 없다.
+     *   → INSERT만 남으므로 JDBC 배치(hibernate.jdbc.batch_size)로 묶어서 전송할 수 있다. */
+    @OneToMany(mappedBy = "category", cascade = CascadeType.PERSIST)
+    private List<Menu> menuList = new ArrayList<>();
+
+    protected Category() {
+    }
+
+    public Category(int categoryCode, String categoryName, Integer refCategoryCode) {
+        this.categoryCode = categoryCode;
+        this.categoryName = categoryName;
+        this.refCategoryCode = refCategoryCode;
+    }
+
+    /* 연관관계 편의 메서드 : 주인(Menu.category)과 컬렉션 양쪽을 함께 설정한다. */
+    public void addMenu(Menu menu) {
+        menuList.add(menu);
+        menu.setCategory(this);
+    }
+
+    public int getCategoryCode() {
+        return categoryCode;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public Integer getRefCategoryCode() {
+        return refCategoryCode;
+    }
+
+    public List<Menu> getMenuList() {
+        return menuList;
+    }
+
+    @Override
+    public String toString() {
+        return "Category{" +
+            "categoryCode=" + categoryCode +
+            ", categoryName='" + categoryName + '\'' +
+            ", refCategoryCode=" + refCategoryCode +
+            '}';
+    }
+}
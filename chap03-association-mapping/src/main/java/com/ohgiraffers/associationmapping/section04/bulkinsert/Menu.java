@@ -0,0 +1,73 @@
+package com.ohgiraffers.associationmapping.section04.bulkinsert;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+@Entity(name = "bulk_insert_menu")
+@Table(name = "tbl_menu")
+public class Menu {
+
+    /* 식별자를 직접 할당한다.
+     * - @GeneratedValue(strategy = GenerationType.IDENTITY)는 INSERT를 실행해야 식별자를 알 수 있으므로
+     *   Hibernate가 INSERT를 즉시 실행하며, JDBC 배치로 묶을 수 없다. */
+    @Id
+    private int menuCode;
+    private String menuName;
+    private int menuPrice;
+
+    /* 연관관계의 주인 : 외래키(category_code)는 이 필드의 값으로 INSERT 시점에 저장된다.
+     * - updatable = false : 등록 후 카테고리를 바꾸지 않는 메뉴이므로 UPDATE 문에서 외래키 컬럼을 제외한다. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "categoryCode", updatable = false)
+    private Category category;
+
+    private String orderableStatus;
+
+    protected Menu() {
+    }
+
+    public Menu(int menuCode, String menuName, int menuPrice, String orderableStatus) {
+        this.menuCode = menuCode;
+        this.menuName = menuName;
+        this.menuPrice = menuPrice;
+        this.orderableStatus = orderableStatus;
+    }
+
+    void setCategory(Category category) {
+        this.category = category;
+    }
+
+    public int getMenuCode() {
+        return menuCode;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public int getMenuPrice() {
+        return menuPrice;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public String getOrderableStatus() {
+        return orderableStatus;
+    }
+
+    @Override
+    public String toString() {
+        return "Menu{" +
+            "menuCode=" + menuCode +
+            ", menuName='" + menuName + '\'' +
+            ", menuPrice=" + menuPrice +
+            ", orderableStatus='" + orderableStatus + '\'' +
+            '}';
+    }
+}
@@ -0,0 +1,35 @@
+package com.ohgiraffers.associationmapping.common;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ohgiraffers.associationmapping.common.EagerFetchAuditor.EagerAssociation;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "association.fetch-audit.enabled=true")
+public class EagerFetchAuditorTests {
+
+    @Autowired
+    private EagerFetchAuditor eagerFetchAuditor;
+
+    @DisplayName("EAGER 연관관계 검사 테스트")
+    @Test
+    void testAudit() {
+        // given
+        // when
+        List<EagerAssociation> associations = eagerFetchAuditor.audit();
+
+        // then
+        associations.forEach(System.out::println);
+        // fetch를 생략한 @ManyToOne은 EAGER로 보고된다.
+        assertTrue(associations.stream().anyMatch(association ->
+            association.entity().equals("menu_and_category") && association.attribute().equals("category")));
+        // LAZY로 변경한 1:N 컬렉션은 보고되지 않는다.
+        assertFalse(associations.stream().anyMatch(association ->
+            association.entity().equals("category_and_menu")));
+    }
+}
@@ -0,0 +1,57 @@
+package com.ohgiraffers.associationmapping.section01.manytoone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 존재하는 카테고리에 메뉴를 등록할 때 카테고리 조회 없이 INSERT 한 번만 실행되는지 확인하는 테스트.
+ * - 테스트가 끝나면 롤백되므로 등록한 데이터는 남지 않는다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class ManyToOneReferenceTests {
+
+    @Autowired
+    private ManyToOneService manyToOneService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @DisplayName("존재하는 카테고리는 getReference로 연결하여 메뉴 INSERT 한 번으로 등록하는지 확인")
+    @Test
+    void testRegistMenuWithCategoryReference() {
+        // given
+        int categoryCode = 4;
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 첫 등록에서 카테고리 존재 여부가 확인되어 캐시에 저장된다.
+        manyToOneService.registMenu(new MenuDTO(99001, "참조 등록 메뉴1", 10000,
+            new CategoryDTO(categoryCode, null, null), "Y"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        statistics.clear();
+        manyToOneService.registMenu(new MenuDTO(99002, "참조 등록 메뉴2", 10000,
+            new CategoryDTO(categoryCode, null, null), "Y"));
+        entityManager.flush();
+
+        // then
+        assertEquals(1, statistics.getPrepareStatementCount());   // INSERT INTO tbl_menu ...
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());         // 카테고리를 조회하지 않음
+    }
+}
@@ -1,8 +1,12 @@
 package com.ohgiraffers.associationmapping.section02.onetomany;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceUtil;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
@@ -39,6 +43,24 @@ public class OneToManyTests {
         // 추가 검증: category.getMenuList()도 확인 가능
     }
 
+    // menuList는 LAZY이므로 카테고리만 조회하면 메뉴 목록은 로딩되지 않고, 엔티티 그래프로 조회하면 함께 로딩되는지 확인
+    @DisplayName("1:N 연관 관계 지연 로딩과 엔티티 그래프 조회 테스트")
+    @Test
+    void oneToManyFetchPlanTest() {
+        // given
+        int categoryCode = 4;
+        PersistenceUtil persistenceUtil = Persistence.getPersistenceUtil();
+
+        // when
+        Category category = oneToManyService.findCategory(categoryCode);
+        Category categoryWithMenuList = oneToManyService.findCategoryWithMenuList(categoryCode);
+
+        // then
+        assertFalse(persistenceUtil.isLoaded(category, "menuList"));
+        assertTrue(persistenceUtil.isLoaded(categoryWithMenuList, "menuList"));
+        assertFalse(categoryWithMenuList.getMenuList().isEmpty());
+    }
+
     private static Stream<Arguments> getMenuInfo() {
         return Stream.of(
             // Arguments: menuCode, menuName, menuPrice, categoryCode, categoryName, orderableStatus
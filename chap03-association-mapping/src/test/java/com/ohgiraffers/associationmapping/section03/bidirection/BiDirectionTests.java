@@ -1,11 +1,18 @@
 package com.ohgiraffers.associationmapping.section03.bidirection;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceContext;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
 public class BiDirectionTests {
@@ -13,6 +20,9 @@ public class BiDirectionTests {
     @Autowired
     private BiDirectionService biDirectionService;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
 
     @DisplayName("양방향 연관 관계 매핑 조회(연관관계의 주인)")
     @Test
@@ -44,4 +54,54 @@ public class BiDirectionTests {
 
     }
 
+    @DisplayName("메뉴 추가 시 카테고리의 메뉴 목록을 로딩하지 않고 양쪽 연관관계를 설정하는지 확인")
+    @Test
+    @Transactional
+    void addMenuTest() {
+
+        // given
+        int categoryCode = 4;
+        int menuCode = 99101;
+        long menuCount = biDirectionService.countMenus(categoryCode);
+
+        // when
+        biDirectionService.addMenu(categoryCode, menuCode, "양방향 추가 메뉴", 12000, "Y");
+
+        // then
+        assertEquals(menuCount + 1, biDirectionService.countMenus(categoryCode));
+        assertTrue(biDirectionService.containsMenu(categoryCode, menuCode));
+        Category category = entityManager.find(Category.class, categoryCode);
+        assertFalse(Persistence.getPersistenceUtil().isLoaded(category, "menuList"));
+        assertEquals(category, entityManager.find(Menu.class, menuCode).getCategory());
+    }
+
+    @DisplayName("메뉴의 카테고리 변경과 삭제가 양쪽 연관관계에 반영되는지 확인")
+    @Test
+    @Transactional
+    void moveAndRemoveMenuTest() {
+
+        // given
+        int menuCode = 99102;
+        biDirectionService.addMenu(4, menuCode, "양방향 이동 메뉴", 12000, "Y");
+        Category target = entityManager.find(Category.class, 5);
+        target.getMenuList().size();   // 이동 대상 카테고리의 목록을 미리 로딩해 둔다.
+
+        // when
+        biDirectionService.moveMenu(menuCode, 5);
+
+        // then : flush 전(JPQL 조회 전)에 이전 카테고리의 목록을 읽어도 옮겨 간 메뉴가 없어야 한다.
+        Category source = entityManager.find(Category.class, 4);
+        assertFalse(source.getMenuList().stream().anyMatch(menu -> menu.getMenuCode() == menuCode));
+        assertFalse(biDirectionService.containsMenu(4, menuCode));
+        assertTrue(biDirectionService.containsMenu(5, menuCode));
+        assertTrue(target.getMenuList().contains(entityManager.find(Menu.class, menuCode)));
+
+        // when
+        biDirectionService.removeMenu(menuCode);
+
+        // then
+        assertFalse(biDirectionService.containsMenu(5, menuCode));
+        assertFalse(target.getMenuList().stream().anyMatch(menu -> menu.getMenuCode() == menuCode));
+    }
+
 }
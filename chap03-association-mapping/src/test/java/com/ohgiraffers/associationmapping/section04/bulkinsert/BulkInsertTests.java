@@ -0,0 +1,132 @@
+package com.ohgiraffers.associationmapping.section04.bulkinsert;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ohgiraffers.associationmapping.section02.onetomany.OneToManyRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 단방향 @OneToMany(section02)와 mappedBy 매핑(section04)의 등록 시 실행되는 SQL 문 수를 비교하는 테스트.
+ * - JDBC 배치 설정(batch_size, order_inserts, rewriteBatchedStatements)은 perf 프로필로 켠다.
+ * - 테스트가 끝나면 롤백되므로 등록한 데이터는 남지 않는다.
+ */
+@ActiveProfiles("perf")
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.ohgiraffers.associationmapping.section04.bulkinsert.SqlStatementCounter"
+})
+@Transactional
+public class BulkInsertTests {
+
+    private static final int MENU_COUNT = 20;
+
+    @Autowired
+    private BulkInsertService bulkInsertService;
+
+    @Autowired
+    private BulkInsertRepository bulkInsertRepository;
+
+    @Autowired
+    private OneToManyRepository oneToManyRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void initStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void resetCounters() {
+        statistics.clear();
+        SqlStatementCounter.reset();
+    }
+
+    @DisplayName("mappedBy 매핑은 메뉴 외래키를 INSERT에 포함하여 추가 UPDATE 없이 등록하는지 확인")
+    @Test
+    void testStatementCountComparedToUnidirectional() {
+        // given
+        // 1. section02 : 단방향 @OneToMany + @JoinColumn
+        List<com.ohgiraffers.associationmapping.section02.onetomany.Menu> legacyMenuList = new ArrayList<>();
+        for (int i = 1; i <= MENU_COUNT; i++) {
+            legacyMenuList.add(new com.ohgiraffers.associationmapping.section02.onetomany.Menu(
+                90000 + i, "단방향 메뉴" + i, 1000 * i, 9001, "Y"));
+        }
+        com.ohgiraffers.associationmapping.section02.onetomany.Category legacyCategory =
+            new com.ohgiraffers.associationmapping.section02.onetomany.Category(9001, "단방향 카테고리", null,
+                legacyMenuList);
+
+        // 2. section04 : mappedBy (외래키는 Menu.category가 관리)
+        CategoryDTO categoryInfo = new CategoryDTO(9002, "양방향 카테고리", null, new ArrayList<>());
+        for (int i = 1; i <= MENU_COUNT; i++) {
+            categoryInfo.getMenuList().add(new MenuDTO(91000 + i, "양방향 메뉴" + i, 1000 * i, 9002, "Y"));
+        }
+
+        // when
+        resetCounters();
+        oneToManyRepository.regist(legacyCategory);
+        entityManager.flush();
+        entityManager.clear();
+        int legacyUpdates = SqlStatementCounter.getUpdateCount();
+        long legacyStatements = statistics.getPrepareStatementCount();
+
+        resetCounters();
+        bulkInsertService.registCategories(List.of(categoryInfo));
+        int updates = SqlStatementCounter.getUpdateCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        // then
+        System.out.println("단방향 : UPDATE " + legacyUpdates + "회, 준비된 SQL 문 " + legacyStatements + "개");
+        System.out.println("mappedBy : UPDATE " + updates + "회, 준비된 SQL 문 " + statements + "개");
+        assertTrue(legacyUpdates > 0);
+        assertEquals(0, updates);
+        assertTrue(statements < legacyStatements);
+        assertEquals(MENU_COUNT, bulkInsertRepository.find(9002).getMenuList().size());
+    }
+
+    @DisplayName("여러 카테고리와 메뉴를 일괄 등록하는 테스트")
+    @Test
+    void testRegistCategories() {
+        // given
+        List<CategoryDTO> categoryInfos = new ArrayList<>();
+        for (int c = 0; c < 3; c++) {
+            CategoryDTO categoryInfo = new CategoryDTO(9100 + c, "일괄 등록 카테고리" + c, null, new ArrayList<>());
+            for (int i = 1; i <= MENU_COUNT; i++) {
+                int menuCode = 92000 + c * 100 + i;
+                categoryInfo.getMenuList().add(new MenuDTO(menuCode, "일괄 등록 메뉴" + menuCode, 5000, 9100 + c, "Y"));
+            }
+            categoryInfos.add(categoryInfo);
+        }
+
+        // when
+        resetCounters();
+        bulkInsertService.registCategories(categoryInfos);
+
+        // then
+        assertEquals(0, SqlStatementCounter.getUpdateCount());
+        assertEquals(3 + 3 * MENU_COUNT, statistics.getEntityInsertCount());
+        for (int c = 0; c < 3; c++) {
+            assertEquals(MENU_COUNT, bulkInsertRepository.find(9100 + c).getMenuList().size());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ohgiraffers.associationmapping.section04.bulkinsert;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비(prepare)하는 SQL 문을 종류별로 세는 StatementInspector. (테스트 전용)
+ * - hibernate.session_factory.statement_inspector 속성으로 등록한다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final AtomicInteger INSERT = new AtomicInteger();
+    private static final AtomicInteger UPDATE = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        String statement = sql.stripLeading().toLowerCase();
+        if (statement.startsWith("insert")) {
+            INSERT.incrementAndGet();
+        } else if (statement.startsWith("update")) {
+            UPDATE.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public static void reset() {
+        INSERT.set(0);
+        UPDATE.set(0);
+    }
+
+    public static int getInsertCount() {
+        return INSERT.get();
+    }
+
+    public static int getUpdateCount() {
+        return UPDATE.get();
+    }
+}
@@ -2,8 +2,10 @@ package com.ohgiraffers.jpql;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // MenuColumnarSnapshot 주기적 갱신
 public class Chap04JpqlApplication {
 
     public static void main(String[] args) {
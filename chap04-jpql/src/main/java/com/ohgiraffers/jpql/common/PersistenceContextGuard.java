@@ -0,0 +1,120 @@
+package com.ohgiraffers.jpql.common;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 영속성 컨텍스트(EntityManager 하나)가 관리하는 엔티티 수를 감시한다.
+ * <p>
+ * 영속성 컨텍스트는 조회한 엔티티와 그 스냅샷을 트랜잭션이 끝날 때까지 보관하고,
+ * flush 때마다 모든 엔티티를 스냅샷과 비교(dirty checking)한다.
+ * → 한 트랜잭션에서 테이블 전체를 읽으면 메모리와 flush 시간이 엔티티 수에 비례해 늘어난다.
+ * <p>
+ * - 엔티티가 로딩될 때마다(PostLoad) 관리 중인 엔티티 수를 확인하여
+ *   jpa.persistence-context.warn-threshold 이상이면 영속성 컨텍스트(세션)마다 한 번 경고 로그를 남긴다.
+ * - jpa.persistence-context.max-entities를 지정하면 그 수를 넘을 때 PersistenceContextOverflowException을 던진다.
+ *   모든 요청에 적용되므로 기본값은 0(경고만)이며, 한도를 강제하려는 환경(테스트, diagnostic 프로필 등)에서만 켠다.
+ * - 많은 데이터를 읽어 처리해야 하는 작업은 forEachPage()로 페이지마다 flush()/clear()하며 처리한다.
+ */
+@Component
+public class PersistenceContextGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistenceContextGuard.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final int warnThreshold;
+    private final int maxEntities;
+
+    // 이미 경고한 세션 (세션이 닫혀 참조가 사라지면 함께 제거된다)
+    private final Set<Object> warnedSessions = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    public PersistenceContextGuard(EntityManagerFactory entityManagerFactory,
+        @Value("${jpa.persistence-context.warn-threshold:1000}") int warnThreshold,
+        @Value("${jpa.persistence-context.max-entities:0}") int maxEntities) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.warnThreshold = warnThreshold;
+        this.maxEntities = maxEntities;
+    }
+
+    /* 엔티티 로딩 이벤트에 감시 리스너를 등록한다. */
+    @PostConstruct
+    void registerListener() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class)
+            .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) this::onPostLoad);
+    }
+
+    private void onPostLoad(PostLoadEvent event) {
+        check(event.getSession(), event.getSession().getPersistenceContextInternal().getNumberOfManagedEntities());
+    }
+
+    private void check(Object session, int managedEntities) {
+        if (maxEntities > 0 && managedEntities > maxEntities) {
+            throw new PersistenceContextOverflowException(managedEntities, maxEntities);
+        }
+        // 도달 여부(>=)로 확인하고, 같은 세션에는 한 번만 경고한다.
+        if (warnThreshold > 0 && managedEntities >= warnThreshold && warnedSessions.add(session)) {
+            log.warn("영속성 컨텍스트의 엔티티 수가 {}개에 도달했습니다. 나누어 처리하는 것을 검토하세요.", managedEntities);
+        }
+    }
+
+    /**
+     * @return 영속성 컨텍스트가 관리 중인 엔티티 수
+     */
+    public int managedEntityCount(EntityManager entityManager) {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+    }
+
+    /**
+     * 조회 쿼리 결과를 키 순서대로 pageSize개씩 나누어 읽고(키셋 페이징), 페이지마다 action을 실행한 뒤 flush()/clear()한다.
+     * - 쿼리는 "WHERE 키 > :lastKey ORDER BY 키" 형태여야 한다. (예: WHERE m.menuCode > :lastKey ORDER BY m.menuCode)
+     *   다음 페이지는 이전 페이지의 마지막 키 이후부터 인덱스로 바로 읽으므로, OFFSET처럼 앞의 행을 다시 읽고 버리지 않는다.
+     * - action에서 변경한 엔티티는 해당 페이지의 flush() 때 반영된다.
+     *   처리 중 조회 조건 컬럼을 바꾸더라도 키 이후부터 읽으므로 행을 건너뛰거나 두 번 처리하지 않는다.
+     *
+     * @param query    :lastKey 파라미터를 가진 조회 쿼리
+     * @param keyOf    엔티티의 정렬 키 (쿼리의 ORDER BY와 같은 값, 중복 없어야 함)
+     * @param firstKey 첫 페이지의 시작 키 (이 값보다 큰 키부터 조회)
+     * @return 처리한 엔티티 수
+     * @throws IllegalArgumentException pageSize가 0 이하인 경우
+     */
+    public <T, K> int forEachPage(EntityManager entityManager, TypedQuery<T> query, Function<T, K> keyOf, K firstKey,
+        int pageSize, Consumer<List<T>> action) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize는 0보다 커야 합니다 : " + pageSize);
+        }
+        int processed = 0;
+        K lastKey = firstKey;
+        List<T> page;
+        do {
+            page = query.setParameter("lastKey", lastKey).setMaxResults(pageSize).getResultList();
+            if (!page.isEmpty()) {
+                lastKey = keyOf.apply(page.get(page.size() - 1));
+                action.accept(page);
+                processed += page.size();
+            }
+            entityManager.flush();
+            entityManager.clear();
+        } while (page.size() == pageSize);
+        return processed;
+    }
+}
@@ -1,8 +1,10 @@
 package com.ohgiraffers.jpql.section03.projection;
 
+import com.ohgiraffers.jpql.common.PersistenceContextGuard;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -11,11 +13,29 @@ public class ProjectionRepository {
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final PersistenceContextGuard persistenceContextGuard;
+
+    public ProjectionRepository(PersistenceContextGuard persistenceContextGuard) {
+        this.persistenceContextGuard = persistenceContextGuard;
+    }
+
     public List<Menu> singleEntityProjection() {
         String jpql = "SELECT m FROM Section03Menu m";
         return entityManager.createQuery(jpql, Menu.class).getResultList();
     }
 
+    /**
+     * 전체 메뉴를 menuCode 순으로 pageSize개씩 나누어 처리한다. (키셋 페이징)
+     * - 페이지마다 영속성 컨텍스트를 비우므로, 메뉴 수가 많아도 관리 중인 엔티티는 pageSize개를 넘지 않는다.
+     *
+     * @return 처리한 메뉴 수
+     */
+    public int forEachMenuPage(int pageSize, Consumer<List<Menu>> action) {
+        String jpql = "SELECT m FROM Section03Menu m WHERE m.menuCode > :lastKey ORDER BY m.menuCode";
+        return persistenceContextGuard.forEachPage(
+            entityManager, entityManager.createQuery(jpql, Menu.class), Menu::getMenuCode, 0, pageSize, action);
+    }
+
     public List<Object[]> scalarTypeProjection() {
         String jpql = "SELECT c.categoryCode, c.categoryName FROM Section03Category c";
         return entityManager.createQuery(jpql).getResultList();
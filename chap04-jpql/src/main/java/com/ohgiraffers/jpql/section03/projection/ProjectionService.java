@@ -1,6 +1,7 @@
 package com.ohgiraffers.jpql.section03.projection;
 
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,4 +20,15 @@ public class ProjectionService {
         menuList.get(0).setMenuName("맛있는 삼겹살");
         return menuList;
     }
+
+    /**
+     * 전체 메뉴를 페이지 단위로 나누어 처리한다. (singleEntityProjection()처럼 테이블 전체를 한 번에 영속성 컨텍스트에 올리지 않는다)
+     * - action에서 변경한 메뉴는 페이지마다 flush되어 반영된다.
+     *
+     * @return 처리한 메뉴 수
+     */
+    @Transactional
+    public int processAllMenus(int pageSize, Consumer<List<Menu>> action) {
+        return projectionRepository.forEachMenuPage(pageSize, action);
+    }
 }
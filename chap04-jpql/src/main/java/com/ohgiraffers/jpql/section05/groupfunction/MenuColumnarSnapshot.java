@@ -0,0 +1,338 @@
+package com.ohgiraffers.jpql.section05.groupfunction;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * tbl_menu 테이블을 컬럼 단위(columnar)로 메모리에 적재한 읽기 전용 스냅샷.
+ * <p>
+ * GroupFunctionRepository의 집계 쿼리(COUNT, SUM, GROUP BY ~ HAVING)는 호출될 때마다 tbl_menu 전체를 스캔한다.
+ * 이 클래스는 같은 데이터를 주기적으로 적재해 두고, 원시 타입 배열만 순회하여 동일한 결과를 계산한다.
+ * <p>
+ * 저장 구조:
+ * - menuCode / menuPrice / categoryCode : int[] (행 순서 = menuCode 오름차순)
+ * - menuName : 사전 인코딩(dictionary encoding). 중복 없는 이름 사전(String[]) + 행별 사전 번호(int[])
+ * - orderableStatus : 사전 인코딩. 상태 사전(char[]) + 행별 사전 번호(byte[])
+ * <p>
+ * 갱신 방식:
+ * - refresh() : 테이블 전체를 다시 읽어 새 스냅샷으로 교체한다. (수정/삭제까지 반영)
+ * - refreshIncrementally() : 마지막으로 읽은 menuCode 이후의 행만 추가로 읽어 덧붙인다.
+ *   tbl_menu에는 변경 시각 컬럼이 없으므로, AUTO_INCREMENT로 증가하는 menuCode를 변경 기준(워터마크)으로 사용한다.
+ * <p>
+ * 스냅샷은 한 번 만들어지면 변경되지 않으며(불변), volatile 참조를 교체하는 방식으로 갱신하므로
+ * 조회 스레드는 별도의 락 없이 항상 일관된 스냅샷을 읽는다.
+ */
+@Component
+public class MenuColumnarSnapshot {
+
+    /* 카테고리 코드 범위가 이 값 이하이면 HashMap 대신 배열 버킷으로 그룹핑한다. */
+    private static final int MAX_DENSE_CATEGORY_RANGE = 1 << 16;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Columns columns = Columns.EMPTY;
+
+    /**
+     * 테이블 전체를 다시 읽어 스냅샷을 교체한다.
+     * 엔티티를 조회하지 않고 컬럼 값만 프로젝션하여 영속성 컨텍스트에 엔티티가 쌓이지 않도록 한다.
+     */
+    @Scheduled(
+        initialDelayString = "${menu.snapshot.full-refresh-interval:600000}",
+        fixedDelayString = "${menu.snapshot.full-refresh-interval:600000}")
+    public void refresh() {
+        List<Object[]> rows = selectRows(0);
+        columns = Columns.build(Columns.EMPTY, rows);
+    }
+
+    /**
+     * 마지막으로 적재한 menuCode보다 큰 행만 읽어 현재 스냅샷 뒤에 덧붙인다.
+     * 아직 한 번도 적재하지 않았다면 전체 적재와 동일하게 동작한다.
+     */
+    @Scheduled(
+        initialDelayString = "${menu.snapshot.incremental-refresh-interval:10000}",
+        fixedDelayString = "${menu.snapshot.incremental-refresh-interval:10000}")
+    public void refreshIncrementally() {
+        Columns current = columns;
+        List<Object[]> rows = selectRows(current.lastMenuCode());
+        if (!rows.isEmpty() || current == Columns.EMPTY) {
+            columns = Columns.build(current, rows);
+        }
+    }
+
+    private List<Object[]> selectRows(int lastMenuCode) {
+        String jpql = "SELECT m.menuCode, m.menuName, m.menuPrice, m.categoryCode, m.orderableStatus "
+            + "FROM Section05Menu m "
+            + "WHERE m.menuCode > :lastMenuCode "
+            + "ORDER BY m.menuCode";
+        return entityManager.createQuery(jpql, Object[].class)
+            .setParameter("lastMenuCode", lastMenuCode)
+            .getResultList();
+    }
+
+    private Columns loadedColumns() {
+        Columns current = columns;
+        if (current == Columns.EMPTY) {
+            refreshIncrementally();
+            current = columns;
+        }
+        return current;
+    }
+
+    /**
+     * GroupFunctionRepository.countMenuOfCategory()와 같은 결과를 스냅샷에서 계산한다.
+     *
+     * @param categoryCode 카테고리 코드
+     * @return 해당 카테고리에 속한 메뉴 개수
+     */
+    public long countMenuOfCategory(int categoryCode) {
+        int[] categoryCodes = loadedColumns().categoryCode;
+        long count = 0;
+        for (int code : categoryCodes) {
+            if (code == categoryCode) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * GroupFunctionRepository.otherWithNoResult()와 같은 결과를 스냅샷에서 계산한다.
+     * SUM과 마찬가지로 조건에 맞는 행이 없으면 null을 반환한다.
+     *
+     * @param categoryCode 카테고리 코드
+     * @return 해당 카테고리의 총 가격 합 (없으면 null)
+     */
+    public Long sumPriceOfCategory(int categoryCode) {
+        Columns current = loadedColumns();
+        long sum = 0;
+        boolean found = false;
+        for (int i = 0; i < current.size; i++) {
+            if (current.categoryCode[i] == categoryCode) {
+                sum += current.menuPrice[i];
+                found = true;
+            }
+        }
+        return found ? sum : null;
+    }
+
+    /**
+     * GroupFunctionRepository.selectByGroupByHaving()과 같은 결과를 스냅샷에서 계산한다.
+     * 각 행은 [categoryCode(Integer), SUM(menuPrice)(Long)] 이며 categoryCode 오름차순으로 정렬된다.
+     *
+     * @param minPrice 그룹별 합계 최소 금액
+     * @return 조건을 만족하는 [카테고리 코드, 메뉴 가격 합계] 리스트
+     */
+    public List<Object[]> selectByGroupByHaving(long minPrice) {
+        Columns current = loadedColumns();
+        List<Object[]> result = new ArrayList<>();
+
+        if (current.size == 0) {
+            return result;
+        }
+
+        long range = (long) current.maxCategoryCode - current.minCategoryCode + 1;
+        if (range <= MAX_DENSE_CATEGORY_RANGE) {
+            /* 카테고리 코드 범위가 작으면 (code - min)을 인덱스로 하는 배열에 바로 누적한다. */
+            long[] sums = new long[(int) range];
+            boolean[] present = new boolean[(int) range];
+            for (int i = 0; i < current.size; i++) {
+                int bucket = current.categoryCode[i] - current.minCategoryCode;
+                sums[bucket] += current.menuPrice[i];
+                present[bucket] = true;
+            }
+            for (int bucket = 0; bucket < sums.length; bucket++) {
+                if (present[bucket] && sums[bucket] >= minPrice) {
+                    result.add(new Object[]{bucket + current.minCategoryCode, sums[bucket]});
+                }
+            }
+        } else {
+            Map<Integer, Long> sums = new TreeMap<>();
+            for (int i = 0; i < current.size; i++) {
+                sums.merge(current.categoryCode[i], (long) current.menuPrice[i], Long::sum);
+            }
+            sums.forEach((categoryCode, sum) -> {
+                if (sum >= minPrice) {
+                    result.add(new Object[]{categoryCode, sum});
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 스냅샷에 적재된 메뉴의 가격을 반환한다.
+     * 행은 menuCode 오름차순으로 적재되므로 이진 탐색으로 찾는다.
+     *
+     * @param menuCode 메뉴 코드
+     * @return 메뉴 가격 (스냅샷에 없으면 null)
+     */
+    public Integer priceOf(int menuCode) {
+        Columns current = columns;
+        int index = Arrays.binarySearch(current.menuCode, 0, current.size, menuCode);
+        return index < 0 ? null : current.menuPrice[index];
+    }
+
+    /**
+     * 현재 스냅샷에 적재된 행 수를 반환한다.
+     */
+    public int size() {
+        return columns.size;
+    }
+
+    /**
+     * 현재 스냅샷이 차지하는 힙 메모리를 추정한다. (64bit JVM, compressed oops 기준)
+     *
+     * @return 추정 바이트 수
+     */
+    public long estimatedBytes() {
+        return columns.estimatedBytes();
+    }
+
+    /**
+     * 컬럼별 메모리 사용량 리포트를 문자열로 반환한다.
+     */
+    public String memoryFootprintReport() {
+        return columns.footprintReport();
+    }
+
+    /**
+     * 불변 컬럼 묶음. 한 번 생성된 뒤에는 배열 내용을 변경하지 않는다.
+     */
+    private static final class Columns {
+
+        private static final int ARRAY_HEADER = 16;
+        private static final int STRING_HEADER = 24;
+        private static final int REFERENCE = 4;
+
+        static final Columns EMPTY = new Columns(0, new int[0], new int[0], new int[0],
+            new int[0], new String[0], new byte[0], new char[0], 0, 0);
+
+        final int size;
+        final int[] menuCode;
+        final int[] menuPrice;
+        final int[] categoryCode;
+        final int[] menuNameId;
+        final String[] menuNameDictionary;
+        final byte[] statusId;
+        final char[] statusDictionary;
+        final int minCategoryCode;
+        final int maxCategoryCode;
+
+        private Columns(int size, int[] menuCode, int[] menuPrice, int[] categoryCode,
+            int[] menuNameId, String[] menuNameDictionary, byte[] statusId,
+            char[] statusDictionary, int minCategoryCode, int maxCategoryCode) {
+            this.size = size;
+            this.menuCode = menuCode;
+            this.menuPrice = menuPrice;
+            this.categoryCode = categoryCode;
+            this.menuNameId = menuNameId;
+            this.menuNameDictionary = menuNameDictionary;
+            this.statusId = statusId;
+            this.statusDictionary = statusDictionary;
+            this.minCategoryCode = minCategoryCode;
+            this.maxCategoryCode = maxCategoryCode;
+        }
+
+        int lastMenuCode() {
+            return size == 0 ? 0 : menuCode[size - 1];
+        }
+
+        /**
+         * 기존 스냅샷(base) 뒤에 rows를 덧붙인 새 스냅샷을 만든다.
+         * base의 배열은 복사만 하고 변경하지 않으므로, 기존 스냅샷을 읽는 스레드에 영향을 주지 않는다.
+         */
+        static Columns build(Columns base, List<Object[]> rows) {
+            int size = base.size + rows.size();
+
+            int[] menuCode = Arrays.copyOf(base.menuCode, size);
+            int[] menuPrice = Arrays.copyOf(base.menuPrice, size);
+            int[] categoryCode = Arrays.copyOf(base.categoryCode, size);
+            int[] menuNameId = Arrays.copyOf(base.menuNameId, size);
+            byte[] statusId = Arrays.copyOf(base.statusId, size);
+
+            List<String> nameDictionary = new ArrayList<>(Arrays.asList(base.menuNameDictionary));
+            Map<String, Integer> nameIds = new HashMap<>();
+            for (int i = 0; i < nameDictionary.size(); i++) {
+                nameIds.put(nameDictionary.get(i), i);
+            }
+
+            StringBuilder statusDictionary = new StringBuilder(new String(base.statusDictionary));
+
+            int minCategoryCode = base.size == 0 ? Integer.MAX_VALUE : base.minCategoryCode;
+            int maxCategoryCode = base.size == 0 ? Integer.MIN_VALUE : base.maxCategoryCode;
+
+            int row = base.size;
+            for (Object[] columns : rows) {
+                menuCode[row] = (Integer) columns[0];
+                menuPrice[row] = (Integer) columns[2];
+                categoryCode[row] = (Integer) columns[3];
+
+                String menuName = (String) columns[1];
+                menuNameId[row] = nameIds.computeIfAbsent(menuName, name -> {
+                    nameDictionary.add(name);
+                    return nameDictionary.size() - 1;
+                });
+
+                char status = (Character) columns[4];
+                int statusIndex = statusDictionary.indexOf(String.valueOf(status));
+                if (statusIndex < 0) {
+                    statusDictionary.append(status);
+                    statusIndex = statusDictionary.length() - 1;
+                }
+                statusId[row] = (byte) statusIndex;
+
+                minCategoryCode = Math.min(minCategoryCode, categoryCode[row]);
+                maxCategoryCode = Math.max(maxCategoryCode, categoryCode[row]);
+                row++;
+            }
+
+            return new Columns(size, menuCode, menuPrice, categoryCode, menuNameId,
+                nameDictionary.toArray(new String[0]), statusId,
+                statusDictionary.toString().toCharArray(), minCategoryCode, maxCategoryCode);
+        }
+
+        private static long intArrayBytes(int[] array) {
+            return ARRAY_HEADER + 4L * array.length;
+        }
+
+        private long dictionaryBytes() {
+            long bytes = ARRAY_HEADER + (long) REFERENCE * menuNameDictionary.length;
+            for (String name : menuNameDictionary) {
+                /* 한글이 포함된 문자열은 compact string이 적용되지 않아 문자당 2바이트를 사용한다. */
+                bytes += STRING_HEADER + ARRAY_HEADER + 2L * name.length();
+            }
+            return bytes;
+        }
+
+        long estimatedBytes() {
+            return intArrayBytes(menuCode) + intArrayBytes(menuPrice) + intArrayBytes(categoryCode)
+                + intArrayBytes(menuNameId) + dictionaryBytes()
+                + ARRAY_HEADER + statusId.length
+                + ARRAY_HEADER + 2L * statusDictionary.length;
+        }
+
+        String footprintReport() {
+            return "MenuColumnarSnapshot{" +
+                "rows=" + size +
+                ", menuCode=" + intArrayBytes(menuCode) + "B" +
+                ", menuPrice=" + intArrayBytes(menuPrice) + "B" +
+                ", categoryCode=" + intArrayBytes(categoryCode) + "B" +
+                ", menuName=" + (intArrayBytes(menuNameId) + dictionaryBytes()) + "B"
+                + "(distinct=" + menuNameDictionary.length + ")" +
+                ", orderableStatus=" + (2L * ARRAY_HEADER + statusId.length
+                + 2L * statusDictionary.length) + "B"
+                + "(distinct=" + statusDictionary.length + ")" +
+                ", total=" + estimatedBytes() + "B" +
+                '}';
+        }
+    }
+}
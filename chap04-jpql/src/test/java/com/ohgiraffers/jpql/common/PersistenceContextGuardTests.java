@@ -0,0 +1,81 @@
+package com.ohgiraffers.jpql.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ohgiraffers.jpql.section03.projection.ProjectionService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 영속성 컨텍스트 엔티티 수 한도와 페이지 단위 처리를 확인하는 테스트. (한도를 5개로 낮춰서 실행)
+ */
+@SpringBootTest(properties = {
+    "jpa.persistence-context.warn-threshold=3",
+    "jpa.persistence-context.max-entities=5"
+})
+@Transactional
+public class PersistenceContextGuardTests {
+
+    @Autowired
+    private ProjectionService projectionService;
+
+    @Autowired
+    private PersistenceContextGuard persistenceContextGuard;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @DisplayName("한 영속성 컨텍스트에 한도보다 많은 엔티티를 로딩하면 예외가 발생하는지 확인")
+    @Test
+    void testOverflow() {
+        // given
+        // when
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> projectionService.singleEntityProjection());
+
+        // then
+        Throwable cause = exception;
+        while (cause != null && !(cause instanceof PersistenceContextOverflowException)) {
+            cause = cause.getCause();
+        }
+        assertTrue(cause instanceof PersistenceContextOverflowException);
+    }
+
+    @DisplayName("페이지 단위로 처리하면 엔티티 수가 한도를 넘지 않고 전체를 처리하는지 확인")
+    @Test
+    void testForEachPage() {
+        // given
+        long menuCount = entityManager.createQuery("SELECT COUNT(m) FROM Section03Menu m", Long.class)
+            .getSingleResult();
+        AtomicInteger maxManaged = new AtomicInteger();
+
+        // when
+        int processed = projectionService.processAllMenus(5, page ->
+            maxManaged.accumulateAndGet(persistenceContextGuard.managedEntityCount(entityManager), Math::max));
+
+        // then
+        assertEquals(menuCount, processed);
+        assertTrue(maxManaged.get() <= 5);
+    }
+
+    @DisplayName("페이지 크기가 0 이하이면 조회하지 않고 예외가 발생하는지 확인")
+    @Test
+    void testForEachPageRejectsNonPositivePageSize() {
+        // given
+        TypedQuery<Object> query = entityManager.createQuery(
+            "SELECT m FROM Section03Menu m WHERE m.menuCode > :lastKey ORDER BY m.menuCode", Object.class);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> persistenceContextGuard.forEachPage(
+            entityManager, query, menu -> 0, 0, 0, page -> { }));
+    }
+}
@@ -0,0 +1,125 @@
+package com.ohgiraffers.jpql.section05.groupfunction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+public class MenuColumnarSnapshotTests {
+
+    @Autowired
+    private MenuColumnarSnapshot menuColumnarSnapshot;
+
+    @Autowired
+    private GroupFunctionRepository groupFunctionRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void refreshSnapshot() {
+        menuColumnarSnapshot.refresh();
+    }
+
+    @DisplayName("스냅샷의 카테고리별 메뉴 수가 COUNT 쿼리 결과와 같은지 확인")
+    @Test
+    void testCountMenuOfCategory() {
+        // given
+        int categoryCode = 4;
+
+        // when
+        long countOfSnapshot = menuColumnarSnapshot.countMenuOfCategory(categoryCode);
+
+        // then
+        assertEquals(groupFunctionRepository.countMenuOfCategory(categoryCode), countOfSnapshot);
+    }
+
+    @DisplayName("조회 결과가 없는 경우 스냅샷의 SUM 결과도 null인지 확인")
+    @Test
+    void testSumPriceWithNoResult() {
+        // given
+        int categoryCode = 50;
+
+        // when
+        Long sumOfSnapshot = menuColumnarSnapshot.sumPriceOfCategory(categoryCode);
+
+        // then
+        assertEquals(groupFunctionRepository.otherWithNoResult(categoryCode), sumOfSnapshot);
+    }
+
+    @DisplayName("스냅샷의 GROUP BY ~ HAVING 결과가 JPQL 결과와 같은지 확인")
+    @Test
+    void testSelectByGroupByHaving() {
+        // given
+        long minPrice = 50000L;
+
+        // when
+        List<Object[]> snapshotList = menuColumnarSnapshot.selectByGroupByHaving(minPrice);
+        List<Object[]> jpqlList = groupFunctionRepository.selectByGroupByHaving(minPrice);
+        jpqlList.sort(Comparator.comparing(row -> (Integer) row[0]));
+
+        // then
+        assertEquals(jpqlList.size(), snapshotList.size());
+        for (int i = 0; i < jpqlList.size(); i++) {
+            assertArrayEquals(jpqlList.get(i), snapshotList.get(i));
+        }
+    }
+
+    @DisplayName("증분 갱신 시 새로 추가된 메뉴가 스냅샷에 덧붙는지 확인")
+    @Test
+    @Transactional
+    void testRefreshIncrementally() {
+        // given
+        int sizeBeforeRefresh = menuColumnarSnapshot.size();
+        int newMenuCode = entityManager
+            .createQuery("SELECT COALESCE(MAX(m.menuCode), 0) FROM Section05Menu m", Integer.class)
+            .getSingleResult() + 1;
+        entityManager.persist(new Menu(newMenuCode, "증분갱신메뉴", 12345, 4, 'Y'));
+        entityManager.flush();
+
+        // when
+        menuColumnarSnapshot.refreshIncrementally();
+
+        // then
+        assertEquals(sizeBeforeRefresh + 1, menuColumnarSnapshot.size());
+        assertEquals(12345, menuColumnarSnapshot.priceOf(newMenuCode));
+        assertTrue(menuColumnarSnapshot.estimatedBytes() > 0);
+        System.out.println(menuColumnarSnapshot.memoryFootprintReport());
+    }
+
+    @DisplayName("증분 갱신은 기존 행의 변경을 반영하지 않고, 전체 갱신은 반영하는지 확인")
+    @Test
+    @Transactional
+    void testRefreshReflectsUpdatedPrice() {
+        // given
+        Menu menu = entityManager
+            .createQuery("SELECT m FROM Section05Menu m ORDER BY m.menuCode", Menu.class)
+            .setMaxResults(1)
+            .getSingleResult();
+        int previousPrice = menu.getMenuPrice();
+        menu.setMenuPrice(previousPrice + 1000);
+        entityManager.flush();
+
+        // when
+        menuColumnarSnapshot.refreshIncrementally();
+        Integer priceAfterIncrementalRefresh = menuColumnarSnapshot.priceOf(menu.getMenuCode());
+        menuColumnarSnapshot.refresh();
+        Integer priceAfterFullRefresh = menuColumnarSnapshot.priceOf(menu.getMenuCode());
+
+        // then
+        assertEquals(previousPrice, priceAfterIncrementalRefresh);
+        assertEquals(previousPrice + 1000, priceAfterFullRefresh);
+    }
+
+}
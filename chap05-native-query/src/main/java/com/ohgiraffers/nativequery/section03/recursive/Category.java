@@ -0,0 +1,48 @@
+package com.ohgiraffers.nativequery.section03.recursive;
+
+import jakarta.persistence.ColumnResult;
+import jakarta.persistence.ConstructorResult;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.SqlResultSetMapping;
+import jakarta.persistence.Table;
+
+/*
+ * 생성자 결과 매핑 : 엔티티가 아닌 클래스(CategorySubtreeSummary)로 결과를 매핑할 때 사용
+ * - @ConstructorResult의 columns 순서대로 값을 꺼내 생성자에 전달한다.
+ * - type을 지정하면 DB가 돌려주는 타입(COUNT → BIGINT, SUM → DECIMAL 등)과 관계없이 해당 타입으로 변환된다.
+ */
+@SqlResultSetMapping(
+    name = "categorySubtreeSummaryMapping",
+    classes = {
+        @ConstructorResult(
+            targetClass = CategorySubtreeSummary.class,
+            columns = {
+                @ColumnResult(name = "category_code", type = Integer.class),
+                @ColumnResult(name = "category_name", type = String.class),
+                @ColumnResult(name = "ref_category_code", type = Integer.class),
+                @ColumnResult(name = "sub_category_count", type = Long.class),
+                @ColumnResult(name = "menu_count", type = Long.class),
+                @ColumnResult(name = "total_menu_price", type = Long.class)
+            }
+        )
+    }
+)
+@Entity(name = "Section03Category")
+@Table(name = "tbl_category")
+public class Category {
+
+    @Id
+    private int categoryCode;
+    private String categoryName;
+    private Integer refCategoryCode;
+
+    @Override
+    public String toString() {
+        return "Category{" +
+            "categoryCode=" + categoryCode +
+            ", categoryName='" + categoryName + '\'' +
+            ", refCategoryCode=" + refCategoryCode +
+            '}';
+    }
+}
@@ -0,0 +1,63 @@
+package com.ohgiraffers.nativequery.section03.recursive;
+
+/**
+ * 카테고리 하나와 그 하위 카테고리 전체(자신 포함)에 속한 메뉴의 집계 결과.
+ * <p>
+ * 엔티티가 아니므로 영속성 컨텍스트에 저장되지 않으며,
+ * @SqlResultSetMapping의 @ConstructorResult가 조회 결과의 각 행을 생성자로 넘겨 만든다.
+ */
+public class CategorySubtreeSummary {
+
+    private final int categoryCode;
+    private final String categoryName;
+    private final Integer refCategoryCode;
+    private final long subCategoryCount;    // 하위 카테고리 수 (자신 제외, 모든 깊이)
+    private final long menuCount;           // 하위 트리 전체의 메뉴 수
+    private final long totalMenuPrice;      // 하위 트리 전체의 메뉴 가격 합계
+
+    public CategorySubtreeSummary(Integer categoryCode, String categoryName, Integer refCategoryCode,
+        Long subCategoryCount, Long menuCount, Long totalMenuPrice) {
+        this.categoryCode = categoryCode;
+        this.categoryName = categoryName;
+        this.refCategoryCode = refCategoryCode;
+        this.subCategoryCount = subCategoryCount;
+        this.menuCount = menuCount;
+        this.totalMenuPrice = totalMenuPrice;
+    }
+
+    public int getCategoryCode() {
+        return categoryCode;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public Integer getRefCategoryCode() {
+        return refCategoryCode;
+    }
+
+    public long getSubCategoryCount() {
+        return subCategoryCount;
+    }
+
+    public long getMenuCount() {
+        return menuCount;
+    }
+
+    public long getTotalMenuPrice() {
+        return totalMenuPrice;
+    }
+
+    @Override
+    public String toString() {
+        return "CategorySubtreeSummary{" +
+            "categoryCode=" + categoryCode +
+            ", categoryName='" + categoryName + '\'' +
+            ", refCategoryCode=" + refCategoryCode +
+            ", subCategoryCount=" + subCategoryCount +
+            ", menuCount=" + menuCount +
+            ", totalMenuPrice=" + totalMenuPrice +
+            '}';
+    }
+}
@@ -0,0 +1,73 @@
+package com.ohgiraffers.nativequery.section03.recursive;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RecursiveQueryRepository {
+
+    /*
+     * 재귀 CTE(WITH RECURSIVE, MySQL 8.0 이상)로 (상위 카테고리, 하위 카테고리) 쌍을 모두 구한다.
+     *
+     * - 기준(anchor) 부분 : 모든 카테고리를 자기 자신의 하위로 포함한다. (root_code = category_code, path = ',코드,')
+     * - 재귀 부분 : 이미 구한 하위 카테고리를 ref_category_code로 가리키는 카테고리를 한 단계씩 더한다.
+     * - path에는 root부터 지나온 카테고리 코드를 이어 붙이고, 이미 path에 있는 카테고리로는 내려가지 않는다.
+     *   잘못된 데이터로 순환(A → B → A)이 있어도 같은 (root_code, category_code) 쌍이 한 번만 만들어지므로,
+     *   재귀가 끝나고 아래의 메뉴 집계가 중복으로 부풀지 않는다.
+     *
+     * 이렇게 구한 쌍에 tbl_menu를 LEFT JOIN하고 root_code로 GROUP BY하면,
+     * 카테고리마다 "자신과 모든 하위 카테고리에 속한 메뉴"를 계층 단계 수와 관계없이 한 번의 쿼리로 집계할 수 있다.
+     * (단계마다 하위 카테고리를 다시 조회하는 N번의 쿼리가 필요 없다)
+     */
+    private static final String SUBTREE_SUMMARY_QUERY =
+        "WITH RECURSIVE category_tree (root_code, category_code, path) AS (" +
+            " SELECT c.category_code, c.category_code, CAST(CONCAT(',', c.category_code, ',') AS CHAR(2000))" +
+            " FROM tbl_category c %s" +
+            " UNION ALL" +
+            " SELECT t.root_code, c.category_code, CONCAT(t.path, c.category_code, ',')" +
+            " FROM category_tree t" +
+            " JOIN tbl_category c ON (c.ref_category_code = t.category_code)" +
+            " WHERE LOCATE(CONCAT(',', c.category_code, ','), t.path) = 0" +
+            ")" +
+            " SELECT r.category_code, r.category_name, r.ref_category_code," +
+            " COUNT(DISTINCT t.category_code) - 1 AS sub_category_count," +
+            " COUNT(m.menu_code) AS menu_count," +
+            " COALESCE(SUM(m.menu_price), 0) AS total_menu_price" +
+            " FROM category_tree t" +
+            " JOIN tbl_category r ON (r.category_code = t.root_code)" +
+            " LEFT JOIN tbl_menu m ON (m.category_code = t.category_code)" +
+            " GROUP BY r.category_code, r.category_name, r.ref_category_code" +
+            " ORDER BY 1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 모든 카테고리에 대해 하위 트리(자신 포함) 전체의 메뉴 수와 가격 합계를 조회한다.
+     *
+     * @return 카테고리별 집계 결과 (category_code 오름차순)
+     */
+    public List<CategorySubtreeSummary> findAllSubtreeSummaries() {
+        Query nativeQuery = entityManager.createNativeQuery(
+            SUBTREE_SUMMARY_QUERY.formatted(""), "categorySubtreeSummaryMapping");
+        return nativeQuery.getResultList();
+    }
+
+    /**
+     * 카테고리 하나의 하위 트리(자신 포함) 전체의 메뉴 수와 가격 합계를 조회한다.
+     * - 기준(anchor) 부분을 해당 카테고리로 한정하므로 다른 카테고리의 하위 트리는 탐색하지 않는다.
+     *
+     * @param categoryCode 기준 카테고리 코드
+     * @return 집계 결과 (카테고리가 없으면 null)
+     */
+    public CategorySubtreeSummary findSubtreeSummary(int categoryCode) {
+        Query nativeQuery = entityManager.createNativeQuery(
+                SUBTREE_SUMMARY_QUERY.formatted("WHERE c.category_code = ?"), "categorySubtreeSummaryMapping")
+            .setParameter(1, categoryCode);
+        List<CategorySubtreeSummary> result = nativeQuery.getResultList();
+        return result.isEmpty() ? null : result.get(0);
+    }
+}
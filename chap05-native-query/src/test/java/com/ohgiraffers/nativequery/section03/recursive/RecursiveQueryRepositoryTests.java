@@ -0,0 +1,88 @@
+package com.ohgiraffers.nativequery.section03.recursive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+public class RecursiveQueryRepositoryTests {
+
+    @Autowired
+    private RecursiveQueryRepository recursiveQueryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("재귀 CTE로 카테고리별 하위 트리 집계를 조회하는 테스트")
+    @Test
+    public void testFindAllSubtreeSummaries() {
+        // given
+        // when
+        List<CategorySubtreeSummary> summaries = recursiveQueryRepository.findAllSubtreeSummaries();
+        // then
+        assertNotNull(summaries);
+        summaries.forEach(System.out::println);
+
+        // 상위 카테고리의 집계에는 하위 카테고리의 메뉴가 모두 포함되어야 한다.
+        Map<Integer, CategorySubtreeSummary> byCode = summaries.stream()
+            .collect(Collectors.toMap(CategorySubtreeSummary::getCategoryCode, Function.identity()));
+        summaries.stream()
+            .filter(summary -> summary.getRefCategoryCode() != null)
+            .filter(summary -> byCode.containsKey(summary.getRefCategoryCode()))
+            .forEach(summary -> {
+                CategorySubtreeSummary parent = byCode.get(summary.getRefCategoryCode());
+                assertTrue(parent.getMenuCount() >= summary.getMenuCount());
+                assertTrue(parent.getTotalMenuPrice() >= summary.getTotalMenuPrice());
+                assertTrue(parent.getSubCategoryCount() > summary.getSubCategoryCount());
+            });
+    }
+
+    @DisplayName("카테고리 하나의 하위 트리 집계가 전체 조회 결과와 같은지 확인하는 테스트")
+    @Test
+    public void testFindSubtreeSummary() {
+        // given
+        List<CategorySubtreeSummary> summaries = recursiveQueryRepository.findAllSubtreeSummaries();
+        CategorySubtreeSummary expected = summaries.get(0);
+        // when
+        CategorySubtreeSummary summary = recursiveQueryRepository.findSubtreeSummary(expected.getCategoryCode());
+        // then
+        assertNotNull(summary);
+        assertEquals(expected.getMenuCount(), summary.getMenuCount());
+        assertEquals(expected.getTotalMenuPrice(), summary.getTotalMenuPrice());
+        assertEquals(expected.getSubCategoryCount(), summary.getSubCategoryCount());
+        assertNull(recursiveQueryRepository.findSubtreeSummary(-1));
+    }
+
+    @DisplayName("카테고리가 순환하더라도 재귀가 끝나고, 메뉴가 중복 집계되지 않는지 확인하는 테스트")
+    @Test
+    @Transactional      // 테스트가 끝나면 추가한 카테고리/메뉴를 롤백한다.
+    public void testSubtreeSummaryWithCycle() {
+        // given : A → B → A 순환을 만들고, B에 메뉴 하나를 등록한다.
+        jdbcTemplate.update("INSERT INTO tbl_category (category_name, ref_category_code) VALUES ('순환A', NULL)");
+        int a = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Integer.class);
+        jdbcTemplate.update("INSERT INTO tbl_category (category_name, ref_category_code) VALUES ('순환B', ?)", a);
+        int b = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Integer.class);
+        jdbcTemplate.update("UPDATE tbl_category SET ref_category_code = ? WHERE category_code = ?", b, a);
+        jdbcTemplate.update("INSERT INTO tbl_menu (menu_name, menu_price, category_code, orderable_status)"
+            + " VALUES ('순환메뉴', 1000, ?, 'Y')", b);
+        // when
+        CategorySubtreeSummary summary = recursiveQueryRepository.findSubtreeSummary(a);
+        // then
+        assertNotNull(summary);
+        assertEquals(1L, summary.getSubCategoryCount());
+        assertEquals(1L, summary.getMenuCount());
+        assertEquals(1000L, summary.getTotalMenuPrice());
+    }
+}
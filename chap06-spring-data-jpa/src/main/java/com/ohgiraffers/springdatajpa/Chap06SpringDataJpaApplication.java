@@ -2,8 +2,10 @@ package com.ohgiraffers.springdatajpa;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // 카탈로그 스냅샷 기록 등 주기 작업 실행
 public class Chap06SpringDataJpaApplication {
 
     public static void main(String[] args) {
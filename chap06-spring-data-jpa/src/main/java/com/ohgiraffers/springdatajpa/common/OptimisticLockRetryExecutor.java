@@ -0,0 +1,147 @@
+package com.ohgiraffers.springdatajpa.common;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 낙관적 락(@Version) 충돌 시 트랜잭션 전체를 다시 실행하는 실행기.
+ * <p>
+ * 낙관적 락 충돌(ObjectOptimisticLockingFailureException)은 커밋 시점에 발생하므로,
+ * 같은 트랜잭션 안에서 다시 시도할 수 없고 "조회 → 수정 → 커밋" 전체를 새 트랜잭션으로 반복해야 한다.
+ * 그래서 이 실행기는 전달받은 작업을 시도마다 새 트랜잭션(TransactionTemplate)으로 감싸 실행한다.
+ * <p>
+ * - 재시도 간격은 지수적으로 늘어나며(backoff), 동시에 충돌한 요청들이 다시 같은 순간에 부딪히지 않도록 무작위 지연(jitter)을 더한다.
+ * - 이미 바깥 트랜잭션이 진행 중이면 충돌이 바깥 트랜잭션 커밋 시점에 발생하므로 재시도하지 않고 한 번만 실행한다.
+ * - 시도/충돌/재시도 실패 횟수를 집계하여 경합 정도를 확인할 수 있다.
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final AtomicLong attempts = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    public OptimisticLockRetryExecutor(PlatformTransactionManager transactionManager,
+        @Value("${menu.optimistic-lock.max-attempts:5}") int maxAttempts,
+        @Value("${menu.optimistic-lock.initial-backoff-ms:10}") long initialBackoffMillis,
+        @Value("${menu.optimistic-lock.max-backoff-ms:200}") long maxBackoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * 작업을 트랜잭션 안에서 실행하고, 낙관적 락 충돌이 나면 최대 maxAttempts번까지 다시 실행한다.
+     *
+     * @param action 한 번의 트랜잭션에서 수행할 작업 (조회부터 다시 수행해야 한다)
+     * @return 작업 결과
+     * @throws OptimisticLockingFailureException 모든 시도가 충돌로 실패한 경우
+     */
+    public <T> T execute(Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            attempts.incrementAndGet();
+            return action.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            attempts.incrementAndGet();
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                conflicts.incrementAndGet();
+                if (attempt >= maxAttempts) {
+                    exhausted.incrementAndGet();
+                    log.warn("낙관적 락 충돌로 {}회 시도 후 실패 : {}", attempt, e.getMessage());
+                    throw e;
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    public void execute(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void backoff(int attempt) {
+        long delay = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        long jitter = delay == 0 ? 0 : ThreadLocalRandom.current().nextLong(delay + 1);
+        try {
+            Thread.sleep(delay / 2 + jitter / 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("낙관적 락 재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * @return 지금까지의 시도/충돌/실패 횟수
+     */
+    public Metrics getMetrics() {
+        return new Metrics(attempts.get(), conflicts.get(), exhausted.get());
+    }
+
+    /**
+     * 낙관적 락 경합 지표.
+     * - attempts : 트랜잭션 실행 횟수 (재시도 포함)
+     * - conflicts : 낙관적 락 충돌 횟수
+     * - exhausted : 재시도를 모두 소진하고 실패한 요청 수
+     */
+    public static class Metrics {
+
+        private final long attempts;
+        private final long conflicts;
+        private final long exhausted;
+
+        public Metrics(long attempts, long conflicts, long exhausted) {
+            this.attempts = attempts;
+            this.conflicts = conflicts;
+            this.exhausted = exhausted;
+        }
+
+        public long getAttempts() {
+            return attempts;
+        }
+
+        public long getConflicts() {
+            return conflicts;
+        }
+
+        public long getExhausted() {
+            return exhausted;
+        }
+
+        /* 전체 시도 중 충돌 비율 */
+        public double getConflictRate() {
+            return attempts == 0 ? 0 : (double) conflicts / attempts;
+        }
+
+        @Override
+        public String toString() {
+            return "Metrics{" +
+                "attempts=" + attempts +
+                ", conflicts=" + conflicts +
+                ", exhausted=" + exhausted +
+                ", conflictRate=" + getConflictRate() +
+                '}';
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.ohgiraffers.springdatajpa.common;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨트롤러 계층의 요청 로그를 표본 추출(sampling)하여 남기는 로거.
+ * <p>
+ * 요청마다 조회 결과 전체를 로그로 남기면, 로그 레벨과 상관없이 인자로 넘긴 객체의 toString()이 호출되어
+ * 요청 처리 경로에서 큰 문자열이 계속 만들어진다. 이 로거는 다음과 같이 비용을 줄인다.
+ * <p>
+ * - 요청 수는 항상 이벤트별 카운터(LongAdder)로만 집계한다. (문자열 생성 없음)
+ * - 로그 메시지는 Supplier로 받아, 표본으로 뽑힌 요청(menu.logging.sample-rate 비율)에서만 만든다.
+ * - 메시지에는 목록 내용 대신 건수/페이지 같은 요약 값만 key=value 형태로 남긴다.
+ * - 실제 출력은 logback-spring.xml의 AsyncAppender가 별도 스레드에서 처리한다.
+ */
+@Slf4j
+@Component
+public class SampledRequestLogger {
+
+    private final double sampleRate;
+
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> sampledCounts = new ConcurrentHashMap<>();
+
+    public SampledRequestLogger(@Value("${menu.logging.sample-rate:0.01}") double sampleRate) {
+        this.sampleRate = Math.max(0, Math.min(1, sampleRate));
+    }
+
+    /**
+     * 요청을 집계하고, 표본으로 뽑힌 경우에만 메시지를 만들어 INFO 로그로 남긴다.
+     *
+     * @param event   이벤트 이름 (예: "menu.list")
+     * @param message 로그 메시지를 만드는 함수 (표본으로 뽑혔을 때만 호출된다)
+     */
+    public void info(String event, Supplier<String> message) {
+        counter(requestCounts, event).increment();
+
+        if (!isSampled() || !log.isInfoEnabled()) {
+            return;
+        }
+        counter(sampledCounts, event).increment();
+        log.info("event={} {}", event, message.get());
+    }
+
+    /**
+     * 메시지 없이 요청 수만 집계한다.
+     */
+    public void count(String event) {
+        counter(requestCounts, event).increment();
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counters, String event) {
+        LongAdder counter = counters.get(event);
+        return counter != null ? counter : counters.computeIfAbsent(event, key -> new LongAdder());
+    }
+
+    /**
+     * @return 이벤트별 누적 요청 수 (이벤트 이름 순)
+     */
+    public Map<String, Long> getRequestCounts() {
+        return snapshot(requestCounts);
+    }
+
+    /**
+     * @return 이벤트별 실제로 로그를 남긴 요청 수 (이벤트 이름 순)
+     */
+    public Map<String, Long> getSampledCounts() {
+        return snapshot(sampledCounts);
+    }
+
+    private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((event, counter) -> snapshot.put(event, counter.sum()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,128 @@
+package com.ohgiraffers.springdatajpa.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 같은 키에 대한 동시 요청을 하나의 실행으로 합치는(single-flight) 유틸리티 클래스.
+ * <p>
+ * 인기 메뉴의 캐시가 비는 순간 수백 개의 요청이 동시에 같은 조회를 DB에 보내는 문제(cache stampede)를 막는다.
+ * - 키에 대해 진행 중인 실행이 없으면 현재 스레드가 직접 실행한다.
+ * - 이미 진행 중인 실행이 있으면 새로 실행하지 않고, 그 결과(또는 예외)를 기다렸다가 함께 받는다.
+ * - 실행이 끝나면 키를 바로 제거하므로, 결과를 보관하는 캐시가 아니다. (끝난 뒤의 요청은 다시 실행된다.)
+ * <p>
+ * 결과 객체를 공유하지 않도록, 생성 시 넘긴 copier로 요청마다 결과를 복사해서 돌려준다.
+ * (loader가 만든 원본은 어느 요청에도 그대로 반환되지 않으므로, 한 요청이 결과를 수정해도 다른 요청에 보이지 않는다)
+ * 불변 결과라면 기본 생성자를 사용해 복사를 생략할 수 있다.
+ *
+ * @param <K> 요청을 구분하는 키 타입 (equals/hashCode 구현 필요)
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final UnaryOperator<V> copier;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * 결과를 복사하지 않고 그대로 공유한다. (불변 결과 전용)
+     */
+    public SingleFlight() {
+        this(UnaryOperator.identity());
+    }
+
+    /**
+     * @param copier 요청마다 돌려줄 결과 사본을 만드는 함수 (null 결과에는 호출하지 않는다)
+     */
+    public SingleFlight(UnaryOperator<V> copier) {
+        this.copier = copier;
+    }
+
+    /**
+     * 키에 대해 진행 중인 실행이 있으면 그 결과를 함께 받고, 없으면 loader를 실행한다.
+     *
+     * @param key    요청 키
+     * @param loader 실제 조회 작업
+     * @return 조회 결과 (요청마다 별도의 사본)
+     */
+    public V execute(K key, Supplier<V> loader) {
+        calls.increment();
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return copy(await(existing));
+        }
+
+        executions.increment();
+        try {
+            V result = loader.get();
+            flight.complete(result);
+            return copy(result);
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V copy(V result) {
+        return result == null ? null : copier.apply(result);
+    }
+
+    /* 다른 스레드의 실행 결과를 기다린다. 실패했다면 원래 예외를 그대로 다시 던진다. */
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return 전체 요청 수
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * @return 실제로 loader를 실행한 횟수
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * @return 진행 중인 실행에 합쳐져 loader를 실행하지 않은 요청 수
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SingleFlight{" +
+            "calls=" + getCalls() +
+            ", executions=" + getExecutions() +
+            ", coalesced=" + getCoalesced() +
+            ", inFlight=" + inFlight.size() +
+            '}';
+    }
+}
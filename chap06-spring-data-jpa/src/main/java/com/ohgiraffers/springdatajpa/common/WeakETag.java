@@ -0,0 +1,53 @@
+package com.ohgiraffers.springdatajpa.common;
+
+/**
+ * 응답 본문을 이루는 값들로 약한(weak) ETag를 계산하는 유틸리티 클래스.
+ * <p>
+ * 직렬화된 JSON 바이트가 아니라 응답에 들어갈 필드 값 자체를 64비트 FNV-1a 방식으로 누적해 해시를 만든다.
+ * 따라서 같은 데이터라면 JSON 필드 순서나 공백이 달라도 같은 ETag가 되며, 이런 "의미상 동일" 비교이므로 약한 ETag(W/"...")로 표시한다.
+ * <p>
+ * 사용 예:
+ * <pre>
+ * String eTag = new WeakETag().add(menu.getMenuCode()).add(menu.getMenuName()).toString();   // W/"9f3c..."
+ * </pre>
+ */
+public class WeakETag {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long hash = FNV_OFFSET_BASIS;
+
+    public WeakETag add(long value) {
+        for (int shift = 0; shift < 64; shift += 8) {
+            hash ^= (value >>> shift) & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return this;
+    }
+
+    public WeakETag add(String value) {
+        if (value == null) {
+            return add(-1L);
+        }
+        // 길이를 먼저 넣어 ("ab","c")와 ("a","bc")처럼 경계만 다른 값이 같은 해시가 되지 않도록 한다.
+        add(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return this;
+    }
+
+    public long hash() {
+        return hash;
+    }
+
+    /**
+     * @return ETag 헤더 값 형식의 문자열 (예: W/"00af3c...")
+     */
+    @Override
+    public String toString() {
+        return "W/\"" + String.format("%016x", hash) + "\"";
+    }
+}
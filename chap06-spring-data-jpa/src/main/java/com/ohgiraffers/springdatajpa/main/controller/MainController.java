@@ -1,13 +1,19 @@
 package com.ohgiraffers.springdatajpa.main.controller;
 
+import com.ohgiraffers.springdatajpa.common.SampledRequestLogger;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 
 @Controller
+@RequiredArgsConstructor
 public class MainController {
 
+    private final SampledRequestLogger requestLogger;
+
     @GetMapping(value = {"/", "/main"})
     public String main() {
+        requestLogger.count("main");
         return "main/main";
     }
 
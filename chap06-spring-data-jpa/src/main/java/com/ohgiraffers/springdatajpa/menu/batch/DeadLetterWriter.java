@@ -0,0 +1,58 @@
+package com.ohgiraffers.springdatajpa.menu.batch;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 등록하지 못한 CSV 행을 "lineNo,reason,원본 행" 형식으로 기록한다.
+ * <p>
+ * 검증 스레드와 쓰기 스레드가 함께 사용하므로 기록은 synchronized로 한 줄씩 이루어진다.
+ * 파일은 처음 기록할 때 만들어지므로, 실패한 행이 없으면 파일도 생기지 않는다.
+ */
+class DeadLetterWriter implements Closeable {
+
+    private final Path file;
+    private final AtomicLong count = new AtomicLong();
+    private BufferedWriter writer;
+
+    DeadLetterWriter(Path file) {
+        this.file = file;
+    }
+
+    synchronized void write(long lineNo, String reason, String line) {
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                writer.write("lineNo,reason,line");
+                writer.newLine();
+            }
+            writer.write(lineNo + "," + MenuCsvParser.quote(String.valueOf(reason)) + "," + MenuCsvParser.quote(line));
+            writer.newLine();
+            count.incrementAndGet();
+        } catch (IOException e) {
+            throw new UncheckedIOException("실패 행 기록 중 오류가 발생했습니다 : " + file, e);
+        }
+    }
+
+    long getCount() {
+        return count.get();
+    }
+
+    /* 기록한 행이 없어 파일을 만들지 않았으면 null */
+    synchronized Path getFile() {
+        return writer == null ? null : file;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package com.ohgiraffers.springdatajpa.menu.batch;
+
+import com.ohgiraffers.springdatajpa.menu.cache.CategoryTree;
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import com.ohgiraffers.springdatajpa.menu.event.MenuBatchCreatedEvent;
+import com.ohgiraffers.springdatajpa.menu.service.CategoryTreeService;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.PessimisticLockException;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.exception.JDBCConnectionException;
+import org.hibernate.exception.LockAcquisitionException;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메뉴 CSV 파일을 대량으로 등록하는 서비스.
+ * <p>
+ * 일반 등록(MenuService.registMenu)은 영속성 컨텍스트를 거치므로, 수십만 건을 등록하면
+ * 등록한 엔티티가 모두 1차 캐시에 쌓이고 flush마다 변경 감지 대상이 된다.
+ * 이 서비스는 영속성 컨텍스트가 없는 StatelessSession으로 INSERT만 실행하며, 다음 세 단계를 각각 다른 스레드에서 처리한다.
+ * <p>
+ * 1. 읽기 (호출한 스레드) : CSV를 한 줄씩 읽어 batch-size개씩 묶어 검증 풀에 넘긴다.
+ * 2. 검증/변환 (validator-threads개) : 각 행을 MenuDTO로 변환하고, 올바르지 않은 행은 실패 파일(dead letter)에 기록한다.
+ * 3. 쓰기 (writer-threads개) : 검증된 묶음을 트랜잭션 하나로 INSERT한다.
+ *    - 커넥션 끊김, 데드락 같은 일시적 오류는 max-attempts번까지 다시 시도한다.
+ *    - 단, 커밋 요청 중에 실패하면 DB에 반영되었는지 알 수 없으므로 다시 시도하지 않는다.
+ *      (다시 INSERT하면 같은 메뉴가 두 번 등록될 수 있다) 묶음 전체를 "커밋 결과 불명"으로 실패 파일에 남겨 확인하게 한다.
+ *    - 그 밖의 오류(제약 조건 위반 등)는 묶음을 한 행씩 다시 등록해, 실패한 행만 실패 파일에 남긴다.
+ * <p>
+ * - 단계 사이의 대기열은 크기가 정해져 있어(queue-capacity), 뒤 단계가 느리면 앞 단계가 기다린다.
+ *   그래서 파일 크기와 관계없이 메모리에는 최대 (queue-capacity × 2 + 스레드 수)개의 묶음만 올라간다.
+ * - Menu의 키는 IDENTITY 방식이라 INSERT마다 생성된 키를 받아야 하므로 JDBC batch로 묶이지 않는다.
+ *   대신 묶음마다 트랜잭션을 한 번만 커밋해 커밋 비용을 줄인다.
+ * - StatelessSession은 엔티티 리스너(MenuEntityListener)를 호출하지 않으므로,
+ *   커밋된 묶음마다 MenuBatchCreatedEvent를 직접 발행해 캐시와 색인을 맞춘다. (구독자가 묶음을 한 번에 반영한다)
+ * - menu.import.mode=bulk-load 이면 3단계에서 StatelessSession 대신 MenuBulkLoader(LOAD DATA / 여러 행 INSERT)로
+ *   묶음을 한 번에 적재한다. 검증과 재시도, 실패 행 처리는 같다.
+ * - 커넥션을 writer-threads개 사용하므로 동시에 하나의 가져오기만 실행한다.
+ */
+@Slf4j
+@Service
+public class MenuBulkImportService {
+
+    private static final List<Row> END_OF_INPUT = new ArrayList<>();  // 쓰기 스레드 종료 신호 (참조로 비교)
+
+    private final SessionFactory sessionFactory;
+    private final CategoryTreeService categoryTreeService;
+    private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MenuBulkLoader menuBulkLoader;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean useBulkLoader;
+    private final int validatorThreads;
+    private final int writerThreads;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final ReentrantLock running = new ReentrantLock();
+
+    public MenuBulkImportService(EntityManagerFactory entityManagerFactory,
+        CategoryTreeService categoryTreeService, ModelMapper modelMapper,
+        ApplicationEventPublisher eventPublisher, MenuBulkLoader menuBulkLoader,
+        PlatformTransactionManager transactionManager,
+        @Value("${menu.import.mode:stateless}") String importMode,
+        @Value("${menu.import.validator-threads:2}") int validatorThreads,
+        @Value("${menu.import.writer-threads:4}") int writerThreads,
+        @Value("${menu.import.batch-size:500}") int batchSize,
+        @Value("${menu.import.queue-capacity:8}") int queueCapacity,
+        @Value("${menu.import.max-attempts:3}") int maxAttempts,
+        @Value("${menu.import.retry-backoff-ms:200}") long retryBackoffMillis) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.categoryTreeService = categoryTreeService;
+        this.modelMapper = modelMapper;
+        this.eventPublisher = eventPublisher;
+        this.menuBulkLoader = menuBulkLoader;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.useBulkLoader = "bulk-load".equals(importMode.strip());
+        this.validatorThreads = Math.max(1, validatorThreads);
+        this.writerThreads = Math.max(1, writerThreads);
+        this.batchSize = Math.max(1, batchSize);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    /**
+     * CSV 파일의 메뉴를 등록한다. 실패한 행은 같은 디렉토리의 "파일명.rejected.csv"에 기록된다.
+     */
+    public MenuImportResult importCsv(Path csvFile) {
+        return importCsv(csvFile, csvFile.resolveSibling(csvFile.getFileName() + ".rejected.csv"));
+    }
+
+    /**
+     * CSV 파일의 메뉴를 등록한다.
+     *
+     * @param csvFile        가져올 CSV 파일 (UTF-8, 첫 줄은 헤더)
+     * @param deadLetterFile 등록하지 못한 행을 기록할 파일 (실패한 행이 없으면 만들지 않는다)
+     * @return 가져오기 결과 (실패한 행이 없으면 결과의 deadLetterFile은 null)
+     * @throws IllegalStateException 이미 다른 가져오기가 진행 중이거나, 처리 중 예상하지 못한 오류가 발생한 경우
+     * @throws UncheckedIOException  CSV 파일을 읽을 수 없는 경우
+     */
+    public MenuImportResult importCsv(Path csvFile, Path deadLetterFile) {
+        if (!running.tryLock()) {
+            throw new IllegalStateException("이미 메뉴 가져오기가 진행 중입니다.");
+        }
+        try {
+            return runPipeline(csvFile, deadLetterFile);
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private MenuImportResult runPipeline(Path csvFile, Path deadLetterFile) {
+        long start = System.nanoTime();
+        CategoryTree categories = categoryTreeService.reload();   // 가져오기 직전의 카테고리로 검증한다.
+
+        ThreadPoolExecutor validators = new ThreadPoolExecutor(validatorThreads, validatorThreads,
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+            threadFactory("menu-import-validator"),
+            new ThreadPoolExecutor.CallerRunsPolicy());   // 대기열이 차면 읽기 스레드가 직접 검증한다. (읽기 속도 조절)
+        ExecutorService writers = Executors.newFixedThreadPool(writerThreads, threadFactory("menu-import-writer"));
+
+        try (DeadLetterWriter deadLetter = new DeadLetterWriter(deadLetterFile)) {
+            Pipeline pipeline = new Pipeline(categories, deadLetter, new ArrayBlockingQueue<>(queueCapacity));
+            for (int i = 0; i < writerThreads; i++) {
+                writers.execute(() -> drain(pipeline));
+            }
+
+            long read;
+            try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+                read = produce(reader, validators, pipeline);
+            } finally {
+                validators.shutdown();
+                awaitTermination(validators);
+                for (int i = 0; i < writerThreads; i++) {
+                    put(pipeline.writeQueue, END_OF_INPUT);
+                }
+                writers.shutdown();
+                awaitTermination(writers);
+            }
+
+            RuntimeException error = pipeline.error.get();
+            if (error != null) {
+                throw new IllegalStateException("메뉴 가져오기 중 오류가 발생했습니다.", error);
+            }
+            MenuImportResult result = new MenuImportResult(read, pipeline.inserted.get(), pipeline.rejected.get(),
+                pipeline.failed.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), deadLetter.getFile());
+            log.info("메뉴 가져오기 완료 : {}", result);
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("메뉴 CSV 파일을 읽을 수 없습니다 : " + csvFile, e);
+        } finally {
+            validators.shutdownNow();
+            writers.shutdownNow();
+        }
+    }
+
+    /* 1단계 : CSV를 읽어 batchSize개씩 검증 풀에 넘기고, 읽은 데이터 행 수를 반환한다. */
+    private long produce(BufferedReader reader, ThreadPoolExecutor validators, Pipeline pipeline) throws IOException {
+        if (reader.readLine() == null) {   // 헤더
+            return 0;
+        }
+        long lineNo = 1;
+        long read = 0;
+        List<RawLine> chunk = new ArrayList<>(batchSize);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+            read++;
+            chunk.add(new RawLine(lineNo, line));
+            if (chunk.size() == batchSize) {
+                submit(validators, pipeline, chunk);
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            submit(validators, pipeline, chunk);
+        }
+        return read;
+    }
+
+    private void submit(ThreadPoolExecutor validators, Pipeline pipeline, List<RawLine> chunk) {
+        validators.execute(() -> pipeline.guard(() -> validate(pipeline, chunk)));
+    }
+
+    /* 2단계 : 행을 검증/변환하고, 통과한 행만 쓰기 대기열에 넣는다. */
+    private void validate(Pipeline pipeline, List<RawLine> chunk) {
+        List<Row> rows = new ArrayList<>(chunk.size());
+        for (RawLine raw : chunk) {
+            try {
+                rows.add(new Row(raw.lineNo(), raw.line(), MenuCsvParser.parse(raw.line(), pipeline.categories::contains)));
+            } catch (IllegalArgumentException e) {
+                pipeline.rejected.incrementAndGet();
+                pipeline.deadLetter.write(raw.lineNo(), e.getMessage(), raw.line());
+            }
+        }
+        if (!rows.isEmpty()) {
+            put(pipeline.writeQueue, rows);
+        }
+    }
+
+    /* 3단계 : 종료 신호를 받을 때까지 쓰기 대기열의 묶음을 등록한다. */
+    private void drain(Pipeline pipeline) {
+        while (true) {
+            List<Row> batch;
+            try {
+                batch = pipeline.writeQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (batch == END_OF_INPUT) {
+                return;
+            }
+            pipeline.guard(() -> write(pipeline, batch));   // 오류가 나도 쓰기 스레드는 계속 대기열을 비운다.
+        }
+    }
+
+    private void write(Pipeline pipeline, List<Row> batch) {
+        int inserted;
+        try {
+            inserted = insertWithRetry(batch);
+        } catch (CommitOutcomeUnknownException e) {
+            // 반영되었을 수도 있으므로 한 행씩 다시 등록하지 않는다.
+            log.warn("메뉴 {}행 묶음의 커밋 결과를 알 수 없습니다. (첫 행 {}번 줄) : {}",
+                batch.size(), batch.get(0).lineNo(), e.getCause().getMessage());
+            pipeline.failed.addAndGet(batch.size());
+            batch.forEach(row -> pipeline.deadLetter.write(row.lineNo(), e.getMessage(), row.line()));
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                // 어느 행 때문에 실패했는지 알 수 없으므로 한 행씩 다시 등록해 실패한 행만 걸러낸다.
+                log.warn("메뉴 {}행 묶음 등록 실패, 한 행씩 다시 등록합니다. (첫 행 {}번 줄) : {}",
+                    batch.size(), batch.get(0).lineNo(), e.getMessage());
+                batch.forEach(row -> write(pipeline, List.of(row)));
+                return;
+            }
+            Row row = batch.get(0);
+            pipeline.failed.incrementAndGet();
+            pipeline.deadLetter.write(row.lineNo(), e.getMessage(), row.line());
+            return;
+        }
+        pipeline.inserted.addAndGet(inserted);
+    }
+
+    private int insertWithRetry(List<Row> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return useBulkLoader ? bulkLoad(batch) : insert(batch);
+            } catch (RuntimeException e) {
+                if (!isTransient(e) || attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("메뉴 묶음 등록 재시도 ({}/{}) : {}", attempt, maxAttempts, e.getMessage());
+                sleep(retryBackoffMillis * attempt);
+            }
+        }
+    }
+
+    /*
+     * 묶음 전체를 StatelessSession의 트랜잭션 하나로 INSERT하고, 커밋되면 MenuBatchCreatedEvent를 한 번 발행한다.
+     * 엔티티는 시도마다 DTO에서 새로 만든다. (실패한 시도에서 채워진 menuCode가 다음 시도에 남지 않도록)
+     */
+    private int insert(List<Row> batch) {
+        List<MenuDTO> created = new ArrayList<>(batch.size());
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                for (Row row : batch) {
+                    Menu menu = modelMapper.map(row.menu(), Menu.class);
+                    session.insert(menu);
+                    created.add(modelMapper.map(menu, MenuDTO.class));
+                }
+            } catch (RuntimeException e) {
+                if (transaction.getStatus().canRollback()) {
+                    transaction.rollback();
+                }
+                throw e;
+            }
+            try {
+                transaction.commit();
+            } catch (RuntimeException e) {
+                throw new CommitOutcomeUnknownException(e);
+            }
+        }
+        eventPublisher.publishEvent(new MenuBatchCreatedEvent(created));
+        return created.size();
+    }
+
+    /* 묶음 전체를 트랜잭션 하나에서 MenuBulkLoader로 적재한다. */
+    private int bulkLoad(List<Row> batch) {
+        List<MenuDTO> menus = batch.stream().map(Row::menu).toList();
+        AtomicBoolean loaded = new AtomicBoolean();
+        try {
+            return transactionTemplate.execute(status -> {
+                int count = menuBulkLoader.load(menus);
+                loaded.set(true);
+                return count;
+            });
+        } catch (RuntimeException e) {
+            // 적재가 끝난 뒤의 실패는 TransactionTemplate의 커밋 중 실패다.
+            if (loaded.get()) {
+                throw new CommitOutcomeUnknownException(e);
+            }
+            throw e;
+        }
+    }
+
+    /* 다시 시도하면 성공할 수 있는 오류 (커넥션 끊김, 데드락, 락 대기 시간 초과) */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException   // MenuBulkLoader(JdbcTemplate)가 변환한 예외
+            || e instanceof JDBCConnectionException
+            || e instanceof LockAcquisitionException
+            || e instanceof PessimisticLockException;
+    }
+
+    private static <T> void put(BlockingQueue<T> queue, T item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("메뉴 가져오기 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("메뉴 가져오기 재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("메뉴 가져오기 종료 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /* 가져오기 한 번 동안 스레드들이 함께 사용하는 상태 */
+    private static final class Pipeline {
+
+        private final CategoryTree categories;
+        private final DeadLetterWriter deadLetter;
+        private final BlockingQueue<List<Row>> writeQueue;
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicReference<RuntimeException> error = new AtomicReference<>();
+
+        private Pipeline(CategoryTree categories, DeadLetterWriter deadLetter, BlockingQueue<List<Row>> writeQueue) {
+            this.categories = categories;
+            this.deadLetter = deadLetter;
+            this.writeQueue = writeQueue;
+        }
+
+        /* 작업 스레드에서 발생한 예상하지 못한 오류를 기록해, 가져오기가 끝난 뒤 호출한 스레드에서 던진다. */
+        private void guard(Runnable task) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                if (!error.compareAndSet(null, e)) {
+                    error.get().addSuppressed(e);
+                }
+            }
+        }
+    }
+
+    /* 커밋 요청 중 실패해 DB 반영 여부를 알 수 없음 (다시 시도하지 않는다) */
+    private static final class CommitOutcomeUnknownException extends RuntimeException {
+
+        private CommitOutcomeUnknownException(RuntimeException cause) {
+            super("커밋 결과 불명(반영 여부 확인 필요) : " + cause.getMessage(), cause);
+        }
+    }
+
+    private record RawLine(long lineNo, String line) {
+    }
+
+    private record Row(long lineNo, String line, MenuDTO menu) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.ohgiraffers.springdatajpa.menu.batch;
+
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.event.MenuBulkLoadedEvent;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증이 끝난 메뉴를 JPA를 거치지 않고 tbl_menu에 한 번에 적재한다.
+ * <p>
+ * - LOAD_DATA : MySQL의 LOAD DATA LOCAL INFILE로 적재한다.
+ *   파일 대신 TsvRowInputStream을 드라이버에 넘기므로(setLocalInfileInputStream) 임시 파일이 필요 없고,
+ *   행 단위 INSERT나 JDBC batch보다 서버에서 훨씬 빠르게 처리된다.
+ *   클라이언트(allowLoadLocalInfile=true, bulk-load 프로필)와 서버(local_infile=ON) 양쪽에서 허용되어 있어야 한다.
+ * - MULTI_ROW_INSERT : INSERT ... VALUES (...), (...) 한 문장에 rows-per-statement개씩 넣는다.
+ *   서버나 드라이버 설정과 관계없이 사용할 수 있다.
+ * - AUTO : MySQL 드라이버 커넥션이면 LOAD_DATA를 시도하고, 허용되지 않아 실패하면 이후로는 MULTI_ROW_INSERT를 사용한다.
+ *   "허용되지 않음"(서버 오류 1148/3948, 드라이버의 allowLoadLocalInfile 거부)만 대체하며, 그 밖의 오류는 그대로 던진다.
+ * <p>
+ * - 호출한 쪽의 트랜잭션에 참여하며(JdbcTemplate), 실패하면 그 트랜잭션과 함께 롤백된다.
+ * - LOAD DATA LOCAL은 중복 키 등 데이터 오류를 오류가 아닌 경고로 처리하고 건너뛰거나(값이 길면 잘라서) 넣으므로,
+ *   넘기기 전에 반드시 검증해야 한다. 그래도 적재된 행 수가 다르거나 경고가 있으면 DataIntegrityViolationException을 던져
+ *   호출한 쪽의 트랜잭션이 롤백되게 한다. (일부만 적재된 채 커밋되지 않도록)
+ * - JPA를 거치지 않으므로 MenuChangedEvent 대신 MenuBulkLoadedEvent를 발행해 캐시와 색인을 맞춘다.
+ */
+@Slf4j
+@Component
+public class MenuBulkLoader {
+
+    private static final String COLUMNS = "(menu_name, menu_price, category_code, orderable_status, version)";
+
+    private static final String LOAD_DATA_SQL =
+        "LOAD DATA LOCAL INFILE 'menu.tsv' INTO TABLE tbl_menu CHARACTER SET utf8mb4"
+            + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' " + COLUMNS;
+
+    private static final int ER_NOT_ALLOWED_COMMAND = 1148;           // 서버의 local_infile=OFF (이전 버전)
+    private static final int ER_CLIENT_LOCAL_FILES_DISABLED = 3948;   // 서버의 local_infile=OFF
+
+    private static final String MAX_MENU_CODE_SQL = "SELECT COALESCE(MAX(menu_code), 0) FROM tbl_menu";
+
+    public enum Mode {
+        AUTO, LOAD_DATA, MULTI_ROW_INSERT
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Mode mode;
+    private final int rowsPerStatement;
+
+    // AUTO 모드에서 LOAD DATA가 허용되지 않는 것을 한 번 확인하면 이후로는 시도하지 않는다.
+    private volatile boolean loadDataAvailable = true;
+
+    public MenuBulkLoader(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+        @Value("${menu.bulk-load.mode:auto}") String mode,
+        @Value("${menu.bulk-load.rows-per-statement:1000}") int rowsPerStatement) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.mode = Mode.valueOf(mode.strip().replace('-', '_').toUpperCase(Locale.ROOT));
+        this.rowsPerStatement = Math.max(1, rowsPerStatement);
+    }
+
+    /**
+     * 설정된 방식(menu.bulk-load.mode)으로 메뉴를 적재한다.
+     *
+     * @param menus 검증이 끝난 메뉴 목록 (menuCode는 무시되고 새로 발급된다)
+     * @return 적재된 행 수
+     */
+    public int load(List<MenuDTO> menus) {
+        return load(menus, mode);
+    }
+
+    /**
+     * 지정한 방식으로 메뉴를 적재한다.
+     */
+    public int load(List<MenuDTO> menus, Mode mode) {
+        if (menus.isEmpty()) {
+            return 0;
+        }
+        int afterMenuCode = jdbcTemplate.queryForObject(MAX_MENU_CODE_SQL, Integer.class);
+        int loaded = jdbcTemplate.execute((ConnectionCallback<Integer>) connection ->
+            useLoadData(connection, mode) ? loadData(connection, menus, mode) : insertMultiRow(connection, menus));
+        eventPublisher.publishEvent(new MenuBulkLoadedEvent(afterMenuCode, loaded));
+        return loaded;
+    }
+
+    private boolean useLoadData(Connection connection, Mode mode) throws SQLException {
+        return switch (mode) {
+            case LOAD_DATA -> true;
+            case MULTI_ROW_INSERT -> false;
+            case AUTO -> loadDataAvailable && connection.isWrapperFor(JdbcConnection.class);
+        };
+    }
+
+    private int loadData(Connection connection, List<MenuDTO> menus, Mode mode) throws SQLException {
+        int loaded;
+        SQLWarning warning;
+        try (Statement statement = connection.createStatement()) {
+            statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(
+                new TsvRowInputStream<>(menus.iterator(), menu -> new Object[]{
+                    menu.getMenuName(), menu.getMenuPrice(), menu.getCategoryCode(), menu.getOrderableStatus(), 0
+                }));
+            loaded = statement.executeUpdate(LOAD_DATA_SQL);
+            warning = statement.getWarnings();
+        } catch (SQLException e) {
+            if (mode != Mode.AUTO || !isLocalInfileDisabled(e)) {
+                throw e;
+            }
+            // LOAD DATA 문은 실패하면 문장 전체가 취소되므로, 같은 행을 다른 방식으로 다시 적재해도 중복되지 않는다.
+            loadDataAvailable = false;
+            log.warn("LOAD DATA LOCAL INFILE을 사용할 수 없어 여러 행 INSERT로 적재합니다 : {}", e.getMessage());
+            return insertMultiRow(connection, menus);
+        }
+
+        // 건너뛰거나 잘린 행이 있으면 경고로만 알려 주므로, 행 수와 경고를 직접 확인한다.
+        if (loaded != menus.size() || warning != null) {
+            throw new DataIntegrityViolationException("LOAD DATA로 적재한 행이 요청과 다릅니다 (요청 " + menus.size()
+                + "행, 적재 " + loaded + "행)" + (warning == null ? "" : " : " + warning.getMessage()));
+        }
+        return loaded;
+    }
+
+    /* 클라이언트나 서버에서 LOAD DATA LOCAL이 허용되지 않아 실패했는지 여부 */
+    private static boolean isLocalInfileDisabled(SQLException e) {
+        return e.getErrorCode() == ER_NOT_ALLOWED_COMMAND
+            || e.getErrorCode() == ER_CLIENT_LOCAL_FILES_DISABLED
+            || (e.getMessage() != null && e.getMessage().contains("allowLoadLocalInfile"));   // 드라이버가 거부한 경우
+    }
+
+    private int insertMultiRow(Connection connection, List<MenuDTO> menus) throws SQLException {
+        int loaded = 0;
+        int fullChunks = menus.size() / rowsPerStatement;
+        if (fullChunks > 0) {
+            // 행 수가 같은 문장은 PreparedStatement 하나를 다시 사용한다.
+            try (PreparedStatement statement = connection.prepareStatement(insertSql(rowsPerStatement))) {
+                for (int chunk = 0; chunk < fullChunks; chunk++) {
+                    int from = chunk * rowsPerStatement;
+                    bind(statement, menus.subList(from, from + rowsPerStatement));
+                    loaded += statement.executeUpdate();
+                }
+            }
+        }
+        int remaining = menus.size() - fullChunks * rowsPerStatement;
+        if (remaining > 0) {
+            try (PreparedStatement statement = connection.prepareStatement(insertSql(remaining))) {
+                bind(statement, menus.subList(menus.size() - remaining, menus.size()));
+                loaded += statement.executeUpdate();
+            }
+        }
+        return loaded;
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO tbl_menu ").append(COLUMNS).append(" VALUES ");
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, 0)");
+        }
+        return sql.toString();
+    }
+
+    private static void bind(PreparedStatement statement, List<MenuDTO> menus) throws SQLException {
+        int index = 1;
+        for (MenuDTO menu : menus) {
+            statement.setString(index++, menu.getMenuName());
+            statement.setInt(index++, menu.getMenuPrice());
+            statement.setInt(index++, menu.getCategoryCode());
+            statement.setString(index++, String.valueOf(menu.getOrderableStatus()));
+        }
+    }
+}
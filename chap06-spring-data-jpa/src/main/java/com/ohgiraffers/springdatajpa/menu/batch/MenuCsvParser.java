@@ -0,0 +1,122 @@
+package com.ohgiraffers.springdatajpa.menu.batch;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * 메뉴 가져오기 CSV의 한 줄을 읽어 MenuDTO로 변환한다.
+ * <p>
+ * - 형식 : menuName,menuPrice,categoryCode,orderableStatus (첫 줄은 헤더)
+ * - 값에 쉼표나 큰따옴표가 있으면 큰따옴표로 감싸고, 값 안의 큰따옴표는 두 번("") 쓴다.
+ * - 한 값이 여러 줄에 걸치는 형식은 지원하지 않는다.
+ */
+public final class MenuCsvParser {
+
+    static final int COLUMN_COUNT = 4;
+
+    /* tbl_menu.menu_name VARCHAR(30) (문자 수) */
+    public static final int MENU_NAME_MAX_LENGTH = 30;
+
+    private MenuCsvParser() {
+    }
+
+    /**
+     * CSV 한 줄을 값 목록으로 나눈다.
+     *
+     * @throws IllegalArgumentException 큰따옴표가 닫히지 않은 경우
+     */
+    public static List<String> split(String line) {
+        List<String> values = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch != '"') {
+                    value.append(ch);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(ch);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("큰따옴표가 닫히지 않았습니다.");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * CSV 한 줄을 검증하고 MenuDTO로 변환한다.
+     *
+     * @param line           CSV 한 줄
+     * @param categoryExists 카테고리 코드 존재 여부 확인
+     * @return 등록할 메뉴 정보 (menuCode는 0)
+     * @throws IllegalArgumentException 형식이나 값이 올바르지 않은 경우 (메시지에 사유를 담는다)
+     */
+    public static MenuDTO parse(String line, IntPredicate categoryExists) {
+        List<String> values = split(line);
+        if (values.size() != COLUMN_COUNT) {
+            throw new IllegalArgumentException("컬럼 수가 " + COLUMN_COUNT + "개가 아닙니다 : " + values.size());
+        }
+
+        String menuName = values.get(0).strip();
+        if (menuName.isEmpty()) {
+            throw new IllegalArgumentException("메뉴 이름이 비어 있습니다.");
+        }
+        if (menuName.codePointCount(0, menuName.length()) > MENU_NAME_MAX_LENGTH) {
+            throw new IllegalArgumentException("메뉴 이름은 " + MENU_NAME_MAX_LENGTH + "자 이하여야 합니다 : " + menuName);
+        }
+        int menuPrice = parseInt("menuPrice", values.get(1));
+        if (menuPrice < 0) {
+            throw new IllegalArgumentException("메뉴 가격은 0 이상이어야 합니다 : " + menuPrice);
+        }
+        int categoryCode = parseInt("categoryCode", values.get(2));
+        if (!categoryExists.test(categoryCode)) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다 : " + categoryCode);
+        }
+        String orderableStatus = values.get(3).strip();
+        if (!orderableStatus.equals("Y") && !orderableStatus.equals("N")) {
+            throw new IllegalArgumentException("주문 가능 상태는 Y 또는 N이어야 합니다 : " + orderableStatus);
+        }
+
+        MenuDTO menuDTO = new MenuDTO();
+        menuDTO.setMenuName(menuName);
+        menuDTO.setMenuPrice(menuPrice);
+        menuDTO.setCategoryCode(categoryCode);
+        menuDTO.setOrderableStatus(orderableStatus.charAt(0));
+        return menuDTO;
+    }
+
+    /**
+     * 값을 CSV 한 칸으로 쓸 수 있도록 필요하면 큰따옴표로 감싼다.
+     * 여러 줄 값은 지원하지 않으므로, 값 안의 줄바꿈(CR/LF)은 \r, \n 두 글자로 바꿔 한 줄로 쓴다. (오류 사유 등)
+     */
+    public static String quote(String value) {
+        String singleLine = value.replace("\r", "\\r").replace("\n", "\\n");
+        if (singleLine.indexOf(',') < 0 && singleLine.indexOf('"') < 0) {
+            return singleLine;
+        }
+        return '"' + singleLine.replace("\"", "\"\"") + '"';
+    }
+
+    private static int parseInt(String column, String value) {
+        try {
+            return Integer.parseInt(value.strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + "가 정수가 아닙니다 : " + value);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ohgiraffers.springdatajpa.menu.batch;
+
+import java.nio.file.Path;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메뉴 CSV 가져오기 결과.
+ * <p>
+ * - read : 읽은 데이터 행 수 (헤더 제외)
+ * - inserted : 등록된 행 수
+ * - rejected : 검증에 실패해 등록하지 않은 행 수
+ * - failed : 재시도 후에도 INSERT에 실패했거나, 커밋 결과를 알 수 없어 다시 시도하지 않은 행 수
+ * - rejected/failed 행은 deadLetterFile에 사유와 함께 기록된다. 실패한 행이 없으면 파일을 만들지 않으므로 deadLetterFile은 null이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MenuImportResult {
+
+    private final long read;
+    private final long inserted;
+    private final long rejected;
+    private final long failed;
+    private final long elapsedMillis;
+    private final Path deadLetterFile;
+
+    /* 초당 등록 행 수 */
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? inserted : inserted * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "MenuImportResult{" +
+            "read=" + read +
+            ", inserted=" + inserted +
+            ", rejected=" + rejected +
+            ", failed=" + failed +
+            ", elapsedMillis=" + elapsedMillis +
+            ", rowsPerSecond=" + String.format("%.1f", getRowsPerSecond()) +
+            ", deadLetterFile=" + deadLetterFile +
+            '}';
+    }
+}
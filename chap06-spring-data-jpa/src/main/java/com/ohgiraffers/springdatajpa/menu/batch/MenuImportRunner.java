@@ -0,0 +1,41 @@
+package com.ohgiraffers.springdatajpa.menu.batch;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 기동 시 menu.import.csv-file로 지정한 CSV를 MenuBulkImportService로 가져온다.
+ * <p>
+ * - 실행 : ./gradlew bootRun --args='--menu.import.csv-file=/data/menu.csv'
+ * - 속성을 지정하지 않으면 빈이 만들어지지 않으므로 평소 기동에는 영향이 없다.
+ * - 파일이 없거나 가져오기가 실패하면 예외를 던져 기동을 중단한다. (일부 행만 실패한 경우는 결과만 남기고 계속 기동한다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "menu.import.csv-file")
+public class MenuImportRunner implements CommandLineRunner {
+
+    private final MenuBulkImportService menuBulkImportService;
+
+    @Value("${menu.import.csv-file}")
+    private Path csvFile;
+
+    @Override
+    public void run(String... args) {
+        if (!Files.isRegularFile(csvFile)) {
+            throw new IllegalStateException("가져올 메뉴 CSV 파일이 없습니다 : " + csvFile);
+        }
+        MenuImportResult result = menuBulkImportService.importCsv(csvFile);
+        if (result.getDeadLetterFile() != null) {
+            log.warn("등록하지 못한 행 {}건이 {}에 기록되었습니다.",
+                result.getRejected() + result.getFailed(), result.getDeadLetterFile());
+        }
+    }
+}
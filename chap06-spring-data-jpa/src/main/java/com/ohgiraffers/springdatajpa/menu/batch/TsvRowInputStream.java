@@ -0,0 +1,96 @@
+package com.ohgiraffers.springdatajpa.menu.batch;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * 객체 목록을 LOAD DATA 형식(탭 구분, 줄바꿈 종료, 역슬래시 이스케이프)의 UTF-8 바이트로 읽어 주는 InputStream.
+ * <p>
+ * 전체 파일을 미리 만들지 않고, 드라이버가 읽을 때마다 다음 행을 하나씩 변환한다.
+ * 그래서 적재할 행이 많아도 추가로 필요한 메모리는 한 행 분량뿐이다.
+ *
+ * @param <T> 행 타입
+ */
+public class TsvRowInputStream<T> extends InputStream {
+
+    private final Iterator<T> rows;
+    private final Function<T, Object[]> columns;
+
+    private byte[] buffer = new byte[0];
+    private int position;
+
+    /**
+     * @param rows    적재할 행
+     * @param columns 행을 컬럼 값 배열로 바꾸는 함수 (값은 toString()으로 기록하며, null은 \N으로 기록한다)
+     */
+    public TsvRowInputStream(Iterator<T> rows, Function<T, Object[]> columns) {
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int total = 0;
+        while (total < length && fill()) {
+            int count = Math.min(length - total, buffer.length - position);
+            System.arraycopy(buffer, position, target, offset + total, count);
+            position += count;
+            total += count;
+        }
+        return total == 0 ? -1 : total;
+    }
+
+    /* 현재 행을 다 읽었으면 다음 행을 변환한다. 더 읽을 행이 없으면 false */
+    private boolean fill() {
+        while (position == buffer.length) {
+            if (!rows.hasNext()) {
+                return false;
+            }
+            buffer = toLine(columns.apply(rows.next())).getBytes(StandardCharsets.UTF_8);
+            position = 0;
+        }
+        return true;
+    }
+
+    static String toLine(Object[] values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append('\t');
+            }
+            if (values[i] == null) {
+                line.append("\\N");
+            } else {
+                escape(values[i].toString(), line);
+            }
+        }
+        return line.append('\n').toString();
+    }
+
+    /* 값 안의 역슬래시, 탭, 줄바꿈이 구분자로 해석되지 않도록 이스케이프한다. */
+    private static void escape(String value, StringBuilder line) {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            switch (ch) {
+                case '\\' -> line.append("\\\\");
+                case '\t' -> line.append("\\t");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                default -> line.append(ch);
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.ohgiraffers.springdatajpa.menu.cache;
+
+import com.ohgiraffers.springdatajpa.menu.dto.CategoryDTO;
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 메뉴/카테고리 카탈로그를 압축된 바이너리 파일로 저장하고, 메모리 매핑(mmap)으로 다시 읽어오는 유틸리티 클래스.
+ * <p>
+ * 파일 구조 (big-endian) :
+ * <pre>
+ * [헤더 40 bytes]
+ *   magic(4) = 'MCAT' | formatVersion(2) | reserved(2) | createdAt(8, epoch millis)
+ *   menuCount(4) | categoryCount(4) | payloadLength(8) | payloadCrc32(8)
+ * [본문]
+ *   메뉴 * menuCount     : menuCode(4) | menuPrice(4) | categoryCode(4) | orderableStatus(2) | nameLength(2) | name(UTF-8)
+ *   카테고리 * categoryCount : categoryCode(4) | refCategoryCode(4, 없으면 NO_REF) | nameLength(2) | name(UTF-8)
+ * </pre>
+ * - formatVersion이 다르거나, 길이/CRC32가 맞지 않으면 IllegalStateException을 던진다.
+ *   (호출 측은 스냅샷을 버리고 DB에서 다시 읽으면 된다.)
+ * - 쓰기는 임시 파일에 모두 기록한 뒤 원자적으로 이름을 바꾸므로, 쓰는 도중 중단되어도 기존 스냅샷이 깨지지 않는다.
+ */
+public final class CatalogSnapshotFile {
+
+    static final int MAGIC = 0x4D434154;          // "MCAT"
+    static final short FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 40;
+    private static final int NO_REF = Integer.MIN_VALUE;
+
+    private CatalogSnapshotFile() {
+    }
+
+    /**
+     * 스냅샷 파일을 기록한다.
+     *
+     * @param path       스냅샷 파일 경로
+     * @param menus      저장할 메뉴 목록
+     * @param categories 저장할 카테고리 목록
+     * @param createdAt  스냅샷 생성 시각 (epoch millis)
+     */
+    public static void write(Path path, List<MenuDTO> menus, List<CategoryDTO> categories,
+        long createdAt) throws IOException {
+
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(menus.size() * 32);
+        try (DataOutputStream payload = new DataOutputStream(payloadBytes)) {
+            for (MenuDTO menu : menus) {
+                payload.writeInt(menu.getMenuCode());
+                payload.writeInt(menu.getMenuPrice());
+                payload.writeInt(menu.getCategoryCode());
+                payload.writeChar(menu.getOrderableStatus());
+                writeString(payload, menu.getMenuName());
+            }
+            for (CategoryDTO category : categories) {
+                payload.writeInt(category.getCategoryCode());
+                payload.writeInt(category.getRefCategoryCode() == null
+                    ? NO_REF : category.getRefCategoryCode());
+                writeString(payload, category.getCategoryName());
+            }
+        }
+        byte[] body = payloadBytes.toByteArray();
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(body);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC)
+            .putShort(FORMAT_VERSION)
+            .putShort((short) 0)
+            .putLong(createdAt)
+            .putInt(menus.size())
+            .putInt(categories.size())
+            .putLong(body.length)
+            .putLong(crc32.getValue())
+            .flip();
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.write(new ByteBuffer[]{header, ByteBuffer.wrap(body)});
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑하여 읽는다.
+     *
+     * @param path 스냅샷 파일 경로
+     * @return 파일에서 읽은 카탈로그
+     * @throws IllegalStateException 형식 버전이 다르거나 파일이 손상된 경우
+     */
+    public static CatalogSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IllegalStateException("스냅샷 파일이 헤더보다 작습니다 : " + fileSize);
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+
+            if (mapped.getInt() != MAGIC) {
+                throw new IllegalStateException("카탈로그 스냅샷 파일이 아닙니다.");
+            }
+            short version = mapped.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 스냅샷 형식 버전입니다 : " + version);
+            }
+            mapped.getShort();
+            long createdAt = mapped.getLong();
+            int menuCount = mapped.getInt();
+            int categoryCount = mapped.getInt();
+            long payloadLength = mapped.getLong();
+            long expectedCrc = mapped.getLong();
+
+            if (HEADER_SIZE + payloadLength != fileSize) {
+                throw new IllegalStateException("스냅샷 파일 길이가 헤더 정보와 다릅니다.");
+            }
+
+            /* 본문 전체의 CRC32를 다시 계산해 손상 여부를 확인한다. (mmap 영역을 그대로 읽으므로 복사가 없다.) */
+            CRC32 crc32 = new CRC32();
+            crc32.update(mapped.slice());
+            if (crc32.getValue() != expectedCrc) {
+                throw new IllegalStateException("스냅샷 파일 체크섬이 일치하지 않습니다.");
+            }
+
+            List<MenuDTO> menus = new ArrayList<>(menuCount);
+            for (int i = 0; i < menuCount; i++) {
+                MenuDTO menu = new MenuDTO();
+                menu.setMenuCode(mapped.getInt());
+                menu.setMenuPrice(mapped.getInt());
+                menu.setCategoryCode(mapped.getInt());
+                menu.setOrderableStatus(mapped.getChar());
+                menu.setMenuName(readString(mapped));
+                menus.add(menu);
+            }
+
+            List<CategoryDTO> categories = new ArrayList<>(categoryCount);
+            for (int i = 0; i < categoryCount; i++) {
+                CategoryDTO category = new CategoryDTO();
+                category.setCategoryCode(mapped.getInt());
+                int refCategoryCode = mapped.getInt();
+                category.setRefCategoryCode(refCategoryCode == NO_REF ? null : refCategoryCode);
+                category.setCategoryName(readString(mapped));
+                categories.add(category);
+            }
+
+            return new CatalogSnapshot(createdAt, menus, categories);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 스냅샷 파일에서 읽은 카탈로그 데이터.
+     */
+    public static final class CatalogSnapshot {
+
+        private final long createdAt;
+        private final List<MenuDTO> menus;
+        private final List<CategoryDTO> categories;
+
+        CatalogSnapshot(long createdAt, List<MenuDTO> menus, List<CategoryDTO> categories) {
+            this.createdAt = createdAt;
+            this.menus = menus;
+            this.categories = categories;
+        }
+
+        public long getCreatedAt() {
+            return createdAt;
+        }
+
+        public List<MenuDTO> getMenus() {
+            return menus;
+        }
+
+        public List<CategoryDTO> getCategories() {
+            return categories;
+        }
+    }
+}
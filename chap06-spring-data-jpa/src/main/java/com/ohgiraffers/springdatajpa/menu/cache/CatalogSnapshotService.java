@@ -0,0 +1,132 @@
+package com.ohgiraffers.springdatajpa.menu.cache;
+
+import com.ohgiraffers.springdatajpa.menu.cache.CatalogSnapshotFile.CatalogSnapshot;
+import com.ohgiraffers.springdatajpa.menu.dto.CategoryDTO;
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.repository.CategoryRepository;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 직후 캐시를 빠르게 채우기 위한 카탈로그 스냅샷 관리 컴포넌트.
+ * <p>
+ * - 기동 시 : 스냅샷 파일이 있고 유효하면(형식 버전, 체크섬, 최대 보관 기간 확인) 메모리 매핑으로 읽어
+ *   OffHeapMenuCache와 CategoryListCache를 먼저 채운다. DB에서 전체 목록을 읽는 것보다 훨씬 빠르므로
+ *   기동 후 수 초 안에 캐시 조회가 가능해진다. 이후 백그라운드에서 DB 기준으로 다시 적재해 스냅샷 이후의 변경을 반영한다.
+ * - 실행 중 : 주기적으로, 그리고 종료 직전에 최신 카탈로그를 스냅샷 파일로 기록한다.
+ * <p>
+ * menu.snapshot.enabled=true 일 때만 빈으로 등록된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "menu.snapshot.enabled", havingValue = "true")
+public class CatalogSnapshotService {
+
+    private final MenuRepository menuRepository;
+    private final CategoryRepository categoryRepository;
+    private final ModelMapper modelMapper;
+    private final ObjectProvider<OffHeapMenuCache> offHeapMenuCache;
+    private final CategoryListCache categoryListCache;
+    private final Path snapshotPath;
+    private final Duration maxAge;
+
+    public CatalogSnapshotService(MenuRepository menuRepository,
+        CategoryRepository categoryRepository, ModelMapper modelMapper,
+        ObjectProvider<OffHeapMenuCache> offHeapMenuCache, CategoryListCache categoryListCache,
+        @Value("${menu.snapshot.path:./snapshot/catalog.bin}") Path snapshotPath,
+        @Value("${menu.snapshot.max-age:PT24H}") Duration maxAge) {
+        this.menuRepository = menuRepository;
+        this.categoryRepository = categoryRepository;
+        this.modelMapper = modelMapper;
+        this.offHeapMenuCache = offHeapMenuCache;
+        this.categoryListCache = categoryListCache;
+        this.snapshotPath = snapshotPath;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * 스냅샷으로 캐시를 미리 채운다.
+     * OffHeapMenuCache.load()보다 먼저 실행되도록 가장 높은 우선순위를 준다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!Files.exists(snapshotPath)) {
+            log.info("카탈로그 스냅샷 파일이 없어 DB에서 캐시를 적재합니다 : {}", snapshotPath);
+            return;
+        }
+
+        CatalogSnapshot snapshot;
+        try {
+            long start = System.nanoTime();
+            snapshot = CatalogSnapshotFile.read(snapshotPath);
+            log.info("카탈로그 스냅샷 읽기 완료 : 메뉴 {}건, 카테고리 {}건, {}ms",
+                snapshot.getMenus().size(), snapshot.getCategories().size(),
+                (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | IllegalStateException e) {
+            log.warn("카탈로그 스냅샷을 사용할 수 없어 DB에서 캐시를 적재합니다 : {}", e.getMessage());
+            return;
+        }
+
+        long age = System.currentTimeMillis() - snapshot.getCreatedAt();
+        if (age > maxAge.toMillis()) {
+            log.info("카탈로그 스냅샷이 최대 보관 기간({})을 지나 사용하지 않습니다.", maxAge);
+            return;
+        }
+
+        categoryListCache.put(snapshot.getCategories());
+
+        OffHeapMenuCache cache = offHeapMenuCache.getIfAvailable();
+        if (cache != null) {
+            cache.loadFrom(snapshot.getMenus());
+            /* 스냅샷 이후의 변경분은 DB 기준으로 다시 적재하여 맞춘다. (조회는 그동안 스냅샷 데이터로 처리) */
+            CompletableFuture.runAsync(cache::reload);
+        }
+    }
+
+    /**
+     * 현재 DB의 메뉴/카테고리 목록을 스냅샷 파일로 기록한다.
+     */
+    @Scheduled(
+        initialDelayString = "${menu.snapshot.dump-interval:600000}",
+        fixedDelayString = "${menu.snapshot.dump-interval:600000}")
+    public void dump() {
+        List<MenuDTO> menus = menuRepository.findAll().stream()
+            .map(menu -> modelMapper.map(menu, MenuDTO.class))
+            .toList();
+        List<CategoryDTO> categories = categoryRepository.findAllCategory().stream()
+            .map(category -> modelMapper.map(category, CategoryDTO.class))
+            .toList();
+
+        try {
+            CatalogSnapshotFile.write(snapshotPath, menus, categories, System.currentTimeMillis());
+            log.info("카탈로그 스냅샷 기록 완료 : {} (메뉴 {}건, 카테고리 {}건)",
+                snapshotPath, menus.size(), categories.size());
+        } catch (IOException e) {
+            log.warn("카탈로그 스냅샷 기록 실패 : {}", e.getMessage());
+        }
+    }
+
+    /* 정상 종료 시 최신 상태를 남겨 다음 기동에서 사용할 수 있도록 한다. */
+    @PreDestroy
+    public void dumpOnShutdown() {
+        dump();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ohgiraffers.springdatajpa.menu.cache;
+
+import com.ohgiraffers.springdatajpa.menu.dto.CategoryDTO;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 목록(tbl_category)을 메모리에 보관하는 캐시.
+ * <p>
+ * 카테고리는 거의 변경되지 않으면서 메뉴 등록 화면마다 조회되므로, 한 번 읽은 목록을 재사용한다.
+ * 목록은 불변 리스트로 보관하고 volatile 참조를 교체하는 방식으로 갱신한다.
+ */
+@Component
+public class CategoryListCache {
+
+    private volatile List<CategoryDTO> categories;
+
+    /**
+     * 캐시된 목록을 반환하고, 비어 있으면 loader로 읽어와 캐시한다.
+     *
+     * @param loader 캐시가 비어 있을 때 카테고리 목록을 읽어오는 함수
+     * @return 카테고리 목록 (변경 불가)
+     */
+    public List<CategoryDTO> get(Supplier<List<CategoryDTO>> loader) {
+        List<CategoryDTO> cached = categories;
+        if (cached == null) {
+            cached = List.copyOf(loader.get());
+            categories = cached;
+        }
+        return cached;
+    }
+
+    public void put(List<CategoryDTO> categories) {
+        this.categories = List.copyOf(categories);
+    }
+
+    /**
+     * 캐시된 목록을 비운다. 다음 get() 호출이 loader로 다시 읽어온다.
+     */
+    public void evict() {
+        this.categories = null;
+    }
+}
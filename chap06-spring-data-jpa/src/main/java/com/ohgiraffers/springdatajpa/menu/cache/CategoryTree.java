@@ -0,0 +1,214 @@
+package com.ohgiraffers.springdatajpa.menu.cache;
+
+import com.ohgiraffers.springdatajpa.menu.dto.CategoryDTO;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * tbl_category의 ref_category_code로 만든 불변 카테고리 계층 구조.
+ * <p>
+ * - 카테고리 코드를 정렬한 int 배열과 이진 탐색으로 "코드 → 위치"를 찾는다. (박싱되는 Map을 쓰지 않는다)
+ * - 각 위치의 부모 위치(parent)와, 루트부터 전위 순회한 순서(preorder)를 보관한다.
+ *   전위 순회에서 한 카테고리의 하위 카테고리는 모두 그 카테고리 바로 뒤에 연속으로 나오므로,
+ *   하위 트리 조회는 preorder 배열의 [start, end) 구간을 복사하는 것으로 끝난다.
+ * - 상위 카테고리 조회는 parent를 루트까지 따라간다.
+ * <p>
+ * 상위 카테고리가 없거나 존재하지 않는 코드를 가리키는 카테고리는 루트로 취급한다.
+ * 잘못된 데이터로 순환(A → B → A)이 있으면 순환에 속한 카테고리 하나의 상위 연결을 끊어 루트로 만든다.
+ * 순환에 매달린 카테고리(C → A)는 상위 연결을 그대로 유지한다.
+ */
+public final class CategoryTree {
+
+    private static final int NONE = -1;
+
+    private static final CategoryTree EMPTY = new CategoryTree(List.of());
+
+    private final int[] codes;          // 정렬된 카테고리 코드
+    private final String[] names;
+    private final int[] parent;         // 상위 카테고리의 위치 (없으면 NONE)
+    private final int[] preorder;       // 전위 순회 순서의 카테고리 코드
+    private final int[] subtreeStart;   // 위치별 preorder 시작 인덱스
+    private final int[] subtreeEnd;     // 위치별 preorder 끝 인덱스 (미포함)
+    private final int[] roots;          // 최상위 카테고리 코드
+
+    private CategoryTree(Collection<CategoryDTO> categories) {
+        CategoryDTO[] sorted = categories.toArray(new CategoryDTO[0]);
+        Arrays.sort(sorted, (a, b) -> Integer.compare(a.getCategoryCode(), b.getCategoryCode()));
+
+        int size = sorted.length;
+        codes = new int[size];
+        names = new String[size];
+        for (int i = 0; i < size; i++) {
+            codes[i] = sorted[i].getCategoryCode();
+            names[i] = sorted[i].getCategoryName();
+        }
+
+        parent = new int[size];
+        for (int i = 0; i < size; i++) {
+            Integer ref = sorted[i].getRefCategoryCode();
+            int parentIndex = ref == null ? NONE : Arrays.binarySearch(codes, ref);
+            parent[i] = parentIndex < 0 || parentIndex == i ? NONE : parentIndex;
+        }
+
+        // 하위 카테고리 목록 (CSR 형식 : childStart[i] ~ childStart[i + 1] 구간이 i의 하위 카테고리 위치)
+        int[] childStart = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            if (parent[i] != NONE) {
+                childStart[parent[i] + 1]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            childStart[i + 1] += childStart[i];
+        }
+        int[] children = new int[childStart[size]];
+        int[] fill = Arrays.copyOf(childStart, size);
+        for (int i = 0; i < size; i++) {
+            if (parent[i] != NONE) {
+                children[fill[parent[i]]++] = i;
+            }
+        }
+
+        preorder = new int[size];
+        subtreeStart = new int[size];
+        subtreeEnd = new int[size];
+        boolean[] visited = new boolean[size];
+        int[] stack = new int[size];
+        int[] cursor = new int[size];
+        List<Integer> rootCodes = new ArrayList<>();
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            if (parent[i] == NONE) {
+                next = traverse(i, next, children, childStart, visited, stack, cursor);
+                rootCodes.add(codes[i]);
+            }
+        }
+        // 루트에서 닿지 않은 카테고리는 순환에 속해 있거나 순환에 매달려 있다.
+        // 상위를 따라가다 처음으로 다시 만난 카테고리는 순환 위에 있으므로, 그 카테고리의 상위 연결만 끊고 루트로 만든다.
+        int[] walked = new int[size];   // 몇 번째 탐색에서 지나갔는지 (0은 아직 지나가지 않음)
+        for (int i = 0; i < size; i++) {
+            if (!visited[i]) {
+                int node = i;
+                while (walked[node] != i + 1) {
+                    walked[node] = i + 1;
+                    node = parent[node];
+                }
+                parent[node] = NONE;
+                next = traverse(node, next, children, childStart, visited, stack, cursor);
+                rootCodes.add(codes[node]);
+            }
+        }
+        roots = rootCodes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /* 반복문으로 전위 순회한다. (계층이 깊어도 스택 오버플로가 나지 않는다) */
+    private int traverse(int root, int next, int[] children, int[] childStart, boolean[] visited,
+        int[] stack, int[] cursor) {
+        int depth = 0;
+        stack[0] = root;
+        cursor[0] = childStart[root];
+        visited[root] = true;
+        subtreeStart[root] = next;
+        preorder[next++] = codes[root];
+
+        while (depth >= 0) {
+            int node = stack[depth];
+            if (cursor[depth] < childStart[node + 1]) {
+                int child = children[cursor[depth]++];
+                if (visited[child]) {
+                    continue;
+                }
+                visited[child] = true;
+                subtreeStart[child] = next;
+                preorder[next++] = codes[child];
+                stack[++depth] = child;
+                cursor[depth] = childStart[child];
+            } else {
+                subtreeEnd[node] = next;
+                depth--;
+            }
+        }
+        return next;
+    }
+
+    public static CategoryTree empty() {
+        return EMPTY;
+    }
+
+    public static CategoryTree of(Collection<CategoryDTO> categories) {
+        return new CategoryTree(categories);
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    public boolean contains(int categoryCode) {
+        return Arrays.binarySearch(codes, categoryCode) >= 0;
+    }
+
+    /**
+     * @return 카테고리명 (없는 카테고리면 null)
+     */
+    public String getCategoryName(int categoryCode) {
+        int index = Arrays.binarySearch(codes, categoryCode);
+        return index < 0 ? null : names[index];
+    }
+
+    /**
+     * @return 최상위 카테고리 코드 목록
+     */
+    public int[] getRootCodes() {
+        return roots.clone();
+    }
+
+    /**
+     * 카테고리 자신과 모든 하위 카테고리 코드를 전위 순회 순서로 반환한다.
+     *
+     * @param categoryCode 기준 카테고리 코드
+     * @return 하위 트리의 카테고리 코드 (없는 카테고리면 빈 배열)
+     */
+    public int[] subtreeCodes(int categoryCode) {
+        int index = Arrays.binarySearch(codes, categoryCode);
+        if (index < 0) {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(preorder, subtreeStart[index], subtreeEnd[index]);
+    }
+
+    /**
+     * 최상위 카테고리부터 기준 카테고리의 바로 위 카테고리까지의 코드를 반환한다.
+     *
+     * @param categoryCode 기준 카테고리 코드
+     * @return 상위 카테고리 코드 (루트 → 부모 순서, 루트이거나 없는 카테고리면 빈 배열)
+     */
+    public int[] ancestorCodes(int categoryCode) {
+        int index = Arrays.binarySearch(codes, categoryCode);
+        if (index < 0) {
+            return new int[0];
+        }
+        int depth = 0;
+        for (int p = parent[index]; p != NONE; p = parent[p]) {
+            depth++;
+        }
+        int[] ancestors = new int[depth];
+        for (int p = parent[index]; p != NONE; p = parent[p]) {
+            ancestors[--depth] = codes[p];
+        }
+        return ancestors;
+    }
+
+    /**
+     * @return descendant가 ancestor 자신이거나 그 하위 카테고리인지 여부
+     */
+    public boolean isDescendant(int descendant, int ancestor) {
+        int d = Arrays.binarySearch(codes, descendant);
+        int a = Arrays.binarySearch(codes, ancestor);
+        if (d < 0 || a < 0) {
+            return false;
+        }
+        // 전위 순회 구간 포함 여부로 O(1)에 판단한다.
+        return subtreeStart[a] <= subtreeStart[d] && subtreeStart[d] < subtreeEnd[a];
+    }
+}
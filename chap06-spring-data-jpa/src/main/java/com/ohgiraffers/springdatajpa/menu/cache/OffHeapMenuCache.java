@@ -0,0 +1,189 @@
+package com.ohgiraffers.springdatajpa.menu.cache;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import com.ohgiraffers.springdatajpa.menu.event.MenuBatchCreatedEvent;
+import com.ohgiraffers.springdatajpa.menu.event.MenuBulkLoadedEvent;
+import com.ohgiraffers.springdatajpa.menu.event.MenuChangedEvent;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * tbl_menu 전체를 OffHeapMenuStore에 적재해 두고 menuCode 단건 조회를 DB 대신 처리하는 캐시.
+ * <p>
+ * - menu.offheap.enabled=true 일 때만 빈으로 등록된다. (기본값 false)
+ * - 애플리케이션 기동이 끝나면(ApplicationReadyEvent) 메뉴를 페이지 단위로 읽어 적재한다.
+ * - 이후 변경은 MenuEntityListener가 발행하는 MenuChangedEvent를 커밋 이후에 반영한다.
+ *   (커밋되지 않은 변경이 캐시에 남지 않도록 @TransactionalEventListener 사용)
+ * - 재적재는 새 저장소를 채운 뒤 참조만 교체한다. 채우는 동안 들어온 변경은 현재 저장소에 반영하면서 따로 모아 두었다가,
+ *   교체 직전에 새 저장소에도 같은 순서로 다시 적용한다. (DB를 읽은 시점 이후의 변경이 교체로 사라지지 않게 한다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "menu.offheap.enabled", havingValue = "true")
+public class OffHeapMenuCache {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final MenuRepository menuRepository;
+    private final int initialCapacity;
+
+    /* 변경 반영과 저장소 교체를 함께 잠가, 교체 직전에 들어온 변경이 이전 저장소에만 반영되는 일이 없게 한다. */
+    private final Object changeLock = new Object();
+    private List<MenuChangedEvent> changesDuringReload;   // 재적재 중일 때만 null이 아니다. (changeLock으로 보호)
+
+    private volatile OffHeapMenuStore store;
+    private volatile boolean loaded;
+
+    public OffHeapMenuCache(MenuRepository menuRepository,
+        @Value("${menu.offheap.initial-capacity:1024}") int initialCapacity) {
+        this.menuRepository = menuRepository;
+        this.initialCapacity = initialCapacity;
+        this.store = new OffHeapMenuStore(initialCapacity);
+    }
+
+    /**
+     * 기동 완료 시 아직 적재되지 않았다면 DB에서 적재한다.
+     * (CatalogSnapshotService가 스냅샷으로 먼저 채운 경우에는 건너뛴다.)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    /**
+     * tbl_menu를 menuCode 순으로 페이지 단위 조회하여 새 저장소에 적재한 뒤 교체한다.
+     * 한 번에 전체를 읽지 않으므로 메뉴가 많아도 힙에 엔티티가 한꺼번에 쌓이지 않는다.
+     */
+    public void reload() {
+        long start = System.nanoTime();
+        OffHeapMenuStore newStore = replaceStore(Math.max(initialCapacity, store.size()), target -> {
+            Page<Menu> page;
+            int pageNumber = 0;
+            do {
+                page = menuRepository.findAll(
+                    PageRequest.of(pageNumber++, LOAD_PAGE_SIZE, Sort.by("menuCode")));
+                page.forEach(menu -> target.put(toDTO(menu)));
+            } while (page.hasNext());
+        });
+        log.info("off-heap 메뉴 캐시 적재 완료 : {}건, {}bytes, {}ms", newStore.size(),
+            newStore.offHeapBytes(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 외부에서 준비한 메뉴 목록으로 저장소를 채운다. (예: 기동 시 스냅샷 파일에서 읽은 데이터)
+     */
+    public void loadFrom(Iterable<MenuDTO> menus) {
+        replaceStore(initialCapacity, target -> menus.forEach(target::put));
+    }
+
+    /* 재적재는 한 번에 하나만 실행한다. (기동 직후 스냅샷 적재와 백그라운드 재적재가 겹칠 수 있다) */
+    private synchronized OffHeapMenuStore replaceStore(int capacity, Consumer<OffHeapMenuStore> filler) {
+        synchronized (changeLock) {
+            changesDuringReload = new ArrayList<>();
+        }
+        OffHeapMenuStore newStore = new OffHeapMenuStore(capacity);
+        try {
+            filler.accept(newStore);
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                changesDuringReload = null;
+            }
+            throw e;
+        }
+        synchronized (changeLock) {
+            changesDuringReload.forEach(change -> apply(newStore, change));
+            changesDuringReload = null;
+            store = newStore;
+            loaded = true;
+        }
+        return newStore;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        synchronized (changeLock) {
+            apply(store, event);
+            if (changesDuringReload != null) {
+                changesDuringReload.add(event);
+            }
+        }
+    }
+
+    /* 묶음으로 등록된 메뉴는 잠금을 한 번만 잡고 등록 변경과 같은 방식으로 반영한다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuBatchCreated(MenuBatchCreatedEvent event) {
+        synchronized (changeLock) {
+            for (MenuDTO menu : event.getMenus()) {
+                MenuChangedEvent change = new MenuChangedEvent(MenuChangedEvent.Type.CREATED, menu);
+                apply(store, change);
+                if (changesDuringReload != null) {
+                    changesDuringReload.add(change);
+                }
+            }
+        }
+    }
+
+    /* 대량 적재된 메뉴는 적재 직전의 최대 menuCode 이후만 다시 읽어, 등록 변경과 같은 경로로 반영한다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuBulkLoaded(MenuBulkLoadedEvent event) {
+        int lastMenuCode = event.getAfterMenuCode();
+        List<Menu> page;
+        do {
+            page = menuRepository.findByMenuCodeGreaterThan(
+                lastMenuCode, PageRequest.of(0, LOAD_PAGE_SIZE, Sort.by("menuCode")));
+            for (Menu menu : page) {
+                onMenuChanged(new MenuChangedEvent(MenuChangedEvent.Type.CREATED, toDTO(menu)));
+                lastMenuCode = menu.getMenuCode();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+    }
+
+    private static void apply(OffHeapMenuStore target, MenuChangedEvent event) {
+        if (event.getType() == MenuChangedEvent.Type.DELETED) {
+            target.remove(event.getMenu().getMenuCode());
+        } else {
+            target.put(event.getMenu());
+        }
+    }
+
+    /**
+     * @param menuCode 메뉴 코드
+     * @return 캐시에 있는 메뉴 정보, 없거나 아직 적재 전이면 null
+     */
+    public MenuDTO get(int menuCode) {
+        return loaded ? store.get(menuCode) : null;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    private MenuDTO toDTO(Menu menu) {
+        MenuDTO menuDTO = new MenuDTO();
+        menuDTO.setMenuCode(menu.getMenuCode());
+        menuDTO.setMenuName(menu.getMenuName());
+        menuDTO.setMenuPrice(menu.getMenuPrice());
+        menuDTO.setCategoryCode(menu.getCategoryCode());
+        menuDTO.setOrderableStatus(menu.getOrderableStatus());
+        return menuDTO;
+    }
+}
@@ -0,0 +1,314 @@
+package com.ohgiraffers.springdatajpa.menu.cache;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * menuCode를 키로 메뉴 정보를 힙 바깥(off-heap) 메모리에 저장하는 고정 길이 레코드 저장소.
+ * <p>
+ * 구조:
+ * - 레코드 영역 : ByteBuffer.allocateDirect()로 할당한 direct 버퍼. 메뉴 1건 = RECORD_SIZE 바이트의 고정 길이 레코드
+ * - 인덱스 : menuCode → 레코드 번호를 저장하는 open addressing(선형 탐사) 해시 테이블. int[] 두 개로만 구성된다.
+ * <p>
+ * 메뉴 수가 늘어나도 힙에는 int 배열 두 개만 남고 객체는 생성되지 않으므로 GC 부담이 거의 없다.
+ * 조회 시에만 MenuDTO를 새로 만들어 반환한다.
+ * <p>
+ * 레코드 레이아웃 (bytes) :
+ * <pre>
+ * | menuCode(4) | menuPrice(4) | categoryCode(4) | orderableStatus(2) | nameLength(2) | menuName(UTF-8, NAME_BYTES) |
+ * </pre>
+ * menuName은 tbl_menu.menu_name(VARCHAR(30))의 한글 30자를 담을 수 있도록 90바이트를 확보한다.
+ * 이보다 긴 이름은 저장하지 않으며(put()이 false 반환), 호출 측은 DB 조회로 대체한다.
+ * <p>
+ * 읽기는 여러 스레드가 동시에, 쓰기는 한 번에 한 스레드만 수행하도록 ReentrantReadWriteLock으로 보호한다.
+ */
+public class OffHeapMenuStore {
+
+    static final int NAME_BYTES = 90;
+    static final int RECORD_SIZE = 4 + 4 + 4 + 2 + 2 + NAME_BYTES;
+
+    private static final int MENU_CODE_OFFSET = 0;
+    private static final int MENU_PRICE_OFFSET = 4;
+    private static final int CATEGORY_CODE_OFFSET = 8;
+    private static final int STATUS_OFFSET = 12;
+    private static final int NAME_LENGTH_OFFSET = 14;
+    private static final int NAME_OFFSET = 16;
+
+    /* direct 버퍼의 크기는 int 범위의 바이트 수로 제한되므로 레코드 수에도 상한이 있다. */
+    static final int MAX_RECORDS = Integer.MAX_VALUE / RECORD_SIZE;
+
+    /* menuCode는 AUTO_INCREMENT로 1부터 발급되므로 0과 음수를 빈 칸/삭제 표시로 사용할 수 있다. */
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private ByteBuffer records;
+    private int recordCapacity;
+    private int recordHighWater;        // 한 번이라도 사용된 레코드 번호의 상한
+    private int[] freeRecords = new int[16];
+    private int freeRecordCount;
+
+    private int[] indexKeys;
+    private int[] indexRecords;
+    private int indexUsed;              // EMPTY가 아닌 칸 수 (DELETED 포함)
+    private int size;
+
+    public OffHeapMenuStore(int initialCapacity) {
+        this.recordCapacity = Math.min(Math.max(16, initialCapacity), MAX_RECORDS);
+        this.records = ByteBuffer.allocateDirect(recordCapacity * RECORD_SIZE);
+        int indexCapacity = Integer.highestOneBit(recordCapacity * 2 - 1) << 1;
+        this.indexKeys = new int[indexCapacity];
+        this.indexRecords = new int[indexCapacity];
+    }
+
+    /**
+     * menuCode에 해당하는 메뉴를 조회한다.
+     *
+     * @param menuCode 메뉴 코드
+     * @return 저장된 메뉴 정보, 없으면 null
+     */
+    public MenuDTO get(int menuCode) {
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(menuCode);
+            return slot < 0 ? null : readRecord(indexRecords[slot]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(int menuCode) {
+        lock.readLock().lock();
+        try {
+            return findSlot(menuCode) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 메뉴를 저장하거나 같은 menuCode의 기존 레코드를 덮어쓴다.
+     *
+     * @param menu 저장할 메뉴
+     * @return 저장 여부 (menuCode가 0 이하이거나 메뉴명이 레코드 크기를 넘으면 false 반환)
+     * @throws IllegalStateException 저장된 메뉴 수가 MAX_RECORDS에 도달해 더 늘릴 수 없는 경우
+     */
+    public boolean put(MenuDTO menu) {
+        if (menu.getMenuCode() <= EMPTY) {
+            return false;
+        }
+        byte[] name = menu.getMenuName() == null
+            ? new byte[0]
+            : menu.getMenuName().getBytes(StandardCharsets.UTF_8);
+
+        lock.writeLock().lock();
+        try {
+            if (name.length > NAME_BYTES) {
+                removeInternal(menu.getMenuCode());
+                return false;
+            }
+
+            int slot = findSlot(menu.getMenuCode());
+            int record;
+            if (slot >= 0) {
+                record = indexRecords[slot];
+            } else {
+                record = allocateRecord();
+                insertIndex(menu.getMenuCode(), record);
+                size++;
+            }
+            writeRecord(record, menu, name);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * menuCode에 해당하는 메뉴를 제거한다.
+     *
+     * @return 제거 여부
+     */
+    public boolean remove(int menuCode) {
+        lock.writeLock().lock();
+        try {
+            return removeInternal(menuCode);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 메뉴를 모두 비운다. 할당된 direct 버퍼는 재사용한다.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(indexKeys, EMPTY);
+            indexUsed = 0;
+            size = 0;
+            recordHighWater = 0;
+            freeRecordCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 힙 바깥에 할당된 레코드 영역 크기 (bytes)
+     */
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) recordCapacity * RECORD_SIZE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /* ---------- 인덱스 (open addressing, linear probing) ---------- */
+
+    private static int hash(int menuCode) {
+        int h = menuCode * 0x9E3779B9;   // 피보나치 해싱으로 연속된 코드도 고르게 분산
+        return h ^ (h >>> 16);
+    }
+
+    /** @return menuCode가 저장된 인덱스 칸 번호, 없으면 -1 */
+    private int findSlot(int menuCode) {
+        if (menuCode <= EMPTY) {
+            return -1;
+        }
+        int mask = indexKeys.length - 1;
+        int slot = hash(menuCode) & mask;
+        while (true) {
+            int key = indexKeys[slot];
+            if (key == menuCode) {
+                return slot;
+            }
+            if (key == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insertIndex(int menuCode, int record) {
+        if ((indexUsed + 1) * 2 > indexKeys.length) {
+            // 살아있는 키 때문에 찼다면 두 배로 늘리고, 삭제 표시 때문이라면 같은 크기로 정리만 한다.
+            rehash((size + 1) * 4 > indexKeys.length ? indexKeys.length * 2 : indexKeys.length);
+        }
+        int mask = indexKeys.length - 1;
+        int slot = hash(menuCode) & mask;
+        while (indexKeys[slot] != EMPTY && indexKeys[slot] != DELETED) {
+            slot = (slot + 1) & mask;
+        }
+        if (indexKeys[slot] == EMPTY) {
+            indexUsed++;
+        }
+        indexKeys[slot] = menuCode;
+        indexRecords[slot] = record;
+    }
+
+    /* 삭제 표시(DELETED)가 쌓이면 탐색이 길어지므로, 같은 크기로라도 다시 배치해 정리한다. */
+    private void rehash(int newCapacity) {
+        int[] oldKeys = indexKeys;
+        int[] oldRecords = indexRecords;
+        indexKeys = new int[newCapacity];
+        indexRecords = new int[newCapacity];
+        indexUsed = 0;
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != EMPTY && key != DELETED) {
+                int slot = hash(key) & mask;
+                while (indexKeys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                indexKeys[slot] = key;
+                indexRecords[slot] = oldRecords[i];
+                indexUsed++;
+            }
+        }
+    }
+
+    private boolean removeInternal(int menuCode) {
+        int slot = findSlot(menuCode);
+        if (slot < 0) {
+            return false;
+        }
+        releaseRecord(indexRecords[slot]);
+        indexKeys[slot] = DELETED;
+        size--;
+        return true;
+    }
+
+    /* ---------- 레코드 영역 ---------- */
+
+    private int allocateRecord() {
+        if (freeRecordCount > 0) {
+            return freeRecords[--freeRecordCount];
+        }
+        if (recordHighWater == recordCapacity) {
+            growRecords();
+        }
+        return recordHighWater++;
+    }
+
+    private void releaseRecord(int record) {
+        if (freeRecordCount == freeRecords.length) {
+            freeRecords = Arrays.copyOf(freeRecords, freeRecords.length * 2);
+        }
+        freeRecords[freeRecordCount++] = record;
+    }
+
+    private void growRecords() {
+        if (recordCapacity == MAX_RECORDS) {
+            throw new IllegalStateException("off-heap 메뉴 저장소에 더 이상 레코드를 추가할 수 없습니다. (최대 " + MAX_RECORDS + "건)");
+        }
+        int newCapacity = (int) Math.min((long) recordCapacity * 2, MAX_RECORDS);
+        ByteBuffer newRecords = ByteBuffer.allocateDirect(newCapacity * RECORD_SIZE);
+        ByteBuffer used = records.duplicate();
+        used.clear().limit(recordHighWater * RECORD_SIZE);
+        newRecords.put(used);
+        records = newRecords;
+        recordCapacity = newCapacity;
+    }
+
+    private void writeRecord(int record, MenuDTO menu, byte[] name) {
+        int base = record * RECORD_SIZE;
+        records.putInt(base + MENU_CODE_OFFSET, menu.getMenuCode());
+        records.putInt(base + MENU_PRICE_OFFSET, menu.getMenuPrice());
+        records.putInt(base + CATEGORY_CODE_OFFSET, menu.getCategoryCode());
+        records.putChar(base + STATUS_OFFSET, menu.getOrderableStatus());
+        records.putShort(base + NAME_LENGTH_OFFSET, (short) name.length);
+        records.put(base + NAME_OFFSET, name);
+    }
+
+    private MenuDTO readRecord(int record) {
+        int base = record * RECORD_SIZE;
+        byte[] name = new byte[records.getShort(base + NAME_LENGTH_OFFSET)];
+        records.get(base + NAME_OFFSET, name);
+
+        MenuDTO menu = new MenuDTO();
+        menu.setMenuCode(records.getInt(base + MENU_CODE_OFFSET));
+        menu.setMenuPrice(records.getInt(base + MENU_PRICE_OFFSET));
+        menu.setCategoryCode(records.getInt(base + CATEGORY_CODE_OFFSET));
+        menu.setOrderableStatus(records.getChar(base + STATUS_OFFSET));
+        menu.setMenuName(new String(name, StandardCharsets.UTF_8));
+        return menu;
+    }
+}
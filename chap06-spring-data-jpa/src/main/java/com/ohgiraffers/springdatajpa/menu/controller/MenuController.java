@@ -2,16 +2,17 @@ package com.ohgiraffers.springdatajpa.menu.controller;
 
 import com.ohgiraffers.springdatajpa.common.Pagenation;
 import com.ohgiraffers.springdatajpa.common.PagingButton;
+import com.ohgiraffers.springdatajpa.common.SampledRequestLogger;
 import com.ohgiraffers.springdatajpa.menu.dto.CategoryDTO;
 import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.service.MenuOrderCounterService;
 import com.ohgiraffers.springdatajpa.menu.service.MenuService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.Banner.Mode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -23,7 +24,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-@Slf4j // 로그 출력을 위한 Lombok 어노테이션 (log.info 등 사용 가능)
 @Controller
 @RequestMapping("/menu")
 @RequiredArgsConstructor  // final 필드에 대한 생성자를 자동 생성 (의존성 주입 간소화)
@@ -32,6 +32,12 @@ public class MenuController {
     // 비즈니스 로직을 처리할 서비스 객체 주입
     private final MenuService menuService;
 
+    // 표본 추출 요청 로거
+    private final SampledRequestLogger requestLogger;
+
+    // 메뉴별 주문 수 집계 서비스
+    private final MenuOrderCounterService menuOrderCounterService;
+
     /**
      * 단건 메뉴 조회 기능
      *
@@ -45,9 +51,29 @@ public class MenuController {
         MenuDTO resultMenu = menuService.findMenuByMenuCode(menuCode);
         model.addAttribute("menu", resultMenu);
 
+        requestLogger.count("menu.detail");
+
         return "menu/detail";
     }
 
+    /**
+     * 여러 메뉴를 한 번에 조회 (예: /menu?codes=1,2,3)
+     * - 메뉴마다 /menu/{menuCode}를 호출하는 대신 한 번의 요청/조회로 처리한다.
+     *
+     * @param codes 조회할 메뉴 코드 목록 (쉼표로 구분)
+     * @return 요청한 순서대로 정렬된 메뉴 목록 (존재하지 않는 코드는 제외), 코드 수가 menu.multi-get.max-codes를 넘으면 400
+     */
+    @GetMapping(params = "codes")
+    @ResponseBody
+    public ResponseEntity<List<MenuDTO>> findMenusByCodes(@RequestParam List<Integer> codes) {
+        requestLogger.info("menu.multi-get", () -> "codes=" + codes.size());
+        try {
+            return ResponseEntity.ok(menuService.findMenusByMenuCodes(codes));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // 페이징 처리 이전의 전체 메뉴 리스트 조회 (주석 처리된 버전)
     /*
     @GetMapping("/list")
@@ -68,21 +94,16 @@ public class MenuController {
     @GetMapping("/list")
     public String findMenuList(Model model, @PageableDefault Pageable pageable) {
 
-        log.info("pageable : {}", pageable);  // 요청된 페이지 정보 로그
-
         // 메뉴 목록 조회 (Page<MenuDTO> 반환)
         Page<MenuDTO> menuList = menuService.findMenuList(pageable);
 
-        // 조회 결과에 대한 메타데이터 로깅
-        log.info("조회한 내용 목록 : {}", menuList.getContent());
-        log.info("총 페이지 수 : {}", menuList.getTotalPages());
-        log.info("총 메뉴 수 : {}", menuList.getTotalElements());
-        log.info("해당 페이지에 표시 될 요소 수 : {}", menuList.getSize());
-        log.info("해당 페이지에 실제 요소 수:{}", menuList.getNumberOfElements());
-        log.info("첫 페이지 여부 : {}", menuList.isFirst());
-        log.info("마지막 페이지 여부 : {}", menuList.isLast());
-        log.info("정렬 방식 : {}", menuList.getSort());
-        log.info("여러 페이지 중 현재 인덱스 : {}", menuList.getNumber());
+        // 조회 결과는 내용 대신 페이지 요약만, 표본으로 뽑힌 요청에서만 로그로 남긴다.
+        requestLogger.info("menu.list", () -> "page=" + menuList.getNumber()
+            + " size=" + menuList.getSize()
+            + " elements=" + menuList.getNumberOfElements()
+            + " totalElements=" + menuList.getTotalElements()
+            + " totalPages=" + menuList.getTotalPages()
+            + " sort=" + menuList.getSort());
 
         // 페이지 버튼 정보 계산 (시작/끝 페이지 등)
         PagingButton paging = Pagenation.getPagingButtonInfo(menuList);
@@ -102,6 +123,9 @@ public class MenuController {
     public String findByMenuPrice(@RequestParam Integer menuPrice, Model model) {
         List<MenuDTO> menuList = menuService.findByMenuPrice(menuPrice);
         model.addAttribute("menuList", menuList);
+
+        requestLogger.info("menu.search",
+            () -> "menuPrice=" + menuPrice + " results=" + menuList.size());
         return "menu/searchResult";
     }
 
@@ -115,9 +139,17 @@ public class MenuController {
         return menuService.findAllCategory();
     }
 
+    /**
+     * 메뉴 등록. 존재하지 않는 카테고리 등 잘못된 입력이면 오류 메시지와 함께 등록 화면으로 돌아간다.
+     */
     @PostMapping("/regist")
-    public String registMenu(@ModelAttribute MenuDTO menuDTO) {
-        menuService.registMenu(menuDTO);
+    public String registMenu(@ModelAttribute MenuDTO menuDTO, RedirectAttributes redirectAttributes) {
+        try {
+            menuService.registMenu(menuDTO);
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("message", e.getMessage());
+            return "redirect:/menu/regist";
+        }
         return "redirect:/menu/list";
     }
 
@@ -131,6 +163,26 @@ public class MenuController {
         return "redirect:/menu/" + menuDTO.getMenuCode();
     }
 
+    /**
+     * 메뉴 주문 수 증가 (메모리에 집계한 뒤 주기적으로 DB에 반영된다.)
+     * 존재하지 않는 메뉴면 404를 반환한다.
+     */
+    @PostMapping("/{menuCode}/order")
+    public ResponseEntity<Void> orderMenu(@PathVariable int menuCode) {
+        try {
+            menuOrderCounterService.increment(menuCode);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/{menuCode}/order-count")
+    @ResponseBody
+    public long findOrderCount(@PathVariable int menuCode) {
+        return menuOrderCounterService.getOrderCount(menuCode);
+    }
+
     @GetMapping("/delete")
     public void deletePage() {
     }
@@ -0,0 +1,45 @@
+package com.ohgiraffers.springdatajpa.menu.controller;
+
+import com.ohgiraffers.springdatajpa.menu.dto.CategoryDTO;
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.service.MenuReactiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 메뉴 조회 API의 리액티브 버전.
+ * <p>
+ * Spring MVC는 Mono/Flux 반환값을 비동기 응답으로 처리하므로, 조회가 끝날 때까지 서블릿 요청 스레드를 붙잡지 않는다.
+ * 목록은 application/x-ndjson(줄 단위 JSON)으로 한 건씩 흘려보내므로, 클라이언트는 전체 목록을 기다리지 않고 바로 읽기 시작할 수 있다.
+ */
+@RestController
+@RequestMapping("/reactive/menu")
+@RequiredArgsConstructor
+public class MenuReactiveController {
+
+    private final MenuReactiveService menuReactiveService;
+
+    @GetMapping("/{menuCode}")
+    public Mono<ResponseEntity<MenuDTO>> findMenuByCode(@PathVariable int menuCode) {
+        return menuReactiveService.findMenuByMenuCode(menuCode)
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<MenuDTO> streamMenuList() {
+        return menuReactiveService.streamMenuList();
+    }
+
+    @GetMapping("/category")
+    public Flux<CategoryDTO> findCategoryList() {
+        return menuReactiveService.findAllCategory();
+    }
+}
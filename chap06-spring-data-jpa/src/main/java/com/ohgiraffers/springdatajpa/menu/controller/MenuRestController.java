@@ -0,0 +1,252 @@
+package com.ohgiraffers.springdatajpa.menu.controller;
+
+import com.ohgiraffers.springdatajpa.common.WeakETag;
+import com.ohgiraffers.springdatajpa.menu.dto.CategoryDTO;
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.dto.MenuSearchCondition;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuIndexAdvisor;
+import com.ohgiraffers.springdatajpa.menu.service.CategoryTreeService;
+import com.ohgiraffers.springdatajpa.menu.service.MenuService;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 메뉴 조회 JSON REST API.
+ * <p>
+ * Thymeleaf 화면(MenuController)과 같은 서비스를 사용하되, 조건부 GET을 지원한다.
+ * - 응답마다 본문 데이터로 계산한 약한 ETag를 내려준다.
+ * - 클라이언트가 다음 요청에 If-None-Match로 같은 ETag를 보내면, 본문 없이 304 Not Modified로 응답한다.
+ *   (ResponseEntity에 ETag가 있으면 Spring MVC가 If-None-Match와 비교해 자동으로 304를 만든다.)
+ *   조회 자체는 수행하지만 JSON 직렬화와 전송 비용이 사라진다.
+ * - 자주 바뀌지 않는 카테고리 목록은 Cache-Control max-age를 주어, 그 시간 동안은 요청 자체가 오지 않도록 한다.
+ */
+@RestController
+@RequestMapping("/api/menu")
+public class MenuRestController {
+
+    private final MenuService menuService;
+    private final MenuIndexAdvisor menuIndexAdvisor;
+    private final CategoryTreeService categoryTreeService;
+    private final CacheControl categoryCacheControl;
+
+    public MenuRestController(MenuService menuService, MenuIndexAdvisor menuIndexAdvisor,
+        CategoryTreeService categoryTreeService,
+        @Value("${menu.api.category-max-age:10m}") Duration categoryMaxAge) {
+        this.menuService = menuService;
+        this.menuIndexAdvisor = menuIndexAdvisor;
+        this.categoryTreeService = categoryTreeService;
+        this.categoryCacheControl = CacheControl.maxAge(categoryMaxAge).cachePublic();
+    }
+
+    /**
+     * 메뉴 단건 조회
+     *
+     * @return 메뉴 정보 (존재하지 않으면 404)
+     */
+    @GetMapping("/{menuCode}")
+    public ResponseEntity<MenuDTO> findMenuByCode(@PathVariable int menuCode) {
+        MenuDTO menu;
+        try {
+            menu = menuService.findMenuByMenuCode(menuCode);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+            .eTag(addMenu(new WeakETag(), menu).toString())
+            .body(menu);
+    }
+
+    /**
+     * 페이징 처리된 메뉴 목록 조회 (page는 화면과 마찬가지로 1부터 시작한다.)
+     */
+    @GetMapping
+    public ResponseEntity<PagedModel<MenuDTO>> findMenuList(@PageableDefault Pageable pageable) {
+        Page<MenuDTO> menuList = menuService.findMenuList(pageable);
+
+        WeakETag eTag = new WeakETag()
+            .add(menuList.getNumber())
+            .add(menuList.getSize())
+            .add(menuList.getTotalElements());
+        menuList.forEach(menu -> addMenu(eTag, menu));
+
+        return ResponseEntity.ok()
+            .eTag(eTag.toString())
+            .body(new PagedModel<>(menuList));
+    }
+
+    /**
+     * 전달받은 가격보다 비싼 메뉴 목록 조회
+     */
+    @GetMapping(value = "/search", params = "menuPrice")
+    public ResponseEntity<List<MenuDTO>> findByMenuPrice(@RequestParam Integer menuPrice) {
+        List<MenuDTO> menuList = menuService.findByMenuPrice(menuPrice);
+
+        WeakETag eTag = new WeakETag().add(menuList.size());
+        menuList.forEach(menu -> addMenu(eTag, menu));
+
+        return ResponseEntity.ok()
+            .eTag(eTag.toString())
+            .body(menuList);
+    }
+
+    /**
+     * 가격 범위 조회 (예: /api/menu/price?min=10000&max=20000&order=desc&limit=20)
+     * - min/max는 생략할 수 있으며(초과/미만 조회), order는 asc(기본) 또는 desc.
+     */
+    @GetMapping("/price")
+    public ResponseEntity<List<MenuDTO>> findByMenuPriceRange(
+        @RequestParam(required = false) Integer min,
+        @RequestParam(required = false) Integer max,
+        @RequestParam(defaultValue = "asc") String order,
+        @RequestParam(defaultValue = "20") int limit) {
+        List<MenuDTO> menuList = menuService.findByMenuPriceRange(
+            min, max, "desc".equalsIgnoreCase(order), Math.min(Math.max(limit, 1), 1000));
+
+        WeakETag eTag = new WeakETag().add(menuList.size());
+        menuList.forEach(menu -> addMenu(eTag, menu));
+
+        return ResponseEntity.ok()
+            .eTag(eTag.toString())
+            .body(menuList);
+    }
+
+    /**
+     * 동적 조건 검색 (예: /api/menu/filter?categoryCodes=4,5&minPrice=10000&orderableStatus=Y&sort=menuPrice&direction=desc)
+     * - 키셋 페이징은 afterMenuCode에 이전 응답의 마지막 menuCode를 전달한다.
+     * - 다음 페이지 존재 여부는 X-Has-Next, 전체 건수(OFFSET 페이징인 경우)는 X-Total-Count 헤더로 전달한다.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<List<MenuDTO>> searchMenus(@ModelAttribute MenuSearchCondition condition) {
+        Slice<MenuDTO> result;
+        try {
+            result = menuService.searchMenus(condition);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .header("X-Has-Next", String.valueOf(result.hasNext()));
+        if (result instanceof Page<MenuDTO> page) {
+            response.header("X-Total-Count", String.valueOf(page.getTotalElements()));
+        }
+        return response.body(result.getContent());
+    }
+
+    /**
+     * 동적 검색에서 자주 사용된 조건 조합에 맞는 인덱스 DDL 추천
+     */
+    @GetMapping("/filter/index-advice")
+    public List<String> recommendIndexes(@RequestParam(defaultValue = "5") int limit) {
+        return menuIndexAdvisor.recommendIndexes(limit);
+    }
+
+    /**
+     * 메뉴명 검색 (예: /api/menu/search?keyword=마늘)
+     * - 메모리 역색인으로 검색하며, 결과는 완전 일치 → 앞부분 일치 → 짧은 이름 순으로 정렬된다.
+     */
+    @GetMapping(value = "/search", params = "keyword")
+    public ResponseEntity<List<MenuDTO>> searchMenuByName(@RequestParam String keyword,
+        @RequestParam(defaultValue = "20") int limit) {
+        List<MenuDTO> menuList = menuService.searchMenuByName(keyword, Math.min(Math.max(limit, 1), 100));
+
+        WeakETag eTag = new WeakETag().add(keyword).add(menuList.size());
+        menuList.forEach(menu -> addMenu(eTag, menu));
+
+        return ResponseEntity.ok()
+            .eTag(eTag.toString())
+            .body(menuList);
+    }
+
+    /**
+     * 메뉴명 자동완성 (예: /api/menu/autocomplete?prefix=달)
+     * - 입력 중인 글자도 자모 단위로 비교하므로 "달"에서 "닭갈비"가 검색된다.
+     * - 입력할 때마다 호출되므로 ETag 없이 짧은 시간 캐시를 허용한다.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<MenuDTO>> autocompleteMenuName(@RequestParam String prefix,
+        @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(Duration.ofSeconds(30)))
+            .body(menuService.autocompleteMenuName(prefix, Math.min(Math.max(limit, 1), 50)));
+    }
+
+    /**
+     * 카테고리와 그 하위 카테고리 전체에 속한 메뉴 조회 (예: /api/menu/category/1/menus?afterMenuCode=20&size=20)
+     * - 키셋 페이징으로 조회하며, 다음 페이지는 afterMenuCode에 이전 응답의 마지막 menuCode를 전달한다.
+     * - 다음 페이지 존재 여부는 X-Has-Next 헤더로 전달한다.
+     */
+    @GetMapping("/category/{categoryCode}/menus")
+    public ResponseEntity<List<MenuDTO>> findMenusUnderCategory(@PathVariable int categoryCode,
+        @RequestParam(defaultValue = "0") int afterMenuCode, @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        Slice<MenuDTO> result;
+        try {
+            result = menuService.findMenusUnderCategory(categoryCode, afterMenuCode, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+            .header("X-Has-Next", String.valueOf(result.hasNext()))
+            .body(result.getContent());
+    }
+
+    /**
+     * 최상위 카테고리부터 해당 카테고리까지의 경로 조회 (예: /api/menu/category/4/path)
+     */
+    @GetMapping("/category/{categoryCode}/path")
+    public ResponseEntity<List<CategoryDTO>> findCategoryPath(@PathVariable int categoryCode) {
+        try {
+            return ResponseEntity.ok()
+                .cacheControl(categoryCacheControl)
+                .body(categoryTreeService.findCategoryPath(categoryCode));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 카테고리 목록 조회 (Cache-Control로 브라우저/프록시 캐시를 허용한다.)
+     */
+    @GetMapping("/category")
+    public ResponseEntity<List<CategoryDTO>> findCategoryList() {
+        List<CategoryDTO> categoryList = menuService.findAllCategory();
+
+        WeakETag eTag = new WeakETag().add(categoryList.size());
+        for (CategoryDTO category : categoryList) {
+            eTag.add(category.getCategoryCode())
+                .add(category.getCategoryName())
+                .add(category.getRefCategoryCode() == null ? -1 : category.getRefCategoryCode());
+        }
+
+        return ResponseEntity.ok()
+            .cacheControl(categoryCacheControl)
+            .eTag(eTag.toString())
+            .body(categoryList);
+    }
+
+    /* 응답에 포함되는 메뉴 필드를 모두 해시에 반영한다. */
+    private static WeakETag addMenu(WeakETag eTag, MenuDTO menu) {
+        return eTag.add(menu.getMenuCode())
+            .add(menu.getMenuName())
+            .add(menu.getMenuPrice())
+            .add(menu.getCategoryCode())
+            .add(menu.getOrderableStatus());
+    }
+}
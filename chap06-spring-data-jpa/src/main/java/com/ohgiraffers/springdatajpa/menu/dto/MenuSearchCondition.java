@@ -0,0 +1,32 @@
+package com.ohgiraffers.springdatajpa.menu.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 메뉴 동적 검색 조건. 값이 있는(null이 아닌) 조건만 WHERE 절에 포함된다.
+ * <p>
+ * 페이징은 두 가지 방식을 지원한다.
+ * - page/size : OFFSET 페이징 (전체 건수 포함)
+ * - afterMenuCode/size : 키셋 페이징. 이전 결과의 마지막 menuCode 이후부터 menuCode 오름차순으로 조회한다. (다른 sort/direction은 거부)
+ */
+@Getter
+@Setter
+@ToString
+public class MenuSearchCondition {
+
+    private List<Integer> categoryCodes;    // 카테고리 코드 (IN)
+    private Integer minPrice;               // 최소 가격 (포함)
+    private Integer maxPrice;               // 최대 가격 (포함)
+    private Character orderableStatus;      // 주문 가능 여부 (Y/N)
+    private String namePrefix;              // 메뉴명 접두어 (LIKE '접두어%')
+
+    private String sort = "menuCode";       // 정렬 기준 : menuCode, menuPrice, menuName
+    private String direction = "asc";       // 정렬 방향 : asc, desc
+
+    private int page = 1;                   // 1부터 시작
+    private int size = 20;
+    private Integer afterMenuCode;          // 키셋 페이징 시작 위치
+}
@@ -1,16 +1,20 @@
 package com.ohgiraffers.springdatajpa.menu.entity;
 
+import com.ohgiraffers.springdatajpa.menu.event.MenuEntityListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "tbl_menu")
+@EntityListeners(MenuEntityListener.class) // 등록/수정/삭제 시 MenuChangedEvent 발행 (캐시/인덱스 동기화용)
 @Getter
 // Lombok 어노테이션: 모든 필드에 대해 Getter 메서드를 자동 생성한다.
 // → 객체의 상태를 외부에서 확인할 수는 있지만, 직접 변경은 불가능하도록 하여 불변성을 유지한다.
@@ -39,6 +43,14 @@ public class Menu {
     private int categoryCode;
     private char orderableStatus;
 
+    /* 낙관적 락(optimistic lock)용 버전 컬럼.
+     * - 수정 시 "UPDATE ... WHERE menu_code = ? AND version = ?"로 실행되고 버전이 1 증가한다.
+     * - 그 사이 다른 트랜잭션이 먼저 수정했다면 갱신된 행이 0건이 되어 ObjectOptimisticLockingFailureException이 발생한다.
+     *   → 같은 행을 동시에 수정할 때 나중 커밋이 앞선 수정을 조용히 덮어쓰는(lost update) 문제를 막는다.
+     * - 컬럼은 db/menu-version.sql로 한 번 추가한다. (init-schema 프로필) */
+    @Version
+    private int version;
+
 
     public void modifyMenuName(String menuName) {
         this.menuName = menuName;
@@ -0,0 +1,22 @@
+package com.ohgiraffers.springdatajpa.menu.event;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 여러 메뉴가 한 트랜잭션에서 함께 등록되었음을 알리는 애플리케이션 이벤트. (MenuBulkImportService의 묶음 등록)
+ * <p>
+ * 행마다 MenuChangedEvent를 발행하면 구독자가 색인을 한 건씩 고치게 되므로,
+ * 커밋된 묶음을 한 번에 넘겨 구독자가 한 번에 반영(putAll 등)할 수 있게 한다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class MenuBatchCreatedEvent {
+
+    private final List<MenuDTO> menus;
+
+}
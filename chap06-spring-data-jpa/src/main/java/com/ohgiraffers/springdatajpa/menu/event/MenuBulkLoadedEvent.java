@@ -0,0 +1,23 @@
+package com.ohgiraffers.springdatajpa.menu.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 메뉴가 대량 적재(MenuBulkLoader)로 등록되었음을 알리는 애플리케이션 이벤트.
+ * <p>
+ * 대량 적재는 JPA를 거치지 않아 행마다 MenuChangedEvent가 발행되지 않고, 생성된 menuCode도 알 수 없다.
+ * 대신 menu_code는 AUTO_INCREMENT로 계속 커지므로, 적재 직전의 최대 menuCode(afterMenuCode)보다 큰 행을
+ * 다시 읽으면 새로 등록된 메뉴를 모두 찾을 수 있다.
+ * (그 사이 일반 등록된 메뉴가 함께 읽혀도 같은 값을 다시 반영할 뿐이다)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class MenuBulkLoadedEvent {
+
+    private final int afterMenuCode;
+    private final int count;
+
+}
@@ -0,0 +1,28 @@
+package com.ohgiraffers.springdatajpa.menu.event;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Menu 엔티티가 등록/수정/삭제되었음을 알리는 애플리케이션 이벤트.
+ * <p>
+ * MenuEntityListener가 JPA 생명주기 콜백에서 발행하며, 메모리에 메뉴 데이터를 들고 있는 컴포넌트(캐시, 인덱스 등)는
+ * 이 이벤트를 구독하여 DB와 동기화한다.
+ * <p>
+ * 엔티티 자체가 아닌 MenuDTO 복사본을 담아, 구독자가 영속 상태의 엔티티를 건드리지 않도록 한다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class MenuChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final MenuDTO menu;
+
+}
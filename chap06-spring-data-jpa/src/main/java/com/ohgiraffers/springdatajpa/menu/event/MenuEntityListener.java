@@ -0,0 +1,54 @@
+package com.ohgiraffers.springdatajpa.menu.event;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Menu 엔티티의 JPA 생명주기 콜백을 받아 MenuChangedEvent로 변환해 발행하는 엔티티 리스너.
+ * <p>
+ * - Spring Boot는 Hibernate의 BeanContainer로 스프링 컨테이너를 등록하므로, 엔티티 리스너도 생성자 주입을 받을 수 있다.
+ * - 콜백은 flush 시점(INSERT/UPDATE/DELETE SQL 실행 직후)에 호출되며, 트랜잭션 커밋 전이다.
+ *   구독자는 @TransactionalEventListener를 사용해 커밋된 변경만 반영하도록 한다.
+ */
+public class MenuEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MenuEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void afterPersist(Menu menu) {
+        publish(MenuChangedEvent.Type.CREATED, menu);
+    }
+
+    @PostUpdate
+    public void afterUpdate(Menu menu) {
+        publish(MenuChangedEvent.Type.UPDATED, menu);
+    }
+
+    @PostRemove
+    public void afterRemove(Menu menu) {
+        publish(MenuChangedEvent.Type.DELETED, menu);
+    }
+
+    private void publish(MenuChangedEvent.Type type, Menu menu) {
+        eventPublisher.publishEvent(new MenuChangedEvent(type, toDTO(menu)));
+    }
+
+    /* 리스너는 콜백마다 호출되므로 ModelMapper 대신 필드를 직접 복사한다. */
+    private MenuDTO toDTO(Menu menu) {
+        MenuDTO menuDTO = new MenuDTO();
+        menuDTO.setMenuCode(menu.getMenuCode());
+        menuDTO.setMenuName(menu.getMenuName());
+        menuDTO.setMenuPrice(menu.getMenuPrice());
+        menuDTO.setCategoryCode(menu.getCategoryCode());
+        menuDTO.setOrderableStatus(menu.getOrderableStatus());
+        return menuDTO;
+    }
+}
@@ -0,0 +1,127 @@
+package com.ohgiraffers.springdatajpa.menu.repository;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuSearchCondition;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동적 검색에서 실제로 사용된 조건 조합을 집계하여, 그 조합에 맞는 tbl_menu 복합 인덱스 DDL을 추천한다.
+ * <p>
+ * 복합 인덱스의 컬럼 순서는 ESR 규칙을 따른다.
+ * 1. Equality : 동등 조건 컬럼 (orderable_status =, category_code IN)
+ * 2. Sort     : 정렬 컬럼 (인덱스 순서대로 읽으면 filesort가 필요 없다)
+ * 3. Range    : 범위 조건 컬럼 (menu_price BETWEEN, menu_name LIKE 'x%') - 범위 컬럼 뒤의 컬럼은 인덱스 탐색에 쓰이지 않으므로 하나만 둔다.
+ * <p>
+ * menu_code는 PK이며 InnoDB 보조 인덱스에는 PK가 자동으로 포함되므로 인덱스 컬럼으로 추천하지 않는다.
+ * 추천 결과는 사용 빈도순이며, 이미 추천한 인덱스의 앞부분과 같은 조합은 그 인덱스로 처리되므로 제외한다.
+ */
+@Component
+public class MenuIndexAdvisor {
+
+    private static final String PRIMARY_KEY = "menu_code";
+
+    private final Map<List<String>, LongAdder> usage = new ConcurrentHashMap<>();
+
+    /**
+     * 검색 조건의 조합을 한 번 집계한다.
+     *
+     * @param condition    검색 조건
+     * @param sortProperty 실제로 적용된 정렬 기준 (엔티티 필드명)
+     */
+    public void record(MenuSearchCondition condition, String sortProperty) {
+        List<String> columns = indexColumns(condition, sortProperty);
+        if (columns.isEmpty()) {
+            return;
+        }
+        usage.computeIfAbsent(columns, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 조건 조합에 맞는 인덱스 컬럼 순서를 계산한다. (Equality → Sort → Range)
+     */
+    static List<String> indexColumns(MenuSearchCondition condition, String sortProperty) {
+        List<String> columns = new ArrayList<>();
+
+        // Equality : 선택도가 낮은(값 종류가 적은) 단일 값 조건을 먼저, IN 목록은 그 뒤에 둔다.
+        if (condition.getOrderableStatus() != null) {
+            columns.add("orderable_status");
+        }
+        if (condition.getCategoryCodes() != null && !condition.getCategoryCodes().isEmpty()) {
+            columns.add("category_code");
+        }
+
+        // Sort
+        String sortColumn = toColumn(sortProperty);
+        if (!PRIMARY_KEY.equals(sortColumn) && !columns.contains(sortColumn)) {
+            columns.add(sortColumn);
+        }
+
+        // Range : 범위 컬럼은 하나만 인덱스 탐색에 쓰이므로 가격 조건을 우선한다.
+        String rangeColumn = null;
+        if (condition.getMinPrice() != null || condition.getMaxPrice() != null) {
+            rangeColumn = "menu_price";
+        } else if (condition.getNamePrefix() != null && !condition.getNamePrefix().isBlank()) {
+            rangeColumn = "menu_name";
+        }
+        if (rangeColumn != null && !columns.contains(rangeColumn)) {
+            columns.add(rangeColumn);
+        }
+        return List.copyOf(columns);
+    }
+
+    private static String toColumn(String property) {
+        return switch (property) {
+            case "menuPrice" -> "menu_price";
+            case "menuName" -> "menu_name";
+            case "categoryCode" -> "category_code";
+            case "orderableStatus" -> "orderable_status";
+            default -> PRIMARY_KEY;
+        };
+    }
+
+    /**
+     * 자주 사용된 조건 조합에 맞는 인덱스 생성 DDL을 추천한다.
+     *
+     * @param limit 최대 추천 수
+     * @return CREATE INDEX 문 목록 (사용 횟수 주석 포함)
+     */
+    public List<String> recommendIndexes(int limit) {
+        List<Map.Entry<List<String>, Long>> ranked = new ArrayList<>();
+        usage.forEach((columns, count) -> ranked.add(Map.entry(columns, count.sum())));
+        ranked.sort(Map.Entry.<List<String>, Long>comparingByValue().reversed()
+            .thenComparing(entry -> String.join(",", entry.getKey()), Comparator.naturalOrder()));
+
+        List<List<String>> chosen = new ArrayList<>();
+        List<String> ddl = new ArrayList<>();
+        for (Map.Entry<List<String>, Long> entry : ranked) {
+            if (ddl.size() >= limit) {
+                break;
+            }
+            List<String> columns = entry.getKey();
+            boolean covered = chosen.stream().anyMatch(index ->
+                index.size() >= columns.size() && index.subList(0, columns.size()).equals(columns));
+            if (covered) {
+                continue;
+            }
+            chosen.add(columns);
+            ddl.add("CREATE INDEX idx_menu_" + String.join("_", columns)
+                + " ON tbl_menu (" + String.join(", ", columns) + "); -- " + entry.getValue() + "회 사용");
+        }
+        return ddl;
+    }
+
+    /**
+     * @return 조건 조합(인덱스 컬럼 순서)별 사용 횟수
+     */
+    public Map<String, Long> getUsage() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        usage.forEach((columns, count) -> snapshot.put(String.join(", ", columns), count.sum()));
+        return snapshot;
+    }
+}
@@ -1,9 +1,14 @@
 package com.ohgiraffers.springdatajpa.menu.repository;
 
 import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -16,12 +21,14 @@ import org.springframework.stereotype.Repository;
  * - 삭제: deleteById(), delete(), deleteAll()
  * - 기타: count(), existsById() 등
  *
+ * JpaSpecificationExecutor<Menu>를 함께 상속하여, 조건을 조합한 Specification으로 동적 검색을 할 수 있다. (MenuSpecifications 참고)
+ *
  * 별도의 구현 클래스 없이도 Spring Data JPA가 런타임 시 구현체를 생성해 스프링 빈으로 등록하므로, 바로 주입하여 사용할 수 있다.
  *
  * @Repository 어노테이션은 생략 가능하지만, 명시적으로 붙이면 예외 변환과 계층 구조 명확화에 도움이 된다.
  */
 @Repository
-public interface MenuRepository extends JpaRepository<Menu, Integer> {
+public interface MenuRepository extends JpaRepository<Menu, Integer>, JpaSpecificationExecutor<Menu> {
 
     // 기본 CRUD 기능은 JpaRepository가 제공하므로 별도 메서드 선언 필요 없음.
 
@@ -53,4 +60,72 @@ public interface MenuRepository extends JpaRepository<Menu, Integer> {
      * @return 정렬된 메뉴 목록
      */
     List<Menu> findByMenuPriceGreaterThan(Integer menuPrice, Sort sort);
-}
\ No newline at end of file
+
+    /**
+     * 키셋(keyset) 페이징 : 전달받은 menuCode 이후의 메뉴를 pageable의 크기만큼 조회한다.
+     * <p>
+     * OFFSET 방식은 뒤 페이지로 갈수록 앞의 행을 모두 읽고 버려야 하지만,
+     * 이 방식은 PK 인덱스에서 바로 시작 위치를 찾으므로 페이지 위치와 관계없이 비용이 일정하다.
+     * 마지막으로 받은 menuCode를 다음 호출에 넘기면 전체 목록을 순서대로 훑을 수 있다. (정렬은 menuCode 오름차순이어야 한다.)
+     *
+     * @param menuCode 이전 페이지의 마지막 menuCode (처음 조회 시 0)
+     * @param pageable 조회 크기와 정렬 조건
+     * @return menuCode 초과 메뉴 목록
+     */
+    List<Menu> findByMenuCodeGreaterThan(int menuCode, Pageable pageable);
+
+    /**
+     * 메뉴명에 검색어가 포함된 메뉴 목록 조회 (LIKE '%검색어%')
+     * <p>
+     * 인덱스를 사용할 수 없어 테이블 전체를 읽으므로, 메뉴명 검색 색인(MenuSearchRepository)이 준비되기 전에만 사용한다.
+     *
+     * @param menuName 검색어
+     * @param pageable 조회 크기와 정렬 조건
+     * @return 메뉴명에 검색어가 포함된 메뉴 목록
+     */
+    List<Menu> findByMenuNameContaining(String menuName, Pageable pageable);
+
+    /**
+     * 메뉴명이 검색어로 시작하는 메뉴 목록 조회 (LIKE '검색어%')
+     * <p>
+     * 자동완성 색인이 준비되기 전에만 사용한다. (완성되지 않은 음절은 일치하지 않는다.)
+     *
+     * @param menuName 검색어
+     * @param pageable 조회 크기와 정렬 조건
+     * @return 메뉴명이 검색어로 시작하는 메뉴 목록
+     */
+    List<Menu> findByMenuNameStartingWith(String menuName, Pageable pageable);
+
+    /**
+     * 가격이 [minPrice, maxPrice] 범위에 있는 메뉴 목록 조회 (BETWEEN)
+     *
+     * @param minPrice 최소 가격 (포함)
+     * @param maxPrice 최대 가격 (포함)
+     * @param pageable 조회 크기와 정렬 조건
+     * @return 가격 범위에 있는 메뉴 목록
+     */
+    List<Menu> findByMenuPriceBetween(int minPrice, int maxPrice, Pageable pageable);
+
+    /**
+     * 여러 카테고리에 속한 메뉴 중 menuCode 이후의 메뉴 목록 조회 (IN, 키셋 페이징)
+     * - 카테고리 트리에서 구한 하위 카테고리 코드 전체를 한 번의 쿼리로 조회할 때 사용한다.
+     *
+     * @param categoryCodes 카테고리 코드 목록
+     * @param menuCode      이전 페이지의 마지막 menuCode (제외)
+     * @param pageable      조회 크기와 정렬 조건
+     * @return 해당 카테고리들에 속한 메뉴 목록
+     */
+    List<Menu> findByCategoryCodeInAndMenuCodeGreaterThan(Collection<Integer> categoryCodes, int menuCode,
+        Pageable pageable);
+
+    /**
+     * 가격 색인 구성용 : menuCode 이후의 (menuCode, menuPrice)만 menuCode 순으로 조회한다.
+     * 엔티티 전체가 아니라 두 컬럼만 읽으므로 영속성 컨텍스트에 엔티티가 쌓이지 않는다.
+     *
+     * @param menuCode 이전 페이지의 마지막 menuCode (처음 조회 시 0)
+     * @param pageable 조회 크기
+     * @return [menuCode, menuPrice] 배열 목록
+     */
+    @Query("SELECT m.menuCode, m.menuPrice FROM Menu m WHERE m.menuCode > :menuCode ORDER BY m.menuCode")
+    List<Object[]> findMenuPricesAfter(@Param("menuCode") int menuCode, Pageable pageable);
+}
@@ -0,0 +1,73 @@
+package com.ohgiraffers.springdatajpa.menu.repository;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuSearchCondition;
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Menu 동적 검색용 Specification 모음.
+ * <p>
+ * Specification은 JPA Criteria의 조건(Predicate) 하나를 만드는 함수이며, and/or로 조합할 수 있다.
+ * of(condition)은 검색 조건 중 값이 있는 항목의 Specification만 모아 AND로 묶는다.
+ * → 생성되는 SQL의 WHERE 절에 실제로 전달된 조건만 포함되므로,
+ *   "col = ? OR ? IS NULL" 같은 형태 때문에 DB가 인덱스를 포기하는 일이 없다.
+ */
+public final class MenuSpecifications {
+
+    private MenuSpecifications() {
+    }
+
+    /**
+     * 검색 조건에서 값이 있는 항목만 AND로 조합한다.
+     */
+    public static Specification<Menu> of(MenuSearchCondition condition) {
+        List<Specification<Menu>> specs = new ArrayList<>();
+        if (condition.getCategoryCodes() != null && !condition.getCategoryCodes().isEmpty()) {
+            specs.add(categoryCodeIn(condition.getCategoryCodes()));
+        }
+        if (condition.getOrderableStatus() != null) {
+            specs.add(orderableStatusEquals(condition.getOrderableStatus()));
+        }
+        if (condition.getMinPrice() != null) {
+            specs.add(menuPriceGoe(condition.getMinPrice()));
+        }
+        if (condition.getMaxPrice() != null) {
+            specs.add(menuPriceLoe(condition.getMaxPrice()));
+        }
+        if (condition.getNamePrefix() != null && !condition.getNamePrefix().isBlank()) {
+            specs.add(menuNameStartsWith(condition.getNamePrefix().strip()));
+        }
+        if (condition.getAfterMenuCode() != null) {
+            specs.add(menuCodeGreaterThan(condition.getAfterMenuCode()));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Menu> categoryCodeIn(List<Integer> categoryCodes) {
+        return (root, query, cb) -> root.get("categoryCode").in(categoryCodes);
+    }
+
+    public static Specification<Menu> orderableStatusEquals(char orderableStatus) {
+        return (root, query, cb) -> cb.equal(root.get("orderableStatus"), orderableStatus);
+    }
+
+    public static Specification<Menu> menuPriceGoe(int minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("menuPrice"), minPrice);
+    }
+
+    public static Specification<Menu> menuPriceLoe(int maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("menuPrice"), maxPrice);
+    }
+
+    /* 접두어 검색(LIKE 'xxx%')은 인덱스 범위 검색이 가능하다. 입력값의 %, _는 문자 그대로 취급한다. */
+    public static Specification<Menu> menuNameStartsWith(String prefix) {
+        String escaped = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return (root, query, cb) -> cb.like(root.get("menuName"), escaped + "%", '\\');
+    }
+
+    public static Specification<Menu> menuCodeGreaterThan(int menuCode) {
+        return (root, query, cb) -> cb.greaterThan(root.get("menuCode"), menuCode);
+    }
+}
@@ -0,0 +1,348 @@
+package com.ohgiraffers.springdatajpa.menu.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메뉴명 자동완성(접두어 검색)을 위한 압축 색인.
+ * <p>
+ * 1. 자모 분해 : 메뉴명을 초성/중성/종성 자모로 풀어 색인한다. (겹받침, 이중모음도 낱자로 분해)
+ *    입력 중인 글자도 같은 방식으로 분해하므로, 음절이 완성되기 전에도 일치한다.
+ *    예) "닭갈비" → ㄷㅏㄹㄱㄱㅏㄹㅂㅣ 이므로 "ㄷ", "다", "달", "닭가" 모두 접두어로 일치한다.
+ * <p>
+ * 2. 정렬 배열 트라이 : 분해된 키를 사전순으로 정렬해 하나의 char[]에 이어 붙이고, 시작 위치(int[])와 메뉴 코드(int[])만 둔다.
+ *    정렬된 키 배열에서 같은 접두어를 가진 키들은 연속된 구간을 이루므로, 트라이의 노드 하나는 배열의 한 구간과 같다.
+ *    접두어 구간을 이진 탐색으로 찾은 뒤 앞에서부터 limit개를 읽으면 되므로, 조회 비용은 O(log n + limit)이다.
+ *    키마다 String/노드 객체를 만들지 않아 메뉴 100만 건에서도 int/char 배열 몇 개만 남는다.
+ * <p>
+ * 3. 증분 반영 : 정렬 배열은 수정하지 않고, 변경분은 작은 정렬 집합(delta)과 삭제 표시(tombstone)에 쌓는다.
+ *    조회 시 두 결과를 병합하며, 변경분이 일정 크기를 넘으면 새 정렬 배열로 합친다. (compaction)
+ * <p>
+ * 결과는 자모 키의 사전순(가나다순)으로 반환한다.
+ */
+public class MenuNameAutocomplete {
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+
+    /* 겹받침/이중모음 → 낱자 */
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+        Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+        Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+        Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+        Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+        Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+        Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+        Map.entry('ㅢ', "ㅡㅣ"));
+
+    private static final int COMPACTION_MIN = 1024;
+
+    private static final Comparator<Entry> ENTRY_ORDER = Comparator
+        .comparing((Entry entry) -> entry.key)
+        .thenComparingInt(entry -> entry.menuCode);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private SortedKeys base = SortedKeys.build(new ArrayList<>());
+    private final NavigableSet<Entry> delta = new TreeSet<>(ENTRY_ORDER);
+    private final Map<Integer, Entry> deltaByCode = new HashMap<>();
+    private final Set<Integer> tombstones = new HashSet<>();
+
+    /**
+     * 전체 메뉴명으로 색인을 새로 만든다.
+     *
+     * @param menuNames 메뉴 코드 → 메뉴명
+     */
+    public void rebuild(Map<Integer, String> menuNames) {
+        List<Entry> entries = new ArrayList<>(menuNames.size());
+        menuNames.forEach((menuCode, menuName) -> entries.add(new Entry(toKey(menuName), menuCode)));
+        SortedKeys newBase = SortedKeys.build(entries);
+
+        lock.writeLock().lock();
+        try {
+            base = newBase;
+            delta.clear();
+            deltaByCode.clear();
+            tombstones.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 메뉴명을 추가하거나 변경한다.
+     */
+    public void put(int menuCode, String menuName) {
+        Entry entry = new Entry(toKey(menuName), menuCode);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(menuCode);
+            delta.add(entry);
+            deltaByCode.put(menuCode, entry);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int menuCode) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(menuCode);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 메뉴 코드를 가나다순으로 조회한다.
+     *
+     * @param prefix 입력 중인 검색어 (완성되지 않은 음절/자모 포함 가능)
+     * @param limit  최대 결과 수
+     * @return 메뉴 코드 목록
+     */
+    public List<Integer> complete(String prefix, int limit) {
+        String key = toKey(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Integer> result = new ArrayList<>(limit);
+            int index = base.lowerBound(key);
+            int end = base.upperBound(key);
+            Iterator<Entry> deltaIterator = delta.tailSet(new Entry(key, Integer.MIN_VALUE), true).iterator();
+            Entry next = nextWithPrefix(deltaIterator, key);
+
+            // 정렬 배열과 delta를 (키, 메뉴 코드) 순서로 병합한다.
+            while (result.size() < limit && (index < end || next != null)) {
+                if (index < end && (next == null || base.compare(index, next) <= 0)) {
+                    int menuCode = base.menuCode(index++);
+                    if (!tombstones.contains(menuCode)) {
+                        result.add(menuCode);
+                    }
+                } else {
+                    result.add(next.menuCode);
+                    next = nextWithPrefix(deltaIterator, key);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return base.size() - tombstones.size() + delta.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Entry nextWithPrefix(Iterator<Entry> iterator, String key) {
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        Entry entry = iterator.next();
+        return entry.key.startsWith(key) ? entry : null;
+    }
+
+    private void removeInternal(int menuCode) {
+        Entry previous = deltaByCode.remove(menuCode);
+        if (previous != null) {
+            delta.remove(previous);
+        } else if (base.contains(menuCode)) {
+            tombstones.add(menuCode);
+        }
+    }
+
+    /* 변경분이 정렬 배열 크기의 1/8을 넘으면 하나로 합친다. (합치는 비용이 변경 건수에 비례해 분산된다.) */
+    private void compactIfNeeded() {
+        if (delta.size() + tombstones.size() <= Math.max(COMPACTION_MIN, base.size() / 8)) {
+            return;
+        }
+        List<Entry> entries = new ArrayList<>(base.size() - tombstones.size() + delta.size());
+        for (int i = 0; i < base.size(); i++) {
+            int menuCode = base.menuCode(i);
+            if (!tombstones.contains(menuCode)) {
+                entries.add(new Entry(base.key(i), menuCode));
+            }
+        }
+        entries.addAll(delta);
+        base = SortedKeys.build(entries);
+        delta.clear();
+        deltaByCode.clear();
+        tombstones.clear();
+    }
+
+    /**
+     * 정규화(공백 제거, 소문자) 후 한글 음절을 자모로 분해한 색인 키를 만든다.
+     */
+    static String toKey(String value) {
+        String normalized = MenuNameIndex.normalize(value);
+        StringBuilder key = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST) {
+                int offset = ch - SYLLABLE_BASE;
+                appendJamo(key, CHOSEONG.charAt(offset / (21 * 28)));
+                appendJamo(key, JUNGSEONG.charAt(offset % (21 * 28) / 28));
+                if (offset % 28 != 0) {
+                    appendJamo(key, JONGSEONG.charAt(offset % 28));
+                }
+            } else {
+                appendJamo(key, ch);
+            }
+        }
+        return key.toString();
+    }
+
+    private static void appendJamo(StringBuilder key, char jamo) {
+        String decomposed = COMPOUND_JAMO.get(jamo);
+        if (decomposed != null) {
+            key.append(decomposed);
+        } else {
+            key.append(jamo);
+        }
+    }
+
+    private record Entry(String key, int menuCode) {
+    }
+
+    /**
+     * 정렬된 키를 하나의 char[]에 이어 붙여 보관하는 불변 배열.
+     * i번째 키는 chars[offsets[i]] ~ chars[offsets[i + 1] - 1] 이다.
+     */
+    private static final class SortedKeys {
+
+        private final char[] chars;
+        private final int[] offsets;
+        private final int[] menuCodes;
+        private final int[] sortedMenuCodes;    // 포함 여부 확인용 (이진 탐색)
+
+        private SortedKeys(char[] chars, int[] offsets, int[] menuCodes) {
+            this.chars = chars;
+            this.offsets = offsets;
+            this.menuCodes = menuCodes;
+            this.sortedMenuCodes = menuCodes.clone();
+            Arrays.sort(sortedMenuCodes);
+        }
+
+        static SortedKeys build(List<Entry> entries) {
+            entries.sort(ENTRY_ORDER);
+            int totalChars = 0;
+            for (Entry entry : entries) {
+                totalChars += entry.key.length();
+            }
+
+            char[] chars = new char[totalChars];
+            int[] offsets = new int[entries.size() + 1];
+            int[] menuCodes = new int[entries.size()];
+            int position = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                offsets[i] = position;
+                entry.key.getChars(0, entry.key.length(), chars, position);
+                position += entry.key.length();
+                menuCodes[i] = entry.menuCode;
+            }
+            offsets[entries.size()] = position;
+            return new SortedKeys(chars, offsets, menuCodes);
+        }
+
+        int size() {
+            return menuCodes.length;
+        }
+
+        int menuCode(int index) {
+            return menuCodes[index];
+        }
+
+        boolean contains(int menuCode) {
+            return Arrays.binarySearch(sortedMenuCodes, menuCode) >= 0;
+        }
+
+        String key(int index) {
+            return new String(chars, offsets[index], offsets[index + 1] - offsets[index]);
+        }
+
+        /* 접두어로 시작하는 첫 번째 키의 위치 */
+        int lowerBound(String prefix) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (comparePrefix(mid, prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /* 접두어로 시작하는 마지막 키의 다음 위치 */
+        int upperBound(String prefix) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (comparePrefix(mid, prefix) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /* i번째 키의 앞부분을 접두어와 비교한다. 접두어로 시작하면 0 */
+        private int comparePrefix(int index, String prefix) {
+            int start = offsets[index];
+            int length = offsets[index + 1] - start;
+            int common = Math.min(length, prefix.length());
+            for (int i = 0; i < common; i++) {
+                int diff = chars[start + i] - prefix.charAt(i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return length >= prefix.length() ? 0 : -1;
+        }
+
+        /* i번째 (키, 메뉴 코드)를 delta 항목과 비교한다. */
+        int compare(int index, Entry entry) {
+            int start = offsets[index];
+            int length = offsets[index + 1] - start;
+            int common = Math.min(length, entry.key.length());
+            for (int i = 0; i < common; i++) {
+                int diff = chars[start + i] - entry.key.charAt(i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            if (length != entry.key.length()) {
+                return length - entry.key.length();
+            }
+            return Integer.compare(menuCodes[index], entry.menuCode);
+        }
+    }
+}
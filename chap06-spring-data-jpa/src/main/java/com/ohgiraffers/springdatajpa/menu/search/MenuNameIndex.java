@@ -0,0 +1,286 @@
+package com.ohgiraffers.springdatajpa.menu.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메뉴명 부분 일치 검색을 위한 메모리 역색인(inverted index).
+ * <p>
+ * "menuName LIKE '%마늘%'"은 인덱스를 사용할 수 없어 테이블 전체를 읽는다.
+ * 이 색인은 메뉴명을 n-gram(글자 단위 1-gram, 2-gram)으로 나누어 "토큰 → 메뉴 코드 목록"을 미리 만들어 두고,
+ * 검색어의 토큰 목록을 교집합하여 후보를 찾는다.
+ * <p>
+ * - 한글은 띄어쓰기 없이 붙여 쓰는 경우가 많고 형태소 분석 없이도 부분 일치가 필요하므로, 단어가 아닌 글자 n-gram을 사용한다.
+ *   예) "마늘빵" → 1-gram : 마, 늘, 빵 / 2-gram : 마늘, 늘빵
+ * - 검색어가 한 글자면 1-gram, 두 글자 이상이면 2-gram 목록을 교집합한다.
+ *   2-gram 교집합은 "순서가 다른 조합"도 후보에 포함할 수 있으므로, 마지막에 실제 부분 문자열 포함 여부로 한 번 더 거른다.
+ * - 메뉴명은 NFC 정규화, 소문자 변환, 공백 제거 후 색인한다. (검색어도 같은 방식으로 정규화)
+ * <p>
+ * 정렬 기준 : 완전 일치 → 일치 위치가 앞일수록 → 메뉴명이 짧을수록 → 메뉴 코드 순
+ * <p>
+ * 읽기는 여러 스레드가 동시에, 쓰기는 한 번에 한 스레드만 수행하도록 ReentrantReadWriteLock으로 보호한다.
+ */
+public class MenuNameIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Integer, String> normalizedNames = new HashMap<>();
+
+    /**
+     * 메뉴명을 색인한다. 같은 메뉴 코드가 이미 있으면 기존 색인을 지우고 다시 색인한다.
+     */
+    public void put(int menuCode, String menuName) {
+        String normalized = normalize(menuName);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(menuCode);
+            normalizedNames.put(menuCode, normalized);
+            for (String token : tokens(normalized)) {
+                postings.computeIfAbsent(token, key -> new Postings()).add(menuCode);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 여러 메뉴명을 한 번에 색인한다. (대량 적재용)
+     * put()을 반복하면 토큰마다 정렬 배열 중간에 한 건씩 끼워 넣게 되므로,
+     * 토큰별로 새 메뉴 코드를 모아 정렬한 뒤 기존 목록과 한 번에 병합한다.
+     */
+    public void putAll(Map<Integer, String> menuNames) {
+        Map<Integer, String> normalized = new HashMap<>(menuNames.size() * 2);
+        menuNames.forEach((menuCode, menuName) -> normalized.put(menuCode, normalize(menuName)));
+
+        lock.writeLock().lock();
+        try {
+            Map<String, Postings> added = new HashMap<>();
+            normalized.forEach((menuCode, name) -> {
+                removeInternal(menuCode);
+                normalizedNames.put(menuCode, name);
+                for (String token : tokens(name)) {
+                    added.computeIfAbsent(token, key -> new Postings()).append(menuCode);
+                }
+            });
+            added.forEach((token, codes) -> postings.computeIfAbsent(token, key -> new Postings()).addAll(codes));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int menuCode) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(menuCode);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            normalizedNames.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return normalizedNames.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 메뉴명에 검색어가 포함된 메뉴 코드를 관련도 순으로 조회한다.
+     *
+     * @param keyword 검색어
+     * @param limit   최대 결과 수
+     * @return 정렬된 메뉴 코드 목록 (검색어가 비어 있으면 빈 목록)
+     */
+    public List<Integer> search(String keyword, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<String> queryTokens = query.length() == 1 ? Set.of(query) : bigrams(query);
+
+        lock.readLock().lock();
+        try {
+            // 가장 짧은 목록부터 교집합해야 비교 횟수가 줄어든다.
+            List<Postings> lists = new ArrayList<>(queryTokens.size());
+            for (String token : queryTokens) {
+                Postings list = postings.get(token);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            Postings smallest = lists.get(0);
+            List<Hit> hits = new ArrayList<>();
+            candidates:
+            for (int i = 0; i < smallest.size; i++) {
+                int menuCode = smallest.codes[i];
+                for (int j = 1; j < lists.size(); j++) {
+                    if (!lists.get(j).contains(menuCode)) {
+                        continue candidates;
+                    }
+                }
+                String name = normalizedNames.get(menuCode);
+                int position = name.indexOf(query);
+                if (position >= 0) {
+                    hits.add(new Hit(menuCode, name.length() == query.length(), position, name.length()));
+                }
+            }
+
+            hits.sort(Hit.ORDER);
+            List<Integer> result = new ArrayList<>(Math.min(limit, hits.size()));
+            for (int i = 0; i < hits.size() && i < limit; i++) {
+                result.add(hits.get(i).menuCode);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(int menuCode) {
+        String normalized = normalizedNames.remove(menuCode);
+        if (normalized == null) {
+            return;
+        }
+        for (String token : tokens(normalized)) {
+            Postings list = postings.get(token);
+            if (list != null && list.remove(menuCode) && list.size == 0) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (!Character.isWhitespace(ch)) {
+                builder.append(ch);
+            }
+        }
+        return builder.toString();
+    }
+
+    /* 색인용 토큰 : 1-gram + 2-gram */
+    private static Set<String> tokens(String normalized) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + 1));
+        }
+        tokens.addAll(bigrams(normalized));
+        return tokens;
+    }
+
+    private static Set<String> bigrams(String normalized) {
+        Set<String> bigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            bigrams.add(normalized.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    /**
+     * 토큰 하나의 메뉴 코드 목록. 오름차순으로 정렬된 int 배열로 보관하여 이진 탐색으로 포함 여부를 확인한다.
+     */
+    private static final class Postings {
+
+        private int[] codes = new int[4];
+        private int size;
+
+        boolean contains(int menuCode) {
+            return Arrays.binarySearch(codes, 0, size, menuCode) >= 0;
+        }
+
+        void add(int menuCode) {
+            int index = Arrays.binarySearch(codes, 0, size, menuCode);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+            System.arraycopy(codes, insertAt, codes, insertAt + 1, size - insertAt);
+            codes[insertAt] = menuCode;
+            size++;
+        }
+
+        /* 정렬 없이 끝에 추가한다. (addAll()에 넘기기 전 임시 목록용) */
+        void append(int menuCode) {
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+            codes[size++] = menuCode;
+        }
+
+        /* other의 메뉴 코드를 정렬해 기존 목록과 병합한다. (중복은 한 번만) */
+        void addAll(Postings other) {
+            Arrays.sort(other.codes, 0, other.size);
+            int[] merged = new int[Math.max(4, size + other.size)];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < size || j < other.size) {
+                int next;
+                if (j == other.size || (i < size && codes[i] <= other.codes[j])) {
+                    next = codes[i++];
+                } else {
+                    next = other.codes[j++];
+                }
+                if (n == 0 || merged[n - 1] != next) {
+                    merged[n++] = next;
+                }
+            }
+            codes = merged;
+            size = n;
+        }
+
+        boolean remove(int menuCode) {
+            int index = Arrays.binarySearch(codes, 0, size, menuCode);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(codes, index + 1, codes, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+
+    private record Hit(int menuCode, boolean exact, int position, int length) {
+
+        static final Comparator<Hit> ORDER = Comparator
+            .comparing((Hit hit) -> !hit.exact)
+            .thenComparingInt(Hit::position)
+            .thenComparingInt(Hit::length)
+            .thenComparingInt(Hit::menuCode);
+    }
+}
@@ -0,0 +1,246 @@
+package com.ohgiraffers.springdatajpa.menu.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가격 범위 조회를 위한 메모리 정렬 색인.
+ * <p>
+ * (가격, 메뉴 코드) 쌍을 가격 오름차순(같은 가격은 메뉴 코드 오름차순)으로 정렬한 int 배열 두 개로 보관한다.
+ * - 범위의 시작/끝 위치를 이진 탐색으로 찾은 뒤, 정렬이 필요하면 앞에서부터(오름차순) 또는 뒤에서부터(내림차순) limit개만 읽는다.
+ *   DB처럼 범위를 읽고 다시 정렬할 필요가 없다.
+ * - 조회는 불변 스냅샷(배열 두 개)을 그대로 읽으므로 잠금이 없다.
+ * - 변경은 새 배열을 만들어 스냅샷 참조를 교체하는 copy-on-write 방식이다. (메뉴 변경은 조회보다 훨씬 드물다)
+ */
+public class MenuPriceIndex {
+
+    /* 조회 스레드는 이 참조 하나만 읽으므로, 교체 순간에도 항상 완전한 스냅샷을 본다. */
+    private volatile Snapshot snapshot = new Snapshot(new int[0], new int[0]);
+
+    /* 변경 시 이전 가격 위치를 찾기 위한 메뉴 코드 → 가격 (쓰기 스레드만 사용) */
+    private final Map<Integer, Integer> priceByCode = new HashMap<>();
+
+    /**
+     * 전체 (메뉴 코드 → 가격)으로 색인을 새로 만든다.
+     */
+    public synchronized void rebuild(Map<Integer, Integer> prices) {
+        long[] pairs = new long[prices.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : prices.entrySet()) {
+            pairs[i++] = pack(entry.getValue(), entry.getKey());
+        }
+        // (가격, 메뉴 코드)를 long 하나로 묶어 정렬하면 박싱 없이 두 기준으로 한 번에 정렬된다.
+        Arrays.sort(pairs);
+
+        int[] sortedPrices = new int[pairs.length];
+        int[] menuCodes = new int[pairs.length];
+        for (i = 0; i < pairs.length; i++) {
+            sortedPrices[i] = (int) (pairs[i] >> 32);
+            menuCodes[i] = (int) pairs[i];
+        }
+
+        priceByCode.clear();
+        priceByCode.putAll(prices);
+        snapshot = new Snapshot(sortedPrices, menuCodes);
+    }
+
+    /**
+     * 메뉴의 가격을 추가하거나 변경한다.
+     */
+    public synchronized void put(int menuCode, int menuPrice) {
+        Integer previous = priceByCode.put(menuCode, menuPrice);
+        if (previous != null && previous == menuPrice) {
+            return;
+        }
+        Snapshot current = previous == null ? snapshot : snapshot.without(previous, menuCode);
+        snapshot = current.with(menuPrice, menuCode);
+    }
+
+    /**
+     * 여러 메뉴의 가격을 한 번에 추가하거나 변경한다. (대량 적재용)
+     * put()은 호출마다 배열 전체를 복사하므로 k건을 반복하면 O(n·k)가 된다.
+     * 바뀐 (가격, 메뉴 코드)만 정렬한 뒤 기존 배열과 한 번에 병합하여 O(n + k log k)로 반영한다.
+     */
+    public synchronized void putAll(Map<Integer, Integer> prices) {
+        long[] added = new long[prices.size()];
+        long[] removed = new long[prices.size()];
+        int addedCount = 0;
+        int removedCount = 0;
+        for (Map.Entry<Integer, Integer> entry : prices.entrySet()) {
+            int menuCode = entry.getKey();
+            int menuPrice = entry.getValue();
+            Integer previous = priceByCode.put(menuCode, menuPrice);
+            if (previous != null && previous == menuPrice) {
+                continue;
+            }
+            if (previous != null) {
+                removed[removedCount++] = pack(previous, menuCode);
+            }
+            added[addedCount++] = pack(menuPrice, menuCode);
+        }
+        if (addedCount == 0) {
+            return;
+        }
+        Arrays.sort(added, 0, addedCount);
+        Arrays.sort(removed, 0, removedCount);
+        snapshot = snapshot.merge(added, addedCount, removed, removedCount);
+    }
+
+    public synchronized void remove(int menuCode) {
+        Integer previous = priceByCode.remove(menuCode);
+        if (previous != null) {
+            snapshot = snapshot.without(previous, menuCode);
+        }
+    }
+
+    public int size() {
+        return snapshot.prices.length;
+    }
+
+    /**
+     * 가격이 [minPrice, maxPrice] 범위에 있는 메뉴 코드를 가격 순으로 조회한다.
+     *
+     * @param minPrice   최소 가격 (포함)
+     * @param maxPrice   최대 가격 (포함)
+     * @param descending true면 가격 내림차순, false면 오름차순
+     * @param limit      최대 결과 수 (0 이하면 전체)
+     * @return 메뉴 코드 목록
+     */
+    public List<Integer> findMenuCodes(int minPrice, int maxPrice, boolean descending, int limit) {
+        Snapshot current = snapshot;
+        if (minPrice > maxPrice) {
+            return List.of();
+        }
+        int from = current.lowerBound(minPrice);
+        int to = current.upperBound(maxPrice);
+        int count = limit > 0 ? Math.min(limit, to - from) : to - from;
+
+        List<Integer> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(current.menuCodes[descending ? to - 1 - i : from + i]);
+        }
+        return result;
+    }
+
+    private static long pack(int price, int menuCode) {
+        return ((long) price << 32) | (menuCode & 0xFFFFFFFFL);
+    }
+
+    private static final class Snapshot {
+
+        private final int[] prices;
+        private final int[] menuCodes;
+
+        Snapshot(int[] prices, int[] menuCodes) {
+            this.prices = prices;
+            this.menuCodes = menuCodes;
+        }
+
+        /* price 이상인 첫 위치 */
+        int lowerBound(int price) {
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] < price) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /* price 초과인 첫 위치 */
+        int upperBound(int price) {
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] <= price) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /* (가격, 메뉴 코드) 순서상의 위치 */
+        private int positionOf(int price, int menuCode) {
+            long target = pack(price, menuCode);
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (pack(prices[mid], menuCodes[mid]) < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        Snapshot with(int price, int menuCode) {
+            int index = positionOf(price, menuCode);
+            int[] newPrices = new int[prices.length + 1];
+            int[] newMenuCodes = new int[menuCodes.length + 1];
+            System.arraycopy(prices, 0, newPrices, 0, index);
+            System.arraycopy(menuCodes, 0, newMenuCodes, 0, index);
+            newPrices[index] = price;
+            newMenuCodes[index] = menuCode;
+            System.arraycopy(prices, index, newPrices, index + 1, prices.length - index);
+            System.arraycopy(menuCodes, index, newMenuCodes, index + 1, menuCodes.length - index);
+            return new Snapshot(newPrices, newMenuCodes);
+        }
+
+        Snapshot without(int price, int menuCode) {
+            int index = positionOf(price, menuCode);
+            if (index == prices.length || prices[index] != price || menuCodes[index] != menuCode) {
+                return this;
+            }
+            int[] newPrices = new int[prices.length - 1];
+            int[] newMenuCodes = new int[menuCodes.length - 1];
+            System.arraycopy(prices, 0, newPrices, 0, index);
+            System.arraycopy(menuCodes, 0, newMenuCodes, 0, index);
+            System.arraycopy(prices, index + 1, newPrices, index, prices.length - index - 1);
+            System.arraycopy(menuCodes, index + 1, newMenuCodes, index, menuCodes.length - index - 1);
+            return new Snapshot(newPrices, newMenuCodes);
+        }
+
+        /* 정렬된 added를 끼워 넣고 정렬된 removed를 뺀 새 스냅샷 (두 배열 모두 pack() 값) */
+        Snapshot merge(long[] added, int addedCount, long[] removed, int removedCount) {
+            int[] newPrices = new int[prices.length + addedCount];
+            int[] newMenuCodes = new int[menuCodes.length + addedCount];
+            int i = 0;
+            int a = 0;
+            int r = 0;
+            int n = 0;
+            while (i < prices.length || a < addedCount) {
+                if (i < prices.length) {
+                    long existing = pack(prices[i], menuCodes[i]);
+                    while (r < removedCount && removed[r] < existing) {
+                        r++;
+                    }
+                    if (r < removedCount && removed[r] == existing) {
+                        r++;
+                        i++;
+                        continue;
+                    }
+                    if (a == addedCount || existing < added[a]) {
+                        newPrices[n] = prices[i];
+                        newMenuCodes[n++] = menuCodes[i++];
+                        continue;
+                    }
+                }
+                newPrices[n] = (int) (added[a] >> 32);
+                newMenuCodes[n++] = (int) added[a++];
+            }
+            return new Snapshot(Arrays.copyOf(newPrices, n), Arrays.copyOf(newMenuCodes, n));
+        }
+    }
+}
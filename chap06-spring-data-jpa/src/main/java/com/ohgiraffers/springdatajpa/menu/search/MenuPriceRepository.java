@@ -0,0 +1,179 @@
+package com.ohgiraffers.springdatajpa.menu.search;
+
+import com.ohgiraffers.springdatajpa.menu.event.MenuBatchCreatedEvent;
+import com.ohgiraffers.springdatajpa.menu.event.MenuBulkLoadedEvent;
+import com.ohgiraffers.springdatajpa.menu.event.MenuChangedEvent;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 가격 범위 조회 Repository. tbl_menu의 (menu_code, menu_price)를 MenuPriceIndex에 색인해 두고 조회한다.
+ * <p>
+ * - 기동이 끝나면 색인을 만들고, 이후 menu.price-index.rebuild-interval마다 다시 만든다.
+ *   (이 애플리케이션을 거치지 않고 DB에서 직접 바뀐 가격도 주기적으로 반영된다.)
+ * - 애플리케이션에서 발생한 변경은 MenuChangedEvent로 커밋 직후 반영한다.
+ *   재구성 도중 들어온 변경은 따로 모아 두었다가 재구성이 끝난 뒤 다시 적용한다.
+ * - 마지막 재구성이 menu.price-index.max-age보다 오래되었거나(재구성 실패 등) 아직 만들어지지 않았다면
+ *   isFresh()가 false가 되며, 호출 측은 DB 조회로 대신 처리한다.
+ */
+@Slf4j
+@Repository
+public class MenuPriceRepository {
+
+    private static final int LOAD_PAGE_SIZE = 5000;
+
+    private final MenuRepository menuRepository;
+    private final Duration maxAge;
+    private final MenuPriceIndex index = new MenuPriceIndex();
+
+    private final Object changeLock = new Object();
+    private List<PriceChange> changesDuringRebuild;   // 재구성 중일 때만 null이 아니다. (changeLock으로 보호)
+    private volatile long lastRebuiltAt;
+
+    public MenuPriceRepository(MenuRepository menuRepository,
+        @Value("${menu.price-index.max-age:15m}") Duration maxAge) {
+        this.menuRepository = menuRepository;
+        this.maxAge = maxAge;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * (menu_code, menu_price)만 menuCode 순으로 페이지 단위 조회하여 색인을 새로 만든다.
+     */
+    @Scheduled(initialDelayString = "${menu.price-index.rebuild-interval:300000}",
+        fixedDelayString = "${menu.price-index.rebuild-interval:300000}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        synchronized (changeLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            Map<Integer, Integer> prices = new HashMap<>();
+            int lastMenuCode = 0;
+            List<Object[]> page;
+            do {
+                page = menuRepository.findMenuPricesAfter(lastMenuCode, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (Object[] row : page) {
+                    lastMenuCode = (Integer) row[0];
+                    prices.put(lastMenuCode, (Integer) row[1]);
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+
+            // 재구성 도중의 변경은 DB 조회 결과보다 최신일 수 있으므로 교체와 같은 잠금 안에서 다시 적용한다.
+            // (기록을 멈추는 것도 같은 잠금 안이므로, 적용되지 않은 채 남는 변경이 없다)
+            // 색인에 한 건씩 넣으면 건마다 배열을 복사하므로, 정렬 전의 Map에 먼저 반영한 뒤 한 번에 만든다.
+            synchronized (changeLock) {
+                for (PriceChange change : changesDuringRebuild) {
+                    if (change.menuPrice() == null) {
+                        prices.remove(change.menuCode());
+                    } else {
+                        prices.put(change.menuCode(), change.menuPrice());
+                    }
+                }
+                index.rebuild(prices);
+                lastRebuiltAt = System.currentTimeMillis();
+            }
+        } catch (RuntimeException e) {
+            log.warn("가격 색인 재구성 실패 : {}", e.getMessage());
+        } finally {
+            synchronized (changeLock) {
+                changesDuringRebuild = null;
+            }
+        }
+        log.info("가격 색인 재구성 : {}건, {}ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        int menuCode = event.getMenu().getMenuCode();
+        synchronized (changeLock) {
+            if (event.getType() == MenuChangedEvent.Type.DELETED) {
+                index.remove(menuCode);
+                record(new PriceChange(menuCode, null));
+            } else {
+                index.put(menuCode, event.getMenu().getMenuPrice());
+                record(new PriceChange(menuCode, event.getMenu().getMenuPrice()));
+            }
+        }
+    }
+
+    /* 묶음으로 등록된 메뉴는 한 번에 추가한다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuBatchCreated(MenuBatchCreatedEvent event) {
+        Map<Integer, Integer> prices = new HashMap<>(event.getMenus().size() * 2);
+        event.getMenus().forEach(menu -> prices.put(menu.getMenuCode(), menu.getMenuPrice()));
+        putAll(prices);
+    }
+
+    /* 대량 적재된 메뉴는 적재 직전의 최대 menuCode 이후의 가격만 다시 읽어, 페이지 단위로 한 번에 추가한다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuBulkLoaded(MenuBulkLoadedEvent event) {
+        int lastMenuCode = event.getAfterMenuCode();
+        List<Object[]> page;
+        do {
+            page = menuRepository.findMenuPricesAfter(lastMenuCode, PageRequest.of(0, LOAD_PAGE_SIZE));
+            Map<Integer, Integer> prices = new HashMap<>(page.size() * 2);
+            for (Object[] row : page) {
+                lastMenuCode = (Integer) row[0];
+                prices.put(lastMenuCode, (Integer) row[1]);
+            }
+            putAll(prices);
+        } while (page.size() == LOAD_PAGE_SIZE);
+    }
+
+    /* 여러 메뉴의 가격을 한 번에 반영하고, 재구성 중이면 재구성이 끝난 뒤 다시 적용하도록 기록한다. */
+    private void putAll(Map<Integer, Integer> prices) {
+        synchronized (changeLock) {
+            index.putAll(prices);
+            prices.forEach((menuCode, menuPrice) -> record(new PriceChange(menuCode, menuPrice)));
+        }
+    }
+
+    /* changeLock 안에서만 호출한다. */
+    private void record(PriceChange change) {
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    /**
+     * @return 색인을 조회에 사용해도 되는지 여부 (한 번 이상 만들어졌고, 마지막 재구성이 max-age 이내)
+     */
+    public boolean isFresh() {
+        long rebuiltAt = lastRebuiltAt;
+        return rebuiltAt > 0 && System.currentTimeMillis() - rebuiltAt <= maxAge.toMillis();
+    }
+
+    /**
+     * 가격이 [minPrice, maxPrice] 범위에 있는 메뉴 코드를 가격 순으로 조회한다.
+     *
+     * @param minPrice   최소 가격 (포함)
+     * @param maxPrice   최대 가격 (포함)
+     * @param descending true면 가격 내림차순
+     * @param limit      최대 결과 수 (0 이하면 전체)
+     * @return 메뉴 코드 목록
+     */
+    public List<Integer> findMenuCodes(int minPrice, int maxPrice, boolean descending, int limit) {
+        return index.findMenuCodes(minPrice, maxPrice, descending, limit);
+    }
+
+    /* 색인 변경 한 건 (menuPrice가 null이면 삭제) */
+    private record PriceChange(int menuCode, Integer menuPrice) {
+    }
+}
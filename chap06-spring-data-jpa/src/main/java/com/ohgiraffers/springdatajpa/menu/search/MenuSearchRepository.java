@@ -0,0 +1,227 @@
+package com.ohgiraffers.springdatajpa.menu.search;
+
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import com.ohgiraffers.springdatajpa.menu.event.MenuBatchCreatedEvent;
+import com.ohgiraffers.springdatajpa.menu.event.MenuBulkLoadedEvent;
+import com.ohgiraffers.springdatajpa.menu.event.MenuChangedEvent;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 메뉴명 검색 Repository. tbl_menu.menu_name을 메모리 색인 두 가지로 색인해 두고 검색한다.
+ * - MenuNameIndex : n-gram 역색인 (부분 일치 검색)
+ * - MenuNameAutocomplete : 자모 분해 정렬 배열 (접두어 자동완성)
+ * <p>
+ * - 기동이 끝나면(ApplicationReadyEvent) 메뉴를 menuCode 순으로 페이지 단위 조회하여 색인한다.
+ * - 이후 변경은 MenuChangedEvent를 커밋 이후에 반영한다. (@TransactionalEventListener)
+ *   색인하는 도중에 도착한 변경은 따로 모아 두었다가, 전체 적재가 끝난 뒤 다시 적용한다.
+ *   (먼저 읽은 페이지의 오래된 메뉴명이나 자동완성 재구성이 그 사이의 변경을 덮어쓰지 않도록)
+ * - 색인이 준비되기 전에는 DB의 LIKE 검색으로 대신 처리한다.
+ */
+@Slf4j
+@Repository
+public class MenuSearchRepository {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final MenuRepository menuRepository;
+    private final MenuNameIndex index = new MenuNameIndex();
+    private final MenuNameAutocomplete autocomplete = new MenuNameAutocomplete();
+
+    private final Object changeLock = new Object();
+    private List<NameChange> changesDuringLoad;   // 전체 적재 중일 때만 null이 아니다. (changeLock으로 보호)
+
+    private volatile boolean loaded;
+
+    public MenuSearchRepository(MenuRepository menuRepository) {
+        this.menuRepository = menuRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        synchronized (changeLock) {
+            changesDuringLoad = new ArrayList<>();
+        }
+        try {
+            int lastMenuCode = 0;
+            Map<Integer, String> menuNames = new HashMap<>();
+            List<Menu> page;
+            do {
+                page = menuRepository.findByMenuCodeGreaterThan(
+                    lastMenuCode, PageRequest.of(0, LOAD_PAGE_SIZE, Sort.by("menuCode")));
+                Map<Integer, String> pageNames = new HashMap<>(page.size() * 2);
+                for (Menu menu : page) {
+                    pageNames.put(menu.getMenuCode(), menu.getMenuName());
+                    lastMenuCode = menu.getMenuCode();
+                }
+                index.putAll(pageNames);
+                menuNames.putAll(pageNames);
+            } while (page.size() == LOAD_PAGE_SIZE);
+            autocomplete.rebuild(menuNames);
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                changesDuringLoad = null;
+            }
+            throw e;
+        }
+
+        // 읽는 동안 커밋된 변경을 다시 적용한다. (이 블록이 끝나기 전의 변경은 onMenuChanged에서 기다린다)
+        synchronized (changeLock) {
+            replay(changesDuringLoad);
+            changesDuringLoad = null;
+            loaded = true;
+        }
+        log.info("메뉴명 검색 색인 완료 : {}건, {}ms", index.size(),
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        int menuCode = event.getMenu().getMenuCode();
+        applyAndRecord(new NameChange(menuCode,
+            event.getType() == MenuChangedEvent.Type.DELETED ? null : event.getMenu().getMenuName()));
+    }
+
+    /* 묶음으로 등록된 메뉴는 한 번에 색인한다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuBatchCreated(MenuBatchCreatedEvent event) {
+        applyAllAndRecord(event.getMenus().stream()
+            .map(menu -> new NameChange(menu.getMenuCode(), menu.getMenuName()))
+            .toList());
+    }
+
+    /* 대량 적재된 메뉴는 적재 직전의 최대 menuCode 이후만 다시 읽어, 페이지 단위로 한 번에 색인한다. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuBulkLoaded(MenuBulkLoadedEvent event) {
+        int lastMenuCode = event.getAfterMenuCode();
+        List<Menu> page;
+        do {
+            page = menuRepository.findByMenuCodeGreaterThan(
+                lastMenuCode, PageRequest.of(0, LOAD_PAGE_SIZE, Sort.by("menuCode")));
+            List<NameChange> changes = new ArrayList<>(page.size());
+            for (Menu menu : page) {
+                changes.add(new NameChange(menu.getMenuCode(), menu.getMenuName()));
+                lastMenuCode = menu.getMenuCode();
+            }
+            applyAllAndRecord(changes);
+        } while (page.size() == LOAD_PAGE_SIZE);
+    }
+
+    /* 현재 색인에 반영하고, 전체 적재 중이면 적재가 끝난 뒤 다시 적용하도록 기록한다. */
+    private void applyAndRecord(NameChange change) {
+        synchronized (changeLock) {
+            apply(change);
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(change);
+            }
+        }
+    }
+
+    /* 여러 건을 한 번에 반영한다. (기록 방식은 applyAndRecord와 같다) */
+    private void applyAllAndRecord(List<NameChange> changes) {
+        synchronized (changeLock) {
+            replay(changes);
+            if (changesDuringLoad != null) {
+                changesDuringLoad.addAll(changes);
+            }
+        }
+    }
+
+    /*
+     * 변경 목록을 메뉴 코드별 마지막 값으로 줄인 뒤, 등록/수정은 putAll로 한 번에 색인한다.
+     * (대량 적재 도중의 변경이 수만 건이어도 건마다 색인 배열을 고치지 않도록)
+     */
+    private void replay(List<NameChange> changes) {
+        Map<Integer, String> latest = new HashMap<>(changes.size() * 2);
+        Set<Integer> deleted = new HashSet<>();
+        for (NameChange change : changes) {
+            if (change.menuName() == null) {
+                latest.remove(change.menuCode());
+                deleted.add(change.menuCode());
+            } else {
+                latest.put(change.menuCode(), change.menuName());
+                deleted.remove(change.menuCode());
+            }
+        }
+        for (int menuCode : deleted) {
+            index.remove(menuCode);
+            autocomplete.remove(menuCode);
+        }
+        index.putAll(latest);
+        latest.forEach(autocomplete::put);
+    }
+
+    private void apply(NameChange change) {
+        if (change.menuName() == null) {
+            index.remove(change.menuCode());
+            autocomplete.remove(change.menuCode());
+        } else {
+            index.put(change.menuCode(), change.menuName());
+            autocomplete.put(change.menuCode(), change.menuName());
+        }
+    }
+
+    /**
+     * 메뉴명에 검색어가 포함된 메뉴 코드를 관련도 순으로 조회한다.
+     *
+     * @param keyword 검색어
+     * @param limit   최대 결과 수
+     * @return 정렬된 메뉴 코드 목록
+     */
+    public List<Integer> searchMenuCodesByName(String keyword, int limit) {
+        if (MenuNameIndex.normalize(keyword).isEmpty()) {
+            return List.of();
+        }
+        if (!loaded) {
+            return menuRepository.findByMenuNameContaining(
+                    keyword.strip(), PageRequest.of(0, limit, Sort.by("menuCode")))
+                .stream()
+                .map(Menu::getMenuCode)
+                .toList();
+        }
+        return index.search(keyword, limit);
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 메뉴 코드를 가나다순으로 조회한다. (자동완성)
+     * 완성되지 않은 음절도 일치한다. (예: "닭"을 입력하는 도중의 "달")
+     *
+     * @param prefix 입력 중인 검색어
+     * @param limit  최대 결과 수
+     * @return 메뉴 코드 목록
+     */
+    public List<Integer> autocompleteMenuCodes(String prefix, int limit) {
+        if (MenuNameIndex.normalize(prefix).isEmpty()) {
+            return List.of();
+        }
+        if (!loaded) {
+            return menuRepository.findByMenuNameStartingWith(
+                    prefix.strip(), PageRequest.of(0, limit, Sort.by("menuName")))
+                .stream()
+                .map(Menu::getMenuCode)
+                .toList();
+        }
+        return autocomplete.complete(prefix, limit);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /* 색인 변경 한 건 (menuName이 null이면 삭제) */
+    private record NameChange(int menuCode, String menuName) {
+    }
+}
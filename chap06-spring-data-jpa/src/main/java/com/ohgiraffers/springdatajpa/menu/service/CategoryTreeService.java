@@ -0,0 +1,124 @@
+package com.ohgiraffers.springdatajpa.menu.service;
+
+import com.ohgiraffers.springdatajpa.menu.cache.CategoryListCache;
+import com.ohgiraffers.springdatajpa.menu.cache.CategoryTree;
+import com.ohgiraffers.springdatajpa.menu.dto.CategoryDTO;
+import com.ohgiraffers.springdatajpa.menu.repository.CategoryRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 카테고리 계층(ref_category_code) 조회 서비스.
+ * <p>
+ * - tbl_category 전체를 한 번 읽어 CategoryTree(불변)를 만들고 AtomicReference로 보관한다.
+ *   조회는 현재 트리를 읽기만 하므로 잠금이 없고, 카테고리마다 상위/하위를 다시 조회하는 재귀 쿼리가 필요 없다.
+ * - 카테고리가 바뀌면 reload()로 새 트리를 만든 뒤 참조를 한 번에 교체한다.
+ *   교체 전까지는 이전 트리로 응답하므로, 조회 중인 요청이 만들어지는 도중의 트리를 보는 일은 없다.
+ * - 이 애플리케이션에는 카테고리 변경 기능이 없으므로 DB에서 직접 바뀐 내용은
+ *   menu.category-tree.refresh-interval마다 다시 읽어 반영한다.
+ */
+@Slf4j
+@Service
+public class CategoryTreeService {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryListCache categoryListCache;
+    private final ModelMapper modelMapper;
+
+    private final AtomicReference<CategoryTree> tree = new AtomicReference<>();
+
+    public CategoryTreeService(CategoryRepository categoryRepository, CategoryListCache categoryListCache,
+        ModelMapper modelMapper) {
+        this.categoryRepository = categoryRepository;
+        this.categoryListCache = categoryListCache;
+        this.modelMapper = modelMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * tbl_category를 다시 읽어 트리를 새로 만들고 교체한다.
+     * 카테고리 목록 캐시(CategoryListCache)는 조회 전에 먼저 비우고, 조회가 끝나면 같은 결과로 다시 채운다.
+     * 조회가 실패해도 캐시가 교체 대상인 이전 목록을 계속 내주지 않고, 다음 요청이 DB에서 다시 읽는다.
+     *
+     * @return 새로 만든 트리
+     */
+    @Scheduled(initialDelayString = "${menu.category-tree.refresh-interval:600000}",
+        fixedDelayString = "${menu.category-tree.refresh-interval:600000}")
+    public CategoryTree reload() {
+        categoryListCache.evict();
+        List<CategoryDTO> categories = categoryRepository.findAllCategory().stream()
+            .map(category -> modelMapper.map(category, CategoryDTO.class))
+            .toList();
+
+        CategoryTree newTree = CategoryTree.of(categories);
+        CategoryTree previous = tree.getAndSet(newTree);
+        categoryListCache.put(categories);
+
+        if (previous == null || previous.size() != newTree.size()) {
+            log.info("카테고리 트리 구성 : {}개 (최상위 {}개)", newTree.size(), newTree.getRootCodes().length);
+        }
+        return newTree;
+    }
+
+    /**
+     * @return 현재 카테고리 트리 (아직 만들어지지 않았다면 지금 만든다)
+     */
+    public CategoryTree getTree() {
+        CategoryTree current = tree.get();
+        return current != null ? current : reload();
+    }
+
+    /**
+     * @return 카테고리 자신과 모든 하위 카테고리 코드 (없는 카테고리면 빈 목록)
+     */
+    public List<Integer> findSubtreeCodes(int categoryCode) {
+        return toList(getTree().subtreeCodes(categoryCode));
+    }
+
+    /**
+     * 최상위 카테고리부터 해당 카테고리까지의 경로를 조회한다.
+     *
+     * @param categoryCode 카테고리 코드
+     * @return 경로상의 카테고리 목록 (최상위 → 자신 순서)
+     * @throws IllegalArgumentException 카테고리가 존재하지 않을 경우
+     */
+    public List<CategoryDTO> findCategoryPath(int categoryCode) {
+        CategoryTree current = getTree();
+        if (!current.contains(categoryCode)) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다 : " + categoryCode);
+        }
+        int[] ancestors = current.ancestorCodes(categoryCode);
+        List<CategoryDTO> path = new ArrayList<>(ancestors.length + 1);
+        Integer parentCode = null;
+        for (int code : ancestors) {
+            path.add(toDTO(current, code, parentCode));
+            parentCode = code;
+        }
+        path.add(toDTO(current, categoryCode, parentCode));
+        return path;
+    }
+
+    private static CategoryDTO toDTO(CategoryTree tree, int categoryCode, Integer refCategoryCode) {
+        CategoryDTO category = new CategoryDTO();
+        category.setCategoryCode(categoryCode);
+        category.setCategoryName(tree.getCategoryName(categoryCode));
+        category.setRefCategoryCode(refCategoryCode);
+        return category;
+    }
+
+    private static List<Integer> toList(int[] codes) {
+        return Arrays.stream(codes).boxed().toList();
+    }
+}
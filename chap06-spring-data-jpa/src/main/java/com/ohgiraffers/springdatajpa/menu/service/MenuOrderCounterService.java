@@ -0,0 +1,216 @@
+package com.ohgiraffers.springdatajpa.menu.service;
+
+import com.ohgiraffers.springdatajpa.menu.event.MenuChangedEvent;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메뉴별 주문 수를 집계하는 서비스.
+ * <p>
+ * tbl_menu의 한 행에 "UPDATE ... SET count = count + 1"을 매번 실행하면 같은 행의 락을 두고 요청이 줄을 서게 된다.
+ * 그래서 주문 수는 다음 두 단계로 나누어 기록한다.
+ * <p>
+ * 1. 메모리 집계 : menuCode마다 LongAdder를 두고 증가시킨다.
+ *    LongAdder는 내부적으로 여러 칸(stripe)에 나누어 더하므로, 여러 스레드가 같은 메뉴를 동시에 증가시켜도 경합이 거의 없다.
+ * 2. 주기적 반영 : 일정 주기(menu.order-counter.flush-interval)마다 쌓인 증가분을 한 번의 batch upsert로 DB에 더한다.
+ *    DB 쪽도 (menu_code, shard_no) 단위로 행을 나누어, 여러 서버가 동시에 반영해도 같은 행을 두고 경합하지 않도록 한다.
+ * <p>
+ * - 메모리 집계는 존재하는 메뉴만 받는다. 처음 보는 menuCode는 한 번 DB에서 존재 여부를 확인하므로,
+ *   집계 맵의 크기는 메뉴 수를 넘지 않는다. 반영 후에도 항목은 지우지 않고 반영한 만큼만 빼 둔다.
+ * - 메뉴가 삭제되면(MenuChangedEvent DELETED) 메모리의 증가분과 DB의 집계 행을 함께 지운다.
+ * - 반영에 실패하면 증가분을 메모리에 되돌려 다음 주기에 다시 반영한다.
+ * - 반영 중(메모리에서 뺀 뒤 커밋하기 전)에는 주문 수 조회가 잠시 기다린다. 그렇지 않으면 빠진 증가분이 DB에도 메모리에도 없는 순간이 생긴다.
+ * - 정상 종료 시에는 @PreDestroy에서 마지막으로 반영한다.
+ *   비정상 종료 시 유실될 수 있는 양은 최대 한 주기(flush-interval) 동안의 증가분이다.
+ * - 집계 테이블(tbl_menu_order_count)은 db/menu-order-count.sql로 한 번 만든다. (init-schema 프로필)
+ */
+@Slf4j
+@Service
+public class MenuOrderCounterService {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO tbl_menu_order_count (menu_code, shard_no, order_count) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count)";
+
+    private static final String SUM_SQL =
+        "SELECT COALESCE(SUM(order_count), 0) FROM tbl_menu_order_count WHERE menu_code = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MenuRepository menuRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int shardCount;
+
+    // 아직 DB에 반영되지 않은 메뉴별 증가분
+    private final Map<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // 주문 수 조회(read)와 반영(write)을 나눈다. 증가(increment)는 잠그지 않는다.
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+
+    public MenuOrderCounterService(JdbcTemplate jdbcTemplate, MenuRepository menuRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${menu.order-counter.shards:16}") int shardCount) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.menuRepository = menuRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardCount = Math.max(1, shardCount);
+    }
+
+    /**
+     * 메뉴의 주문 수를 1 증가시킨다. (메모리에만 기록되며, DB에는 다음 반영 주기에 더해진다.)
+     */
+    public void increment(int menuCode) {
+        increment(menuCode, 1);
+    }
+
+    /**
+     * 메뉴의 주문 수를 delta만큼 증가시킨다.
+     *
+     * @throws IllegalArgumentException delta가 0 이하이거나 존재하지 않는 메뉴인 경우
+     */
+    public void increment(int menuCode, long delta) {
+        if (delta <= 0) {
+            throw new IllegalArgumentException("주문 수 증가분은 0보다 커야 합니다 : " + delta);
+        }
+        // 이미 있는 메뉴는 get()만으로 찾으므로 computeIfAbsent의 잠금과 존재 여부 확인을 거치지 않는다.
+        LongAdder adder = pending.get(menuCode);
+        if (adder == null) {
+            if (!menuRepository.existsById(menuCode)) {
+                throw new IllegalArgumentException("존재하지 않는 메뉴입니다 : " + menuCode);
+            }
+            adder = pending.computeIfAbsent(menuCode, key -> new LongAdder());
+        }
+        adder.add(delta);
+    }
+
+    /**
+     * 메뉴의 현재 주문 수를 조회한다.
+     *
+     * @return DB에 반영된 주문 수 + 아직 반영되지 않은 증가분
+     */
+    public long getOrderCount(int menuCode) {
+        flushLock.readLock().lock();
+        try {
+            Long persisted = jdbcTemplate.queryForObject(SUM_SQL, Long.class, menuCode);
+            LongAdder adder = pending.get(menuCode);
+            return (persisted == null ? 0 : persisted) + (adder == null ? 0 : adder.sum());
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 메뉴의 집계를 지운다.
+     * 반영 중에 지우면 반영이 이미 빼 둔 증가분을 다시 upsert하여 집계 행이 되살아나므로, 반영과 같은 잠금을 잡는다.
+     * 커밋된 뒤에는 existsById()가 false이므로 이후의 increment()는 항목을 다시 만들지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        if (event.getType() != MenuChangedEvent.Type.DELETED) {
+            return;
+        }
+        int menuCode = event.getMenu().getMenuCode();
+        flushLock.writeLock().lock();
+        try {
+            pending.remove(menuCode);
+            jdbcTemplate.update("DELETE FROM tbl_menu_order_count WHERE menu_code = ?", menuCode);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 쌓인 증가분을 DB에 batch upsert로 반영한다.
+     *
+     * @return 이번에 반영한 주문 수 합계
+     */
+    @Scheduled(fixedDelayString = "${menu.order-counter.flush-interval:1000}")
+    public long flush() {
+        flushLock.writeLock().lock();
+        try {
+            return flushPending();
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private long flushPending() {
+        List<Object[]> batch = new ArrayList<>();
+        List<LongAdder> adders = new ArrayList<>();
+        long total = 0;
+
+        for (Map.Entry<Integer, LongAdder> entry : pending.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long delta = adder.sum();
+            if (delta == 0) {
+                continue;
+            }
+            // sumThenReset()은 동시에 더해지는 값을 잃을 수 있으므로, 읽은 만큼만 빼서 그 사이의 증가분은 남겨 둔다.
+            adder.add(-delta);
+
+            int shardNo = ThreadLocalRandom.current().nextInt(shardCount);
+            batch.add(new Object[]{entry.getKey(), shardNo, delta});
+            adders.add(adder);
+            total += delta;
+        }
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(
+                status -> jdbcTemplate.batchUpdate(UPSERT_SQL, batch));
+            flushedCount.addAndGet(total);
+            return total;
+        } catch (RuntimeException e) {
+            // 반영에 실패한 증가분은 되돌려 다음 주기에 다시 반영한다.
+            for (int i = 0; i < batch.size(); i++) {
+                adders.get(i).add((Long) batch.get(i)[2]);
+            }
+            flushFailures.incrementAndGet();
+            log.warn("주문 수 반영 실패 ({}건, 합계 {}) : {}", batch.size(), total, e.getMessage());
+            return 0;
+        }
+    }
+
+    /* 정상 종료 시 남은 증가분을 반영한다. */
+    @PreDestroy
+    public void flushOnShutdown() {
+        long flushed = flush();
+        log.info("종료 전 주문 수 반영 : {}", flushed);
+    }
+
+    /**
+     * @return 아직 DB에 반영되지 않은 증가분 합계
+     */
+    public long pendingCount() {
+        return pending.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.get();
+    }
+
+    public long getFlushFailures() {
+        return flushFailures.get();
+    }
+}
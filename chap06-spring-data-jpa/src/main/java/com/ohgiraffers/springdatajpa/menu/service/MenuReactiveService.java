@@ -0,0 +1,102 @@
+package com.ohgiraffers.springdatajpa.menu.service;
+
+import com.ohgiraffers.springdatajpa.menu.dto.CategoryDTO;
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 메뉴 조회를 Mono/Flux로 제공하는 리액티브 읽기 전용 서비스.
+ * <p>
+ * JPA(JDBC)는 블로킹 API이므로, 조회 작업은 전용 스케줄러(bounded elastic)의 스레드에서 실행하고
+ * 요청 스레드는 결과를 기다리지 않고 바로 반환된다.
+ * <p>
+ * - 전용 스케줄러의 스레드 수는 커넥션 풀 크기(menu.reactive.jdbc-threads)에 맞춘다.
+ *   스레드가 커넥션보다 많으면 커넥션을 기다리며 막히는 스레드만 늘어나기 때문이다.
+ *   처리하지 못한 작업은 최대 menu.reactive.queue-capacity개까지 대기열에 쌓이고, 넘치면 즉시 거절된다.
+ * - 목록 스트리밍은 menuCode 기준 키셋 페이징으로 한 페이지씩 조회하며,
+ *   구독자가 요청(request)한 만큼만 다음 페이지를 조회하므로 느린 클라이언트 때문에 메모리가 쌓이지 않는다. (backpressure)
+ */
+@Service
+public class MenuReactiveService {
+
+    private final MenuService menuService;
+    private final MenuRepository menuRepository;
+    private final ModelMapper modelMapper;
+    private final Scheduler jdbcScheduler;
+    private final int pageSize;
+
+    public MenuReactiveService(MenuService menuService, MenuRepository menuRepository,
+        ModelMapper modelMapper,
+        @Value("${menu.reactive.jdbc-threads:10}") int jdbcThreads,
+        @Value("${menu.reactive.queue-capacity:10000}") int queueCapacity,
+        @Value("${menu.reactive.page-size:100}") int pageSize) {
+        this.menuService = menuService;
+        this.menuRepository = menuRepository;
+        this.modelMapper = modelMapper;
+        this.jdbcScheduler = Schedulers.newBoundedElastic(jdbcThreads, queueCapacity, "menu-jdbc");
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    /**
+     * 메뉴 단건 조회
+     *
+     * @return 조회된 메뉴, 존재하지 않으면 비어 있는 Mono
+     */
+    public Mono<MenuDTO> findMenuByMenuCode(int menuCode) {
+        return Mono.fromCallable(() -> menuService.findMenuByMenuCode(menuCode))
+            .subscribeOn(jdbcScheduler)
+            .onErrorResume(IllegalArgumentException.class, e -> Mono.empty());
+    }
+
+    /**
+     * 전체 메뉴를 menuCode 오름차순으로 스트리밍한다.
+     * <p>
+     * 첫 페이지를 조회한 뒤, 페이지가 가득 차 있으면 마지막 menuCode 이후를 다음 페이지로 조회한다. (expand)
+     * 다음 페이지 조회는 하위 구독자가 이전 페이지를 모두 소비해 추가 요청을 보낼 때 일어난다.
+     */
+    public Flux<MenuDTO> streamMenuList() {
+        return fetchPageAfter(0)
+            .expand(page -> page.size() < pageSize
+                ? Mono.empty()
+                : fetchPageAfter(page.get(page.size() - 1).getMenuCode()))
+            .concatMapIterable(page -> page)
+            .limitRate(pageSize);
+    }
+
+    /**
+     * 전체 카테고리 목록 조회 (카테고리 목록 캐시를 거친다.)
+     */
+    public Flux<CategoryDTO> findAllCategory() {
+        return Mono.fromCallable(menuService::findAllCategory)
+            .subscribeOn(jdbcScheduler)
+            .flatMapIterable(categoryList -> categoryList);
+    }
+
+    private Mono<List<MenuDTO>> fetchPageAfter(int menuCode) {
+        return Mono.fromCallable(() -> {
+                List<Menu> menuList = menuRepository.findByMenuCodeGreaterThan(
+                    menuCode, PageRequest.of(0, pageSize, Sort.by("menuCode")));
+                return menuList.stream()
+                    .map(menu -> modelMapper.map(menu, MenuDTO.class))
+                    .toList();
+            })
+            .subscribeOn(jdbcScheduler);
+    }
+
+    @PreDestroy
+    public void dispose() {
+        jdbcScheduler.dispose();
+    }
+}
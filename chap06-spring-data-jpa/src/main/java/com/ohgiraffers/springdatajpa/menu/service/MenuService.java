@@ -1,18 +1,41 @@
 package com.ohgiraffers.springdatajpa.menu.service;
 
+import com.ohgiraffers.springdatajpa.common.OptimisticLockRetryExecutor;
+import com.ohgiraffers.springdatajpa.common.SingleFlight;
+import com.ohgiraffers.springdatajpa.menu.batch.MenuBulkLoader;
+import com.ohgiraffers.springdatajpa.menu.batch.MenuCsvParser;
+import com.ohgiraffers.springdatajpa.menu.cache.CategoryListCache;
+import com.ohgiraffers.springdatajpa.menu.cache.OffHeapMenuCache;
 import com.ohgiraffers.springdatajpa.menu.dto.CategoryDTO;
 import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.dto.MenuSearchCondition;
 import com.ohgiraffers.springdatajpa.menu.entity.Category;
 import com.ohgiraffers.springdatajpa.menu.entity.Menu;
 import com.ohgiraffers.springdatajpa.menu.repository.CategoryRepository;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuIndexAdvisor;
 import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuSpecifications;
+import com.ohgiraffers.springdatajpa.menu.search.MenuPriceRepository;
+import com.ohgiraffers.springdatajpa.menu.search.MenuSearchRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,25 +55,157 @@ public class MenuService {
 
     private final CategoryRepository categoryRepository;
 
+    // 메뉴명 검색 색인
+    private final MenuSearchRepository menuSearchRepository;
+
+    // 가격 범위 색인
+    private final MenuPriceRepository menuPriceRepository;
+
+    // 카테고리 계층 (하위 카테고리 조회용)
+    private final CategoryTreeService categoryTreeService;
+
+    // 동적 검색 조건 조합 집계 (인덱스 추천용)
+    private final MenuIndexAdvisor menuIndexAdvisor;
+
+    // 동적 검색에서 허용하는 정렬 기준
+    private static final Set<String> SEARCHABLE_SORTS = Set.of("menuCode", "menuPrice", "menuName");
+
+    // menu.offheap.enabled=true 일 때만 등록되는 선택적 캐시. 없으면 getIfAvailable()이 null을 반환한다.
+    private final ObjectProvider<OffHeapMenuCache> offHeapMenuCache;
+
+    // 카테고리 목록 캐시 (기동 시 카탈로그 스냅샷으로 미리 채워질 수 있다)
+    private final CategoryListCache categoryListCache;
+
+    // 낙관적 락 충돌 시 트랜잭션을 다시 실행하는 실행기
+    private final OptimisticLockRetryExecutor optimisticLockRetryExecutor;
+
+    // 대량 등록용 적재기 (LOAD DATA / 여러 행 INSERT)
+    private final MenuBulkLoader menuBulkLoader;
+
+    // 동시에 들어온 같은 조회를 하나의 DB 호출로 합치는 single-flight (메뉴 코드 / 기준 가격별)
+    // MenuDTO는 변경 가능하므로 요청마다 사본을 받게 한다.
+    private final SingleFlight<Integer, MenuDTO> menuByCodeFlight = new SingleFlight<>(MenuService::copyMenu);
+    private final SingleFlight<Integer, List<MenuDTO>> menuByPriceFlight = new SingleFlight<>(
+        menus -> menus.stream().map(MenuService::copyMenu).toList());
+
+    // multi-get 한 번에 조회할 수 있는 최대 코드 수 / IN 절 하나에 넣을 코드 수
+    @Value("${menu.multi-get.max-codes:1000}")
+    private int multiGetMaxCodes;
+
+    @Value("${menu.multi-get.chunk-size:100}")
+    private int multiGetChunkSize;
+
     /**
      * 주어진 메뉴 코드(menuCode)를 이용해 메뉴 정보를 조회한 후, 해당 엔티티를 MenuDTO로 변환하여 반환한다.
      * <p>
      * - 메뉴가 존재하지 않을 경우 IllegalArgumentException 예외를 발생시킨다. - ModelMapper를 사용해 엔티티의 필드를 DTO로 매핑한다.
+     * - off-heap 캐시가 활성화되어 있으면 캐시를 먼저 조회하고, 없을 때만 DB를 조회한다.
      *
      * @param menuCode 조회할 메뉴의 고유 코드(PK)
      * @return 변환된 MenuDTO 객체
      * @throws IllegalArgumentException 해당 ID의 메뉴가 존재하지 않을 경우 발생
      */
     public MenuDTO findMenuByMenuCode(int menuCode) {
-        // 메뉴 엔티티 조회 (존재하지 않으면 예외 발생)
-        Menu foundMenu = menuRepository.findById(menuCode)
-            .orElseThrow(() -> new IllegalArgumentException("해당 메뉴가 존재하지 않습니다."));
+        OffHeapMenuCache cache = offHeapMenuCache.getIfAvailable();
+        if (cache != null) {
+            MenuDTO cachedMenu = cache.get(menuCode);
+            if (cachedMenu != null) {
+                return cachedMenu;
+            }
+        }
+
+        // 같은 menuCode를 동시에 조회하는 요청들은 하나의 DB 조회 결과를 함께 받는다.
+        return menuByCodeFlight.execute(menuCode, () -> {
+            // 메뉴 엔티티 조회 (존재하지 않으면 예외 발생)
+            Menu foundMenu = menuRepository.findById(menuCode)
+                .orElseThrow(() -> new IllegalArgumentException("해당 메뉴가 존재하지 않습니다."));
 
-        // ModelMapper를 이용해 Menu 엔티티를 MenuDTO로 변환하여 반환
-        return modelMapper.map(foundMenu, MenuDTO.class);
+            // ModelMapper를 이용해 Menu 엔티티를 MenuDTO로 변환하여 반환
+            return modelMapper.map(foundMenu, MenuDTO.class);
+        });
     }
 
 
+    /**
+     * 여러 메뉴 코드를 한 번에 조회한다. (multi-get)
+     * <p>
+     * - 중복된 코드는 한 번만 조회하며, 결과는 요청한 코드 순서대로 반환한다. 존재하지 않는 코드는 결과에서 빠진다.
+     * - off-heap 캐시가 활성화되어 있으면 캐시에서 먼저 찾고, 없는 코드만 DB에서 조회한다.
+     * - DB 조회는 findAllById()로 "WHERE menu_code IN (...)" 한 번에 처리하되,
+     *   IN 목록이 너무 길어지지 않도록 menu.multi-get.chunk-size 단위로 나누어 조회한다.
+     *   (hibernate.query.in_clause_parameter_padding 설정으로 IN 목록 길이가 2의 거듭제곱으로 맞춰져,
+     *   코드 수가 달라도 같은 SQL 문이 재사용된다.)
+     *
+     * @param menuCodes 조회할 메뉴 코드 목록
+     * @return 조회된 MenuDTO 리스트
+     * @throws IllegalArgumentException 요청한 코드 수가 menu.multi-get.max-codes를 넘는 경우
+     */
+    public List<MenuDTO> findMenusByMenuCodes(List<Integer> menuCodes) {
+        Set<Integer> distinctCodes = new LinkedHashSet<>(menuCodes);
+        if (distinctCodes.size() > multiGetMaxCodes) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 메뉴는 최대 " + multiGetMaxCodes + "개입니다.");
+        }
+        return resolveMenus(distinctCodes);
+    }
+
+    /* 메뉴 코드 순서대로 캐시 → DB(IN 절 chunk) 순으로 메뉴를 찾는다. */
+    private List<MenuDTO> resolveMenus(Collection<Integer> distinctCodes) {
+        Map<Integer, MenuDTO> found = new HashMap<>();
+        List<Integer> misses = new ArrayList<>();
+
+        OffHeapMenuCache cache = offHeapMenuCache.getIfAvailable();
+        for (Integer menuCode : distinctCodes) {
+            MenuDTO cachedMenu = cache == null ? null : cache.get(menuCode);
+            if (cachedMenu != null) {
+                found.put(menuCode, cachedMenu);
+            } else {
+                misses.add(menuCode);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += multiGetChunkSize) {
+            List<Integer> chunk = misses.subList(from, Math.min(from + multiGetChunkSize, misses.size()));
+            for (Menu menu : menuRepository.findAllById(chunk)) {
+                found.put(menu.getMenuCode(), modelMapper.map(menu, MenuDTO.class));
+            }
+        }
+
+        List<MenuDTO> result = new ArrayList<>(found.size());
+        for (Integer menuCode : distinctCodes) {
+            MenuDTO menu = found.get(menuCode);
+            if (menu != null) {
+                result.add(menu);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 메뉴명에 검색어가 포함된 메뉴 목록을 관련도 순으로 조회한다.
+     * <p>
+     * - 메뉴명 검색 색인에서 메뉴 코드를 찾은 뒤, multi-get으로 메뉴 정보를 한 번에 조회한다.
+     *
+     * @param keyword 검색어
+     * @param limit   최대 결과 수
+     * @return 관련도 순으로 정렬된 MenuDTO 리스트
+     */
+    public List<MenuDTO> searchMenuByName(String keyword, int limit) {
+        List<Integer> menuCodes = menuSearchRepository.searchMenuCodesByName(keyword, limit);
+        return menuCodes.isEmpty() ? List.of() : findMenusByMenuCodes(menuCodes);
+    }
+
+    /**
+     * 입력 중인 검색어로 시작하는 메뉴 목록을 가나다순으로 조회한다. (자동완성)
+     *
+     * @param prefix 입력 중인 검색어 (완성되지 않은 음절 포함 가능)
+     * @param limit  최대 결과 수
+     * @return MenuDTO 리스트
+     */
+    public List<MenuDTO> autocompleteMenuName(String prefix, int limit) {
+        List<Integer> menuCodes = menuSearchRepository.autocompleteMenuCodes(prefix, limit);
+        return menuCodes.isEmpty() ? List.of() : findMenusByMenuCodes(menuCodes);
+    }
+
     /**
      * findAll : sort 모든 메뉴 목록을 메뉴 코드(menuCode) 기준 내림차순 정렬하여 조회한다. 조회된 Menu 엔티티 리스트는 스트림을 이용해
      * ModelMapper로 각각 MenuDTO 리스트로 변환된다.
@@ -105,6 +260,8 @@ public class MenuService {
      * <p>
      * - Spring Data JPA의 쿼리 메서드 명명 규칙을 이용해 repository에서 자동 쿼리 생성 - 정렬 조건은 Sort 객체를 통해 동적으로 전달
      * (menuPrice 기준 내림차순) - 조회된 엔티티(Menu)를 DTO(MenuDTO)로 변환하여 반환
+     * - 가격 색인이 최신이면 색인에서 메뉴 코드를 찾아 multi-get으로 조회하고, 아니면 DB에서 조회한다.
+     *   (두 경로 모두 가격이 같으면 menuCode 내림차순)
      *
      * @param menuPrice 기준이 되는 메뉴 가격
      * @return 가격 조건을 만족하는 MenuDTO 리스트
@@ -114,22 +271,151 @@ public class MenuService {
         // List<Menu> menuList = menuRepository.findByMenuPriceGreaterThan(menuPrice);
         // List<Menu> menuList = menuRepository.findByMenuPriceGreaterThanOrderByMenuPrice(menuPrice);
 
-        // 정렬 조건: menuPrice 기준 내림차순
-        List<Menu> menuList = menuRepository.findByMenuPriceGreaterThan(
-            menuPrice,
-            Sort.by("menuPrice").descending()
-        );
+        // 같은 기준 가격으로 동시에 들어온 요청은 하나의 조회 결과를 각자의 사본으로 받는다.
+        return menuByPriceFlight.execute(menuPrice, () -> {
+            if (menuPriceRepository.isFresh()) {
+                if (menuPrice == Integer.MAX_VALUE) {
+                    return List.of();
+                }
+                return resolveMenus(menuPriceRepository.findMenuCodes(menuPrice + 1, Integer.MAX_VALUE, true, 0));
+            }
 
-        return menuList.stream()
+            // 정렬 조건: menuPrice 기준 내림차순
+            List<Menu> menuList = menuRepository.findByMenuPriceGreaterThan(
+                menuPrice,
+                Sort.by("menuPrice").descending().and(Sort.by("menuCode").descending())
+            );
+
+            return menuList.stream()
+                .map(menu -> modelMapper.map(menu, MenuDTO.class))
+                .toList();
+        });
+    }
+
+    /**
+     * 가격 범위 조회 : 가격이 [minPrice, maxPrice]인 메뉴를 가격 순으로 limit개 조회한다.
+     * <p>
+     * - minPrice/maxPrice가 null이면 해당 방향의 제한이 없다. (초과/미만 조건은 경계값을 1 조정해 전달)
+     * - 가격 색인이 최신이면 색인에서, 아니면 DB에서 조회한다.
+     *
+     * @param minPrice   최소 가격 (포함, null 가능)
+     * @param maxPrice   최대 가격 (포함, null 가능)
+     * @param descending true면 가격 내림차순
+     * @param limit      최대 결과 수
+     * @return 가격 순으로 정렬된 MenuDTO 리스트
+     */
+    public List<MenuDTO> findByMenuPriceRange(Integer minPrice, Integer maxPrice, boolean descending, int limit) {
+        int min = minPrice == null ? Integer.MIN_VALUE : minPrice;
+        int max = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+
+        if (menuPriceRepository.isFresh()) {
+            return resolveMenus(menuPriceRepository.findMenuCodes(min, max, descending, limit));
+        }
+
+        Sort sort = descending
+            ? Sort.by("menuPrice").descending().and(Sort.by("menuCode").descending())
+            : Sort.by("menuPrice").and(Sort.by("menuCode"));
+        return menuRepository.findByMenuPriceBetween(min, max, PageRequest.of(0, limit, sort))
+            .stream()
             .map(menu -> modelMapper.map(menu, MenuDTO.class))
             .toList();
     }
 
+    /**
+     * 동적 조건 검색 : 검색 조건 중 값이 있는 항목만 WHERE 절에 포함하여 조회한다.
+     * <p>
+     * - afterMenuCode가 있으면 키셋 페이징(menuCode 오름차순 고정, 전체 건수 조회 없음)으로,
+     *   없으면 OFFSET 페이징(page는 1부터, 전체 건수 포함)으로 조회한다.
+     * - 정렬 기준은 menuCode, menuPrice, menuName만 허용한다.
+     * - 사용된 조건 조합은 MenuIndexAdvisor에 집계되어 인덱스 추천에 사용된다.
+     *
+     * @param condition 검색 조건
+     * @return 검색 결과 (키셋 페이징이면 Slice, OFFSET 페이징이면 Page)
+     * @throws IllegalArgumentException 허용하지 않는 정렬 기준/방향이거나, 키셋 페이징에 다른 정렬을 요청했거나,
+     *                                  size가 범위를 벗어난 경우
+     */
+    public Slice<MenuDTO> searchMenus(MenuSearchCondition condition) {
+        if (condition.getSize() < 1 || condition.getSize() > 100) {
+            throw new IllegalArgumentException("size는 1 이상 100 이하여야 합니다.");
+        }
+        if (!SEARCHABLE_SORTS.contains(condition.getSort())) {
+            throw new IllegalArgumentException("정렬할 수 없는 항목입니다 : " + condition.getSort());
+        }
+        Sort.Direction direction = condition.getDirection() == null
+            ? Sort.Direction.ASC
+            : Sort.Direction.fromOptionalString(condition.getDirection())
+                .orElseThrow(() -> new IllegalArgumentException(
+                    "정렬 방향은 asc 또는 desc여야 합니다 : " + condition.getDirection()));
+        Specification<Menu> spec = MenuSpecifications.of(condition);
+
+        if (condition.getAfterMenuCode() != null) {
+            // 키셋 페이징은 menuCode 오름차순으로만 이어서 조회할 수 있으므로, 다른 정렬 요청을 무시하지 않고 거부한다.
+            if (!"menuCode".equals(condition.getSort()) || direction != Sort.Direction.ASC) {
+                throw new IllegalArgumentException("afterMenuCode를 사용할 때는 menuCode 오름차순으로만 정렬할 수 있습니다.");
+            }
+            menuIndexAdvisor.record(condition, "menuCode");
+
+            // size + 1건을 조회해 다음 페이지 존재 여부를 판단한다. (COUNT 쿼리 없음)
+            List<Menu> menuList = menuRepository.findBy(spec, query -> query
+                .sortBy(Sort.by("menuCode"))
+                .limit(condition.getSize() + 1)
+                .all());
+            boolean hasNext = menuList.size() > condition.getSize();
+            List<MenuDTO> content = menuList.stream()
+                .limit(condition.getSize())
+                .map(menu -> modelMapper.map(menu, MenuDTO.class))
+                .toList();
+            return new SliceImpl<>(content, PageRequest.of(0, condition.getSize()), hasNext);
+        }
+
+        menuIndexAdvisor.record(condition, condition.getSort());
+
+        Sort sort = Sort.by(direction, condition.getSort());
+        if (!"menuCode".equals(condition.getSort())) {
+            sort = sort.and(Sort.by("menuCode"));   // 같은 값끼리의 순서를 고정해 페이지 간 중복/누락을 막는다.
+        }
+        Pageable pageable = PageRequest.of(Math.max(condition.getPage(), 1) - 1, condition.getSize(), sort);
+        return menuRepository.findAll(spec, pageable)
+            .map(menu -> modelMapper.map(menu, MenuDTO.class));
+    }
+
+    /**
+     * 카테고리와 그 하위 카테고리 전체에 속한 메뉴를 키셋 페이징으로 조회한다.
+     * - 하위 카테고리 코드는 메모리의 카테고리 트리에서 구하고, 메뉴는 IN 쿼리 한 번으로 조회한다.
+     * - size + 1건을 조회해 다음 페이지 존재 여부를 판단한다. (COUNT 쿼리 없음)
+     *
+     * @param categoryCode  기준 카테고리 코드
+     * @param afterMenuCode 이전 페이지의 마지막 menuCode (첫 페이지는 0)
+     * @param size          페이지 크기 (1 ~ 100)
+     * @return 메뉴 목록 (menuCode 오름차순)
+     * @throws IllegalArgumentException 카테고리가 존재하지 않거나 size가 범위를 벗어난 경우
+     */
+    public Slice<MenuDTO> findMenusUnderCategory(int categoryCode, int afterMenuCode, int size) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("size는 1 이상 100 이하여야 합니다.");
+        }
+        List<Integer> categoryCodes = categoryTreeService.findSubtreeCodes(categoryCode);
+        if (categoryCodes.isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다 : " + categoryCode);
+        }
+        List<Menu> menuList = menuRepository.findByCategoryCodeInAndMenuCodeGreaterThan(
+            categoryCodes, afterMenuCode, PageRequest.of(0, size + 1, Sort.by("menuCode")));
+        boolean hasNext = menuList.size() > size;
+        List<MenuDTO> content = menuList.stream()
+            .limit(size)
+            .map(menu -> modelMapper.map(menu, MenuDTO.class))
+            .toList();
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
     /* JPQL or Native Query */
     public List<CategoryDTO> findAllCategory() {
-        List<Category> categoryList = categoryRepository.findAllCategory();
-        return categoryList.stream().map(category -> modelMapper.map(category, CategoryDTO.class))
-            .toList();
+        return categoryListCache.get(() -> {
+            List<Category> categoryList = categoryRepository.findAllCategory();
+            return categoryList.stream()
+                .map(category -> modelMapper.map(category, CategoryDTO.class))
+                .toList();
+        });
     }
 
     /**
@@ -137,30 +423,111 @@ public class MenuService {
      * <p>
      * - 전달받은 MenuDTO 객체를 ModelMapper를 사용해 Menu 엔티티로 변환한 뒤 저장한다. - @Transactional 어노테이션으로 트랜잭션을
      * 보장한다.
+     * - Menu는 카테고리를 엔티티가 아닌 categoryCode 값으로만 가지므로, 카테고리를 조회하지 않고 INSERT 한 번으로 등록된다.
+     *   카테고리 존재 여부는 메모리의 카테고리 트리로 확인하며, 트리에 없을 때만 DB로 다시 확인한다.
+     *   (외래키 제약 조건 위반으로 INSERT가 실패하기 전에 걸러낸다)
      *
      * @param menuDTO 신규 등록할 메뉴 정보
+     * @throws IllegalArgumentException 카테고리가 존재하지 않을 경우
      */
     @Transactional
     public void registMenu(MenuDTO menuDTO) {
+        validateCategory(menuDTO.getCategoryCode());
         menuRepository.save(modelMapper.map(menuDTO, Menu.class));
     }
 
+    /**
+     * registMenus: 신규 메뉴 대량 등록
+     * <p>
+     * - registMenu와 같은 검증(카테고리 존재 여부)을 모든 메뉴에 먼저 수행하고, 하나라도 실패하면 아무것도 등록하지 않는다.
+     *   카테고리는 코드마다 한 번만 확인한다.
+     * - 엔티티를 만들지 않고 MenuBulkLoader로 한 번에 적재하므로, 건수가 많을수록 registMenu 반복보다 훨씬 빠르다.
+     *
+     * @param menuDTOs 신규 등록할 메뉴 목록
+     * @return 등록된 메뉴 수
+     * @throws IllegalArgumentException 메뉴 이름이 비어 있거나 너무 길거나, 가격이 음수이거나, 카테고리가 존재하지 않을 경우
+     */
+    @Transactional
+    public int registMenus(List<MenuDTO> menuDTOs) {
+        Set<Integer> checkedCategories = new HashSet<>();
+        for (MenuDTO menuDTO : menuDTOs) {
+            if (menuDTO.getMenuName() == null || menuDTO.getMenuName().isBlank()) {
+                throw new IllegalArgumentException("메뉴 이름이 비어 있습니다 : " + menuDTO);
+            }
+            // LOAD DATA는 긴 값을 오류 없이 잘라서 넣으므로 미리 거른다.
+            String menuName = menuDTO.getMenuName();
+            if (menuName.codePointCount(0, menuName.length()) > MenuCsvParser.MENU_NAME_MAX_LENGTH) {
+                throw new IllegalArgumentException(
+                    "메뉴 이름은 " + MenuCsvParser.MENU_NAME_MAX_LENGTH + "자 이하여야 합니다 : " + menuDTO);
+            }
+            if (menuDTO.getMenuPrice() < 0) {
+                throw new IllegalArgumentException("메뉴 가격은 0 이상이어야 합니다 : " + menuDTO);
+            }
+            if (checkedCategories.add(menuDTO.getCategoryCode())) {
+                validateCategory(menuDTO.getCategoryCode());
+            }
+        }
+        return menuBulkLoader.load(menuDTOs);
+    }
+
+    private void validateCategory(int categoryCode) {
+        if (categoryTreeService.getTree().contains(categoryCode)) {
+            return;
+        }
+        // 트리를 만든 뒤 추가된 카테고리일 수 있으므로 DB로 한 번만 확인한다.
+        // (트리는 주기적으로 다시 만들어지므로 여기서 전체 트리를 다시 읽지 않는다. 없는 코드를 반복 요청해도 existsById 한 번씩이다)
+        if (!categoryRepository.existsById(categoryCode)) {
+            throw new IllegalArgumentException("존재하지 않는 카테고리입니다 : " + categoryCode);
+        }
+    }
+
     /**
      * 메뉴 이름 수정 - Setter 사용 지양, 기능에 맞는 메서드를 엔티티에 정의해 사용
+     * <p>
+     * - Menu는 @Version으로 낙관적 락을 사용하므로, 동시에 같은 메뉴를 수정하면 나중에 커밋한 쪽에서 충돌이 발생한다.
+     * - 충돌 시 OptimisticLockRetryExecutor가 "조회 → 수정 → 커밋"을 새 트랜잭션으로 다시 수행한다.
+     *   (그래서 이 메서드에는 @Transactional을 붙이지 않는다.)
      *
      * @param menuDTO 수정할 메뉴 정보
      * @throws IllegalArgumentException 메뉴가 존재하지 않을 경우
+     * @throws org.springframework.dao.OptimisticLockingFailureException 재시도를 모두 소진한 경우
      */
-    @Transactional
     public void modifyMenu(MenuDTO menuDTO) {
-        Menu foundMenu = menuRepository.findById(menuDTO.getMenuCode())
-            .orElseThrow(IllegalArgumentException::new);
+        optimisticLockRetryExecutor.execute(() -> {
+            Menu foundMenu = menuRepository.findById(menuDTO.getMenuCode())
+                .orElseThrow(IllegalArgumentException::new);
 
-        foundMenu.modifyMenuName(menuDTO.getMenuName());
+            foundMenu.modifyMenuName(menuDTO.getMenuName());
+        });
     }
 
     @Transactional
     public void deleteMenu(Integer menuCode) {
         menuRepository.deleteById(menuCode);
     }
+
+    /* single-flight 결과를 요청마다 나누어 주기 위한 MenuDTO 사본 */
+    private static MenuDTO copyMenu(MenuDTO menu) {
+        MenuDTO copy = new MenuDTO();
+        copy.setMenuCode(menu.getMenuCode());
+        copy.setMenuName(menu.getMenuName());
+        copy.setMenuPrice(menu.getMenuPrice());
+        copy.setCategoryCode(menu.getCategoryCode());
+        copy.setOrderableStatus(menu.getOrderableStatus());
+        return copy;
+    }
+
+    /**
+     * @return 메뉴 코드 단건 조회의 single-flight 지표 (전체 요청/실제 조회/합쳐진 요청 수)
+     */
+    public SingleFlight<Integer, MenuDTO> getMenuByCodeFlight() {
+        return menuByCodeFlight;
+    }
+
+    /**
+     * @return 가격 조건 조회의 single-flight 지표
+     */
+    public SingleFlight<Integer, List<MenuDTO>> getMenuByPriceFlight() {
+        return menuByPriceFlight;
+    }
 }
@@ -0,0 +1,9 @@
+-- 메뉴별 주문 수 집계 테이블 (MenuOrderCounterService)
+-- 한 번만 실행하는 스크립트다. (init-schema 프로필 또는 mysql 클라이언트로 직접 실행)
+-- 메뉴 하나를 shard_no로 여러 행에 나누어, 여러 서버가 동시에 반영해도 같은 행을 두고 경합하지 않게 한다.
+CREATE TABLE IF NOT EXISTS tbl_menu_order_count (
+    menu_code   INT     NOT NULL,
+    shard_no    TINYINT NOT NULL,
+    order_count BIGINT  NOT NULL DEFAULT 0,
+    PRIMARY KEY (menu_code, shard_no)
+);
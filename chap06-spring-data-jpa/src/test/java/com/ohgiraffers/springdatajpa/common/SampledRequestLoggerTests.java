@@ -0,0 +1,83 @@
+package com.ohgiraffers.springdatajpa.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SampledRequestLogger의 집계 동작과, 기존 방식(목록 전체 toString) 대비 할당량 감소를 확인하는 테스트.
+ */
+class SampledRequestLoggerTests {
+
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    @DisplayName("표본으로 뽑히지 않은 요청은 메시지를 만들지 않고 요청 수만 집계하는지 확인")
+    void testCountWithoutSampling() {
+
+        // given
+        SampledRequestLogger requestLogger = new SampledRequestLogger(0);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            requestLogger.info("menu.list", () -> {
+                throw new AssertionError("표본이 아닌 요청에서 메시지를 만들면 안 됩니다.");
+            });
+        }
+
+        // then
+        assertEquals(100L, requestLogger.getRequestCounts().get("menu.list"));
+        assertTrue(requestLogger.getSampledCounts().isEmpty());
+    }
+
+    @Test
+    @DisplayName("목록 내용을 로그로 남기던 기존 방식보다 요청당 할당량이 크게 줄어드는지 확인")
+    void testAllocationReduction() {
+
+        // given : 한 페이지 분량(10건)의 메뉴 목록
+        List<MenuDTO> content = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            MenuDTO menu = new MenuDTO();
+            menu.setMenuCode(i);
+            menu.setMenuName("메뉴" + i);
+            menu.setMenuPrice(i * 1000);
+            menu.setCategoryCode(4);
+            menu.setOrderableStatus('Y');
+            content.add(menu);
+        }
+        SampledRequestLogger requestLogger = new SampledRequestLogger(0);
+
+        // when : 기존 방식은 로그 인자로 넘긴 목록의 toString()이 요청마다 호출되었다.
+        Runnable legacy = () -> String.valueOf(content).length();
+        Runnable sampled = () -> requestLogger.info("menu.list",
+            () -> "elements=" + content.size());
+
+        measureAllocatedBytes(legacy);      // JIT 준비 (warm-up)
+        measureAllocatedBytes(sampled);
+        long legacyBytes = measureAllocatedBytes(legacy);
+        long sampledBytes = measureAllocatedBytes(sampled);
+
+        // then
+        System.out.println("요청당 할당량 - 기존 : " + legacyBytes / ITERATIONS
+            + " bytes, 표본 추출 : " + sampledBytes / ITERATIONS + " bytes");
+        assertTrue(sampledBytes * 10 < legacyBytes);
+    }
+
+    private static long measureAllocatedBytes(Runnable task) {
+        com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+}
@@ -0,0 +1,101 @@
+package com.ohgiraffers.springdatajpa.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SingleFlight가 같은 키의 동시 요청을 한 번의 실행으로 합치고, 결과 사본과 예외를 모든 요청에 전달하는지 확인하는 테스트.
+ */
+class SingleFlightTests {
+
+    private static final int THREAD_COUNT = 16;
+
+    /* THREAD_COUNT개의 스레드가 같은 키로 동시에 execute를 호출한다. loader는 모든 스레드가 합류한 뒤에 끝난다. */
+    private static <V> List<Future<V>> executeConcurrently(SingleFlight<String, V> flight, Supplier<V> loader)
+        throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch started = new CountDownLatch(1);
+        List<Future<V>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executor.submit(() -> flight.execute("key", () -> {
+                started.countDown();
+                // 나머지 요청이 모두 진행 중인 실행에 합쳐질 때까지 결과를 내지 않는다.
+                while (flight.getCoalesced() < THREAD_COUNT - 1) {
+                    Thread.onSpinWait();
+                }
+                return loader.get();
+            })));
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        return futures;
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 요청하면 loader는 한 번만 실행되고, 모든 요청이 각자의 결과 사본을 받는지 확인")
+    void testCoalesceWithCopies() throws Exception {
+
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        SingleFlight<String, StringBuilder> flight = new SingleFlight<>(StringBuilder::new);
+
+        // when
+        List<Future<StringBuilder>> futures = executeConcurrently(flight, () -> {
+            loads.incrementAndGet();
+            return new StringBuilder("결과");
+        });
+        List<StringBuilder> results = new ArrayList<>();
+        for (Future<StringBuilder> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+
+        // then : 한 요청이 결과를 수정해도 다른 요청의 결과는 바뀌지 않는다.
+        assertEquals(1, loads.get());
+        assertEquals(1, flight.getExecutions());
+        assertEquals(THREAD_COUNT - 1, flight.getCoalesced());
+        results.get(0).append("-수정");
+        for (int i = 1; i < THREAD_COUNT; i++) {
+            assertNotSame(results.get(0), results.get(i));
+            assertEquals("결과", results.get(i).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("loader가 실패하면 합쳐진 모든 요청이 같은 예외를 받고, 이후 요청은 다시 실행되는지 확인")
+    void testErrorReachesAllWaiters() throws Exception {
+
+        // given
+        IllegalArgumentException failure = new IllegalArgumentException("해당 메뉴가 존재하지 않습니다.");
+        SingleFlight<String, String> flight = new SingleFlight<>();
+
+        // when
+        List<Future<String>> futures = executeConcurrently(flight, () -> {
+            throw failure;
+        });
+
+        // then
+        for (Future<String> future : futures) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertSame(failure, e.getCause());
+        }
+        assertEquals(1, flight.getExecutions());
+        assertEquals("다시", flight.execute("key", () -> "다시"));
+        assertEquals(2, flight.getExecutions());
+    }
+}
@@ -0,0 +1,40 @@
+package com.ohgiraffers.springdatajpa.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * WeakETag의 해시 계산과 헤더 형식을 확인하는 테스트.
+ */
+class WeakETagTests {
+
+    @Test
+    @DisplayName("같은 값을 같은 순서로 넣으면 같은 ETag, 값이나 순서가 다르면 다른 ETag가 되는지 확인")
+    void testHash() {
+
+        // when & then
+        assertEquals(new WeakETag().add(1).add("마늘빵").toString(), new WeakETag().add(1).add("마늘빵").toString());
+        assertNotEquals(new WeakETag().add(1).add("마늘빵").hash(), new WeakETag().add(2).add("마늘빵").hash());
+        assertNotEquals(new WeakETag().add(1).add(2).hash(), new WeakETag().add(2).add(1).hash());
+
+        // 문자열 경계만 다른 값, null과 빈 문자열도 구분되어야 한다.
+        assertNotEquals(new WeakETag().add("ab").add("c").hash(), new WeakETag().add("a").add("bc").hash());
+        assertNotEquals(new WeakETag().add((String) null).hash(), new WeakETag().add("").hash());
+    }
+
+    @Test
+    @DisplayName("약한 ETag 헤더 형식(W/\"16자리 16진수\")으로 표시되는지 확인")
+    void testFormat() {
+
+        // when
+        String eTag = new WeakETag().add(42).toString();
+
+        // then
+        assertTrue(eTag.matches("W/\"[0-9a-f]{16}\""), eTag);
+        assertEquals("W/\"cbf29ce484222325\"", new WeakETag().toString());   // 아무 값도 넣지 않으면 FNV 초기값
+    }
+}
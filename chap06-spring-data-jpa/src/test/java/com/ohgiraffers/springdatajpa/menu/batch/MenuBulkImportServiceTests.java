@@ -0,0 +1,108 @@
+package com.ohgiraffers.springdatajpa.menu.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * StatelessSession 기반 메뉴 CSV 가져오기를 실제 DB로 확인하는 테스트.
+ * (StatelessSession은 자체 트랜잭션으로 커밋하므로 등록한 행은 테스트가 끝난 뒤 직접 지운다.)
+ */
+@SpringBootTest(properties = {
+    // 여러 묶음과 여러 쓰기 스레드를 거치도록 묶음 크기를 작게 준다.
+    "menu.import.batch-size=7",
+    "menu.import.writer-threads=3"
+})
+class MenuBulkImportServiceTests {
+
+    private static final String NAME_PREFIX = "가져오기테스트";
+    private static final int VALID_ROWS = 100;
+
+    @Autowired
+    private MenuBulkImportService menuBulkImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tbl_menu WHERE menu_name LIKE ?", NAME_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("올바른 행은 모두 등록되고, 올바르지 않은 행은 실패 파일에 기록되는지 확인")
+    void testImportCsv() throws IOException {
+
+        // given : 올바른 행 100개 사이에 올바르지 않은 행 3개를 섞는다.
+        List<String> lines = new ArrayList<>();
+        lines.add("menuName,menuPrice,categoryCode,orderableStatus");
+        for (int i = 0; i < VALID_ROWS; i++) {
+            lines.add(NAME_PREFIX + i + "," + (1000 + i) + ",4,Y");
+            if (i % 40 == 0) {
+                lines.add(NAME_PREFIX + "오류" + i + ",천원,4,Y");
+            }
+        }
+        Path csvFile = tempDir.resolve("menu.csv");
+        Files.write(csvFile, lines, StandardCharsets.UTF_8);
+
+        // when
+        MenuImportResult result = menuBulkImportService.importCsv(csvFile);
+        System.out.println("result = " + result);
+
+        // then
+        assertEquals(VALID_ROWS + 3, result.getRead());
+        assertEquals(VALID_ROWS, result.getInserted());
+        assertEquals(3, result.getRejected());
+        assertEquals(0, result.getFailed());
+        assertEquals(VALID_ROWS, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM tbl_menu WHERE menu_name LIKE ?", Integer.class, NAME_PREFIX + "%"));
+
+        List<String> deadLetters = Files.readAllLines(result.getDeadLetterFile(), StandardCharsets.UTF_8);
+        assertEquals(1 + 3, deadLetters.size());   // 헤더 + 실패한 행
+        List<Integer> rejectedLineNos = deadLetters.stream().skip(1)
+            .map(line -> Integer.parseInt(line.substring(0, line.indexOf(','))))
+            .sorted()
+            .toList();
+        assertEquals(List.of(3, 44, 85), rejectedLineNos);   // 검증은 여러 스레드에서 하므로 기록 순서는 정해져 있지 않다.
+    }
+
+    @Test
+    @DisplayName("실패한 행이 없으면 실패 파일을 만들지 않고 결과의 deadLetterFile도 null인지 확인")
+    void testImportCsvWithoutRejectedRows() throws IOException {
+
+        // given
+        List<String> lines = new ArrayList<>();
+        lines.add("menuName,menuPrice,categoryCode,orderableStatus");
+        for (int i = 0; i < VALID_ROWS; i++) {
+            lines.add(NAME_PREFIX + i + "," + (1000 + i) + ",4,Y");
+        }
+        Path csvFile = tempDir.resolve("menu.csv");
+        Files.write(csvFile, lines, StandardCharsets.UTF_8);
+
+        // when
+        MenuImportResult result = menuBulkImportService.importCsv(csvFile);
+
+        // then
+        assertEquals(VALID_ROWS, result.getInserted());
+        assertEquals(0, result.getRejected() + result.getFailed());
+        assertNull(result.getDeadLetterFile());
+        assertFalse(Files.exists(tempDir.resolve("menu.csv.rejected.csv")));
+    }
+}
@@ -0,0 +1,109 @@
+package com.ohgiraffers.springdatajpa.menu.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * MenuBulkLoader의 LOAD DATA LOCAL INFILE 적재를 실제 MySQL로 확인하는 테스트.
+ * <p>
+ * - bulk-load 프로필로 드라이버의 allowLoadLocalInfile을 켠다.
+ * - 서버의 local_infile이 OFF이면 LOAD DATA를 실행할 수 없으므로 테스트를 건너뛴다.
+ *   (SET GLOBAL local_infile = 1 로 켠 뒤 실행한다)
+ */
+@SpringBootTest
+@ActiveProfiles("bulk-load")
+@Transactional
+class MenuBulkLoaderLoadDataTests {
+
+    private static final String NAME_PREFIX = "적재데이터테스트";
+
+    @Autowired
+    private MenuBulkLoader menuBulkLoader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void assumeLocalInfileEnabled() {
+        Integer localInfile = jdbcTemplate.queryForObject("SELECT @@GLOBAL.local_infile", Integer.class);
+        assumeTrue(localInfile != null && localInfile == 1, "서버의 local_infile이 OFF이므로 건너뛴다.");
+    }
+
+    @Test
+    @DisplayName("탭, 줄바꿈, 역슬래시, \\N이 들어간 메뉴명이 LOAD DATA로 그대로 저장되는지 확인")
+    void testLoadDataEscaping() {
+
+        // given : TSV의 구분자, 줄 끝, 이스케이프 문자와 NULL 표기(\N)를 모두 넣는다.
+        List<String> names = List.of(
+            NAME_PREFIX + "\t탭",
+            NAME_PREFIX + "\n줄바꿈",
+            NAME_PREFIX + "\r\n윈도우줄바꿈",
+            NAME_PREFIX + "\\역슬래시",
+            NAME_PREFIX + "\\N",
+            NAME_PREFIX + "끝역슬래시\\");
+        List<MenuDTO> menus = createMenus(names);
+
+        // when
+        int loaded = menuBulkLoader.load(menus, MenuBulkLoader.Mode.LOAD_DATA);
+
+        // then
+        assertEquals(names.size(), loaded);
+        List<String> stored = jdbcTemplate.queryForList(
+            "SELECT menu_name FROM tbl_menu WHERE menu_name LIKE ? ORDER BY menu_code", String.class, NAME_PREFIX + "%");
+        assertEquals(names, stored);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)   // 롤백 여부를 확인하려면 트랜잭션을 직접 연다.
+    @DisplayName("LOAD DATA가 경고와 함께 일부 행을 잘라 적재하면 예외를 던지고 트랜잭션이 롤백되는지 확인")
+    void testLoadDataRejectsPartialLoad() {
+
+        // given : 마지막 메뉴의 이름만 menu_name(VARCHAR(30))보다 길다. (LOAD DATA LOCAL은 오류 대신 잘라서 넣고 경고를 남긴다)
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            names.add(NAME_PREFIX + i);
+        }
+        names.add(NAME_PREFIX + "가".repeat(30));
+        List<MenuDTO> menus = createMenus(names);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> transactionTemplate.executeWithoutResult(
+            status -> menuBulkLoader.load(menus, MenuBulkLoader.Mode.LOAD_DATA)));
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM tbl_menu WHERE menu_name LIKE ?", Integer.class, NAME_PREFIX + "%"));
+    }
+
+    private static List<MenuDTO> createMenus(List<String> names) {
+        List<MenuDTO> menus = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            MenuDTO menu = new MenuDTO();
+            menu.setMenuName(names.get(i));
+            menu.setMenuPrice(1000 + i);
+            menu.setCategoryCode(4);
+            menu.setOrderableStatus('Y');
+            menus.add(menu);
+        }
+        return menus;
+    }
+}
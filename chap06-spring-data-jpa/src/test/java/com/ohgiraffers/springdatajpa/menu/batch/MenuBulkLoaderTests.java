@@ -0,0 +1,95 @@
+package com.ohgiraffers.springdatajpa.menu.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.service.MenuService;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * MenuBulkLoader의 적재 방식별 동작과 MenuService.registMenus의 사전 검증을 확인하는 테스트.
+ * (테스트 트랜잭션 안에서 적재하므로 테스트가 끝나면 롤백된다)
+ */
+@SpringBootTest(properties = "menu.bulk-load.rows-per-statement=7")   // 여러 행 INSERT가 여러 문장으로 나뉘도록 작게 준다.
+@Transactional
+class MenuBulkLoaderTests {
+
+    private static final String NAME_PREFIX = "대량적재테스트";
+    private static final int ROWS = 100;
+
+    @Autowired
+    private MenuBulkLoader menuBulkLoader;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @EnumSource(value = MenuBulkLoader.Mode.class, names = {"AUTO", "MULTI_ROW_INSERT"})
+    @DisplayName("적재 방식과 관계없이 모든 행이 같은 값으로 등록되는지 확인")
+    void testLoad(MenuBulkLoader.Mode mode) {
+
+        // given : 특수 문자가 섞인 이름도 그대로 저장되어야 한다.
+        List<MenuDTO> menus = createMenus(ROWS);
+        menus.get(0).setMenuName(NAME_PREFIX + "\t탭\\역슬래시");
+
+        // when
+        int loaded = menuBulkLoader.load(menus, mode);
+
+        // then
+        assertEquals(ROWS, loaded);
+        assertEquals(ROWS, countLoaded());
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM tbl_menu WHERE menu_name = ?", Integer.class, NAME_PREFIX + "\t탭\\역슬래시"));
+    }
+
+    @Test
+    @DisplayName("registMenus는 검증에 실패한 메뉴가 하나라도 있으면 아무것도 등록하지 않는지 확인")
+    void testRegistMenusValidatesBeforeLoad() {
+
+        // given : 마지막 메뉴만 존재하지 않는 카테고리
+        List<MenuDTO> menus = createMenus(10);
+        menus.get(9).setCategoryCode(99999);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> menuService.registMenus(menus));
+        assertEquals(0, countLoaded());
+
+        // when : 올바른 메뉴만 다시 등록
+        int registered = menuService.registMenus(menus.subList(0, 9));
+
+        // then
+        assertEquals(9, registered);
+        assertEquals(9, countLoaded());
+    }
+
+    private static List<MenuDTO> createMenus(int count) {
+        List<MenuDTO> menus = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            MenuDTO menu = new MenuDTO();
+            menu.setMenuName(NAME_PREFIX + i);
+            menu.setMenuPrice(1000 + i);
+            menu.setCategoryCode(4);
+            menu.setOrderableStatus('Y');
+            menus.add(menu);
+        }
+        return menus;
+    }
+
+    private int countLoaded() {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM tbl_menu WHERE menu_name LIKE ?", Integer.class, NAME_PREFIX + "%");
+    }
+}
@@ -0,0 +1,76 @@
+package com.ohgiraffers.springdatajpa.menu.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import java.util.List;
+import java.util.function.IntPredicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 메뉴 가져오기 CSV 한 줄의 분리/검증을 확인하는 테스트.
+ */
+class MenuCsvParserTests {
+
+    private static final IntPredicate CATEGORY_EXISTS = categoryCode -> categoryCode == 4;
+
+    @Test
+    @DisplayName("큰따옴표로 감싼 값의 쉼표와 이스케이프된 큰따옴표를 그대로 읽는지 확인")
+    void testSplitQuotedValue() {
+
+        // when
+        List<String> values = MenuCsvParser.split("\"마늘, \"\"흑\"\" 빵\",3000,4,Y");
+
+        // then
+        assertEquals(List.of("마늘, \"흑\" 빵", "3000", "4", "Y"), values);
+    }
+
+    @Test
+    @DisplayName("올바른 행을 MenuDTO로 변환하는지 확인")
+    void testParse() {
+
+        // when
+        MenuDTO menu = MenuCsvParser.parse(" 열무김치라떼 ,4500,4,N", CATEGORY_EXISTS);
+
+        // then
+        assertEquals("열무김치라떼", menu.getMenuName());
+        assertEquals(4500, menu.getMenuPrice());
+        assertEquals(4, menu.getCategoryCode());
+        assertEquals('N', menu.getOrderableStatus());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "열무김치라떼,4500,4",          // 컬럼 수 부족
+        ",4500,4,Y",                  // 이름 없음
+        "가나다라마바사아자차카타파하가나다라마바사아자차카타파하가나다,4500,4,Y",   // 이름이 30자 초과
+        "열무김치라떼,사천원,4,Y",       // 가격이 정수가 아님
+        "열무김치라떼,-1,4,Y",          // 음수 가격
+        "열무김치라떼,4500,999,Y",       // 없는 카테고리
+        "열무김치라떼,4500,4,X",         // 주문 가능 상태 오류
+        "\"열무김치라떼,4500,4,Y"        // 닫히지 않은 큰따옴표
+    })
+    @DisplayName("올바르지 않은 행은 사유와 함께 IllegalArgumentException이 발생하는지 확인")
+    void testParseInvalidLine(String line) {
+
+        // when & then
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> MenuCsvParser.parse(line, CATEGORY_EXISTS));
+        System.out.println(line + " → " + e.getMessage());
+    }
+
+    @Test
+    @DisplayName("쉼표나 큰따옴표가 있는 값만 큰따옴표로 감싸고, 줄바꿈은 한 줄로 바꾸는지 확인")
+    void testQuote() {
+
+        // when & then
+        assertEquals("마늘빵", MenuCsvParser.quote("마늘빵"));
+        assertEquals("\"마늘, \"\"흑\"\" 빵\"", MenuCsvParser.quote("마늘, \"흑\" 빵"));
+        assertEquals("Duplicate entry\\r\\nSQL state", MenuCsvParser.quote("Duplicate entry\r\nSQL state"));
+        assertEquals("\"a,b\\nc\"", MenuCsvParser.quote("a,b\nc"));
+    }
+}
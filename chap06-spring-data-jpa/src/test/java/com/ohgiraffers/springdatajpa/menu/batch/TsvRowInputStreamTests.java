@@ -0,0 +1,55 @@
+package com.ohgiraffers.springdatajpa.menu.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LOAD DATA용 TSV 스트림의 행 변환과 이스케이프를 확인하는 테스트.
+ */
+class TsvRowInputStreamTests {
+
+    @Test
+    @DisplayName("행을 탭/줄바꿈으로 구분하고, 값 안의 특수 문자와 null을 LOAD DATA 형식으로 기록하는지 확인")
+    void testReadAllRows() throws IOException {
+
+        // given
+        List<Object[]> rows = List.of(
+            new Object[]{"마늘빵", 3000, 'Y'},
+            new Object[]{"탭\t줄바꿈\n역슬래시\\", 0, null}
+        );
+
+        // when : 작은 버퍼로 나누어 읽어도 행 경계와 관계없이 이어져야 한다.
+        InputStream stream = new TsvRowInputStream<>(rows.iterator(), row -> row);
+        String result = new String(readInChunks(stream, 3), StandardCharsets.UTF_8);
+
+        // then
+        assertEquals("마늘빵\t3000\tY\n" + "탭\\t줄바꿈\\n역슬래시\\\\\t0\t\\N\n", result);
+    }
+
+    @Test
+    @DisplayName("행이 없으면 바로 스트림의 끝(-1)을 반환하는지 확인")
+    void testEmpty() throws IOException {
+
+        // when & then
+        InputStream stream = new TsvRowInputStream<Object[]>(List.<Object[]>of().iterator(), row -> row);
+        assertEquals(-1, stream.read());
+        assertEquals(-1, stream.read(new byte[8], 0, 8));
+    }
+
+    private static byte[] readInChunks(InputStream stream, int chunkSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[chunkSize];
+        int read;
+        while ((read = stream.read(chunk, 0, chunkSize)) != -1) {
+            out.write(chunk, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
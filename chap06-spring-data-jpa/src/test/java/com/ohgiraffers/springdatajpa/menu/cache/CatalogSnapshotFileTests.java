@@ -0,0 +1,118 @@
+package com.ohgiraffers.springdatajpa.menu.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ohgiraffers.springdatajpa.menu.cache.CatalogSnapshotFile.CatalogSnapshot;
+import com.ohgiraffers.springdatajpa.menu.dto.CategoryDTO;
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * CatalogSnapshotFile의 기록/읽기와 손상된 파일(체크섬, 형식 버전, 길이) 거부를 확인하는 테스트.
+ */
+class CatalogSnapshotFileTests {
+
+    @TempDir
+    Path tempDir;
+
+    private static MenuDTO menu(int menuCode, String menuName) {
+        MenuDTO menu = new MenuDTO();
+        menu.setMenuCode(menuCode);
+        menu.setMenuName(menuName);
+        menu.setMenuPrice(menuCode * 1000);
+        menu.setCategoryCode(4);
+        menu.setOrderableStatus('Y');
+        return menu;
+    }
+
+    private static CategoryDTO category(int categoryCode, Integer refCategoryCode) {
+        CategoryDTO category = new CategoryDTO();
+        category.setCategoryCode(categoryCode);
+        category.setCategoryName("카테고리" + categoryCode);
+        category.setRefCategoryCode(refCategoryCode);
+        return category;
+    }
+
+    @Test
+    @DisplayName("기록한 메뉴/카테고리를 같은 값으로 다시 읽는지 확인")
+    void testWriteAndRead() throws IOException {
+
+        // given : 디렉토리가 없어도 만들어서 기록해야 한다.
+        Path path = tempDir.resolve("snapshot/catalog.bin");
+        List<MenuDTO> menus = List.of(menu(1, "열무김치라떼"), menu(2, ""), menu(3, null));
+        List<CategoryDTO> categories = List.of(category(1, null), category(4, 1));
+
+        // when
+        CatalogSnapshotFile.write(path, menus, categories, 1234L);
+        CatalogSnapshot snapshot = CatalogSnapshotFile.read(path);
+
+        // then
+        assertEquals(1234L, snapshot.getCreatedAt());
+        assertEquals(3, snapshot.getMenus().size());
+        assertEquals("열무김치라떼", snapshot.getMenus().get(0).getMenuName());
+        assertEquals(2000, snapshot.getMenus().get(1).getMenuPrice());
+        assertEquals("", snapshot.getMenus().get(2).getMenuName());   // null 이름은 빈 문자열로 저장된다.
+        assertEquals('Y', snapshot.getMenus().get(2).getOrderableStatus());
+        assertNull(snapshot.getCategories().get(0).getRefCategoryCode());
+        assertEquals(1, snapshot.getCategories().get(1).getRefCategoryCode());
+        assertEquals("카테고리4", snapshot.getCategories().get(1).getCategoryName());
+    }
+
+    @Test
+    @DisplayName("같은 경로에 다시 기록하면 이전 스냅샷을 교체하는지 확인")
+    void testOverwrite() throws IOException {
+
+        // given
+        Path path = tempDir.resolve("catalog.bin");
+        CatalogSnapshotFile.write(path, List.of(menu(1, "이전")), List.of(), 1L);
+
+        // when
+        CatalogSnapshotFile.write(path, List.of(menu(1, "새로운"), menu(2, "추가")), List.of(), 2L);
+
+        // then : 임시 파일이 남지 않아야 한다.
+        CatalogSnapshot snapshot = CatalogSnapshotFile.read(path);
+        assertEquals(2L, snapshot.getCreatedAt());
+        assertEquals("새로운", snapshot.getMenus().get(0).getMenuName());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("본문이 바뀌거나, 형식 버전이 다르거나, 잘린 파일은 읽지 않는지 확인")
+    void testRejectCorruptedFile() throws IOException {
+
+        // given
+        Path path = tempDir.resolve("catalog.bin");
+        CatalogSnapshotFile.write(path, List.of(menu(1, "열무김치라떼")), List.of(category(1, null)), 1L);
+        byte[] original = Files.readAllBytes(path);
+
+        // when & then : 본문 1바이트 변경 → 체크섬 불일치
+        byte[] corrupted = original.clone();
+        corrupted[CatalogSnapshotFile.HEADER_SIZE + 2] ^= 1;
+        Files.write(path, corrupted);
+        assertThrows(IllegalStateException.class, () -> CatalogSnapshotFile.read(path));
+
+        // when & then : 형식 버전 변경
+        byte[] otherVersion = original.clone();
+        ByteBuffer.wrap(otherVersion).putShort(4, (short) (CatalogSnapshotFile.FORMAT_VERSION + 1));
+        Files.write(path, otherVersion);
+        assertThrows(IllegalStateException.class, () -> CatalogSnapshotFile.read(path));
+
+        // when & then : 파일 끝이 잘림 / 헤더보다 작음
+        Files.write(path, Arrays.copyOf(original, original.length - 1));
+        assertThrows(IllegalStateException.class, () -> CatalogSnapshotFile.read(path));
+        Files.write(path, new byte[CatalogSnapshotFile.HEADER_SIZE - 1]);
+        assertThrows(IllegalStateException.class, () -> CatalogSnapshotFile.read(path));
+    }
+}
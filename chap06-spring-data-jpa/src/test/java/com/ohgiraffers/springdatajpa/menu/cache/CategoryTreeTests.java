@@ -0,0 +1,82 @@
+package com.ohgiraffers.springdatajpa.menu.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ohgiraffers.springdatajpa.menu.dto.CategoryDTO;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CategoryTree의 하위 트리/상위 경로 조회와 잘못된 데이터(없는 상위, 순환) 처리를 확인하는 테스트.
+ */
+class CategoryTreeTests {
+
+    private static CategoryDTO category(int categoryCode, Integer refCategoryCode) {
+        CategoryDTO category = new CategoryDTO();
+        category.setCategoryCode(categoryCode);
+        category.setCategoryName("카테고리" + categoryCode);
+        category.setRefCategoryCode(refCategoryCode);
+        return category;
+    }
+
+    @Test
+    @DisplayName("하위 카테고리와 상위 카테고리 경로를 조회하는지 확인")
+    void testSubtreeAndAncestors() {
+
+        // given : 1 ─ 4 ─ 10
+        //           └ 5
+        //         2 ─ 6
+        CategoryTree tree = CategoryTree.of(List.of(
+            category(10, 4), category(1, null), category(2, null),
+            category(4, 1), category(5, 1), category(6, 2)));
+
+        // when & then
+        assertArrayEquals(new int[]{1, 4, 10, 5}, tree.subtreeCodes(1));
+        assertArrayEquals(new int[]{4, 10}, tree.subtreeCodes(4));
+        assertArrayEquals(new int[]{6}, tree.subtreeCodes(6));
+        assertArrayEquals(new int[0], tree.subtreeCodes(99));
+
+        assertArrayEquals(new int[]{1, 4}, tree.ancestorCodes(10));
+        assertArrayEquals(new int[0], tree.ancestorCodes(2));
+        assertArrayEquals(new int[]{1, 2}, tree.getRootCodes());
+
+        assertTrue(tree.isDescendant(10, 1));
+        assertFalse(tree.isDescendant(6, 1));
+        assertEquals("카테고리4", tree.getCategoryName(4));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상위 카테고리와 순환 참조가 있어도 트리를 구성하는지 확인")
+    void testInvalidReferences() {
+
+        // given : 3은 없는 상위(99)를 가리키고, 7 ↔ 8은 서로를 상위로 가리킨다.
+        CategoryTree tree = CategoryTree.of(List.of(
+            category(3, 99), category(7, 8), category(8, 7), category(9, 8)));
+
+        // when & then
+        assertArrayEquals(new int[0], tree.ancestorCodes(3));
+        assertArrayEquals(new int[]{7, 8, 9}, tree.subtreeCodes(7));
+        assertArrayEquals(new int[]{7, 8}, tree.ancestorCodes(9));
+        assertEquals(4, tree.size());
+    }
+
+    @Test
+    @DisplayName("순환에 매달린 카테고리는 상위 연결을 유지하고, 순환 위의 카테고리만 끊는지 확인")
+    void testTailAttachedToCycle() {
+
+        // given : 5 → 7 → 8 → 7 (5는 순환에 매달린 꼬리이며, 코드가 가장 작아 먼저 방문된다.)
+        CategoryTree tree = CategoryTree.of(List.of(
+            category(5, 7), category(7, 8), category(8, 7)));
+
+        // when & then
+        assertArrayEquals(new int[]{7}, tree.getRootCodes());
+        assertArrayEquals(new int[]{7}, tree.ancestorCodes(5));
+        assertArrayEquals(new int[]{7}, tree.ancestorCodes(8));
+        assertArrayEquals(new int[]{7, 5, 8}, tree.subtreeCodes(7));
+        assertTrue(tree.isDescendant(5, 7));
+    }
+}
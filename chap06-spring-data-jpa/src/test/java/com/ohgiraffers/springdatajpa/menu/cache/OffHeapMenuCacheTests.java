@@ -0,0 +1,89 @@
+package com.ohgiraffers.springdatajpa.menu.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import com.ohgiraffers.springdatajpa.menu.event.MenuChangedEvent;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * OffHeapMenuCache를 다시 적재하는 동안 커밋된 변경이 저장소 교체 후에도 남아 있는지 확인하는 테스트.
+ * (DB 대신 MenuRepository 목을 사용해, DB를 읽는 도중에 변경 이벤트가 도착하는 상황을 만든다)
+ */
+class OffHeapMenuCacheTests {
+
+    private final MenuRepository menuRepository = mock(MenuRepository.class);
+    private final OffHeapMenuCache cache = new OffHeapMenuCache(menuRepository, 16);
+
+    private static Menu menuEntity(int menuCode, String menuName, int menuPrice) {
+        Menu menu = mock(Menu.class);
+        when(menu.getMenuCode()).thenReturn(menuCode);
+        when(menu.getMenuName()).thenReturn(menuName);
+        when(menu.getMenuPrice()).thenReturn(menuPrice);
+        when(menu.getCategoryCode()).thenReturn(4);
+        when(menu.getOrderableStatus()).thenReturn('Y');
+        return menu;
+    }
+
+    private static MenuChangedEvent event(MenuChangedEvent.Type type, int menuCode, String menuName, int menuPrice) {
+        MenuDTO menu = new MenuDTO();
+        menu.setMenuCode(menuCode);
+        menu.setMenuName(menuName);
+        menu.setMenuPrice(menuPrice);
+        menu.setCategoryCode(4);
+        menu.setOrderableStatus('Y');
+        return new MenuChangedEvent(type, menu);
+    }
+
+    @Test
+    @DisplayName("재적재 중에 들어온 등록/수정/삭제가 새 저장소에도 반영되는지 확인")
+    void testChangesDuringReload() {
+
+        // given : DB를 읽은 직후, 새 저장소로 교체되기 전에 다른 트랜잭션의 변경이 커밋된다.
+        List<Menu> rows = List.of(menuEntity(1, "변경전", 1000), menuEntity(2, "삭제될메뉴", 2000));
+        when(menuRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            cache.onMenuChanged(event(MenuChangedEvent.Type.UPDATED, 1, "변경후", 9000));
+            cache.onMenuChanged(event(MenuChangedEvent.Type.DELETED, 2, "삭제될메뉴", 2000));
+            cache.onMenuChanged(event(MenuChangedEvent.Type.CREATED, 3, "새메뉴", 3000));
+            return new PageImpl<>(rows);
+        });
+
+        // when
+        cache.reload();
+
+        // then
+        assertEquals("변경후", cache.get(1).getMenuName());
+        assertEquals(9000, cache.get(1).getMenuPrice());
+        assertNull(cache.get(2));
+        assertEquals("새메뉴", cache.get(3).getMenuName());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("재적재가 끝난 뒤의 변경은 따로 모아 두지 않고 현재 저장소에만 반영하는지 확인")
+    void testChangesAfterReload() {
+
+        // given
+        List<Menu> rows = List.of(menuEntity(1, "메뉴", 1000));
+        when(menuRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(rows));
+        cache.reload();
+
+        // when
+        cache.onMenuChanged(event(MenuChangedEvent.Type.UPDATED, 1, "수정", 1500));
+        cache.loadFrom(List.of(event(MenuChangedEvent.Type.CREATED, 5, "스냅샷메뉴", 500).getMenu()));
+
+        // then : 스냅샷으로 교체하면 이전 변경이 다시 적용되지 않아야 한다.
+        assertNull(cache.get(1));
+        assertEquals("스냅샷메뉴", cache.get(5).getMenuName());
+    }
+}
@@ -0,0 +1,100 @@
+package com.ohgiraffers.springdatajpa.menu.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * OffHeapMenuStore의 저장/조회/덮어쓰기/삭제와 용량 증가, 잘못된 입력 처리를 확인하는 테스트.
+ */
+class OffHeapMenuStoreTests {
+
+    private static MenuDTO menu(int menuCode, String menuName, int menuPrice) {
+        MenuDTO menu = new MenuDTO();
+        menu.setMenuCode(menuCode);
+        menu.setMenuName(menuName);
+        menu.setMenuPrice(menuPrice);
+        menu.setCategoryCode(4);
+        menu.setOrderableStatus('Y');
+        return menu;
+    }
+
+    @Test
+    @DisplayName("저장한 메뉴를 그대로 조회하고, 같은 코드로 저장하면 덮어쓰는지 확인")
+    void testPutAndGet() {
+
+        // given
+        OffHeapMenuStore store = new OffHeapMenuStore(16);
+
+        // when
+        store.put(menu(1, "열무김치라떼", 4500));
+        store.put(menu(2, "우럭스무디", 5000));
+        store.put(menu(1, "열무김치라떼(대)", 6000));
+
+        // then
+        MenuDTO found = store.get(1);
+        assertEquals("열무김치라떼(대)", found.getMenuName());
+        assertEquals(6000, found.getMenuPrice());
+        assertEquals(4, found.getCategoryCode());
+        assertEquals('Y', found.getOrderableStatus());
+        assertEquals(2, store.size());
+        assertNull(store.get(3));
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘게 저장하고 삭제를 섞어도 모든 메뉴를 조회할 수 있는지 확인")
+    void testGrowAndRemove() {
+
+        // given
+        OffHeapMenuStore store = new OffHeapMenuStore(16);
+        long initialBytes = store.offHeapBytes();
+
+        // when : 홀수 코드만 삭제한 뒤 다시 채워 삭제 표시와 빈 레코드 재사용이 섞이게 한다.
+        for (int code = 1; code <= 1000; code++) {
+            store.put(menu(code, "메뉴" + code, code));
+        }
+        for (int code = 1; code <= 1000; code += 2) {
+            assertTrue(store.remove(code));
+        }
+        for (int code = 1001; code <= 1500; code++) {
+            store.put(menu(code, "메뉴" + code, code));
+        }
+
+        // then
+        assertEquals(1000, store.size());
+        assertTrue(store.offHeapBytes() > initialBytes);
+        assertFalse(store.contains(999));
+        assertFalse(store.remove(999));
+        for (int code = 2; code <= 1000; code += 2) {
+            assertEquals("메뉴" + code, store.get(code).getMenuName());
+        }
+        for (int code = 1001; code <= 1500; code++) {
+            assertEquals(code, store.get(code).getMenuPrice());
+        }
+    }
+
+    @Test
+    @DisplayName("0 이하의 메뉴 코드와 레코드 크기를 넘는 메뉴명은 저장하지 않는지 확인")
+    void testRejectInvalidMenu() {
+
+        // given
+        OffHeapMenuStore store = new OffHeapMenuStore(16);
+        store.put(menu(7, "짧은이름", 1000));
+
+        // when & then
+        assertFalse(store.put(menu(0, "빈칸", 1000)));
+        assertFalse(store.put(menu(-1, "삭제표시", 1000)));
+        assertFalse(store.put(menu(-5, "음수", 1000)));
+        assertNull(store.get(-5));
+
+        // 너무 긴 이름으로 덮어쓰면 기존 레코드도 지워 오래된 값이 조회되지 않게 한다.
+        assertFalse(store.put(menu(7, "가".repeat(OffHeapMenuStore.NAME_BYTES), 1000)));
+        assertNull(store.get(7));
+        assertEquals(0, store.size());
+    }
+}
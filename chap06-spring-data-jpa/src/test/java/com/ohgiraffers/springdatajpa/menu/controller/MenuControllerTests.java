@@ -0,0 +1,55 @@
+package com.ohgiraffers.springdatajpa.menu.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * MenuController의 화면 요청 처리(잘못된 입력 시 오류 화면 대신 등록 화면으로 돌아가는지)를 확인하는 테스트.
+ */
+@SpringBootTest(properties = "menu.multi-get.max-codes=3")
+@AutoConfigureMockMvc
+class MenuControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("존재하지 않는 카테고리로 등록하면 500 대신 메시지와 함께 등록 화면으로 리다이렉트하는지 확인")
+    void testRegistMenuWithUnknownCategory() throws Exception {
+
+        // when & then
+        mockMvc.perform(post("/menu/regist")
+                .param("menuName", "없는카테고리메뉴")
+                .param("menuPrice", "1000")
+                .param("categoryCode", "-1")
+                .param("orderableStatus", "Y"))
+            .andExpect(redirectedUrl("/menu/regist"))
+            .andExpect(flash().attribute("message", "존재하지 않는 카테고리입니다 : -1"));
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 메뉴 수를 넘기면 500 대신 400으로 응답하는지 확인")
+    void testFindMenusByCodesOverLimit() throws Exception {
+
+        // given
+        String codes = IntStream.rangeClosed(1, 4).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+        // when & then
+        mockMvc.perform(get("/menu").param("codes", codes))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/menu").param("codes", "1,2,3"))
+            .andExpect(status().isOk());
+    }
+}
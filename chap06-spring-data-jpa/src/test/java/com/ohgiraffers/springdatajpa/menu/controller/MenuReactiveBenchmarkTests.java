@@ -0,0 +1,117 @@
+package com.ohgiraffers.springdatajpa.menu.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 같은 메뉴 단건 조회를 서블릿 경로(/api/menu/{menuCode})와 리액티브 경로(/reactive/menu/{menuCode})로
+ * 동시 연결 5,000개에서 호출해 처리량과 지연 시간을 비교한다.
+ * <p>
+ * - 실행 : ./gradlew test -Pbenchmark --tests '*MenuReactiveBenchmarkTests'
+ * - 동시 연결 수만큼 소켓을 열므로 실행 환경의 파일 디스크립터 한도(ulimit -n)가 그보다 커야 한다.
+ * - 조회만 하므로 DB의 데이터는 바뀌지 않는다.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"spring.jpa.show-sql=false", "menu.logging.sample-rate=0"})
+class MenuReactiveBenchmarkTests {
+
+    private static final int CONCURRENCY = 5_000;
+    private static final int REQUESTS = 50_000;
+    private static final int WARM_UP_REQUESTS = 5_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Test
+    @DisplayName("동시 연결 5,000개에서 서블릿 경로와 리액티브 경로의 단건 조회 처리량과 지연 시간 비교")
+    void testCompareServletAndReactive() throws Exception {
+
+        // given
+        int[] menuCodes = menuRepository.findAll(Sort.by("menuCode")).stream()
+            .mapToInt(Menu::getMenuCode)
+            .toArray();
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+        // when : 각 경로를 한 번씩 예열한 뒤 측정한다.
+        run(client, "/api/menu/", menuCodes, WARM_UP_REQUESTS);
+        Result servlet = run(client, "/api/menu/", menuCodes, REQUESTS);
+        run(client, "/reactive/menu/", menuCodes, WARM_UP_REQUESTS);
+        Result reactive = run(client, "/reactive/menu/", menuCodes, REQUESTS);
+
+        // then
+        System.out.println("서블릿   : " + servlet);
+        System.out.println("리액티브 : " + reactive);
+        assertEquals(REQUESTS, servlet.succeeded);
+        assertEquals(REQUESTS, reactive.succeeded);
+    }
+
+    /* 동시에 처리 중인 요청이 CONCURRENCY개를 넘지 않도록 하면서 requests건을 보낸다. */
+    private Result run(HttpClient client, String path, int[] menuCodes, int requests) throws Exception {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger succeeded = new AtomicInteger();
+        long[] latencies = new long[requests];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            URI uri = URI.create("http://localhost:" + port + path + menuCodes[i % menuCodes.length]);
+            inFlight.acquire();
+            long sentAt = System.nanoTime();
+            futures[i] = client.sendAsync(HttpRequest.newBuilder(uri).GET().build(),
+                    HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    latencies[index] = System.nanoTime() - sentAt;
+                    if (error == null && response.statusCode() == 200) {
+                        succeeded.incrementAndGet();
+                    }
+                    inFlight.release();
+                });
+        }
+        CompletableFuture.allOf(futures).exceptionally(error -> null).join();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        return new Result(succeeded.get(), requests * 1_000_000_000L / elapsedNanos,
+            percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private static double percentile(long[] sortedNanos, double ratio) {
+        int index = (int) Math.ceil(ratio * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record Result(int succeeded, long requestsPerSecond, double p50Millis, double p99Millis) {
+
+        @Override
+        public String toString() {
+            return String.format("성공 %,d건, %,d건/초, p50 %.2fms, p99 %.2fms",
+                succeeded, requestsPerSecond, p50Millis, p99Millis);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ohgiraffers.springdatajpa.menu.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * MenuRestController의 JSON 응답과 조건부 GET(ETag / If-None-Match), Cache-Control, 키셋 페이징을 확인하는 테스트.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class MenuRestControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("ETag를 받은 뒤 If-None-Match로 다시 요청하면 본문 없이 304를 반환하는지 확인")
+    void testConditionalGet() throws Exception {
+
+        // given
+        String eTag = mockMvc.perform(get("/api/menu/1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.menuCode").value(1))
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(get("/api/menu/1").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+        mockMvc.perform(get("/api/menu/1").header(HttpHeaders.IF_NONE_MATCH, "W/\"0000000000000000\""))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("없는 메뉴는 404, 카테고리 목록은 Cache-Control max-age를 포함하는지 확인")
+    void testNotFoundAndCacheControl() throws Exception {
+
+        // when & then
+        mockMvc.perform(get("/api/menu/-1"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/menu/category"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=600, public"))
+            .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 메뉴 조회가 size만큼 나누어 조회되고, 다음 페이지가 이전 페이지 뒤에서 이어지는지 확인")
+    void testFindMenusUnderCategoryPaging() throws Exception {
+
+        // given
+        String firstPage = mockMvc.perform(get("/api/menu/category/1/menus").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(header().string("X-Has-Next", "true"))
+            .andReturn().getResponse().getContentAsString();
+        int lastMenuCode = JsonPath.read(firstPage, "$[1].menuCode");
+
+        // when & then
+        mockMvc.perform(get("/api/menu/category/1/menus").param("afterMenuCode", String.valueOf(lastMenuCode)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].menuCode").value(Matchers.greaterThan(lastMenuCode)));
+        mockMvc.perform(get("/api/menu/category/1/menus").param("size", "101"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/menu/category/-1/menus"))
+            .andExpect(status().isNotFound());
+    }
+}
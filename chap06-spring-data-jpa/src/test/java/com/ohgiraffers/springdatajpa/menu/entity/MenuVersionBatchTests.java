@@ -0,0 +1,68 @@
+package com.ohgiraffers.springdatajpa.menu.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * perf 프로필(rewriteBatchedStatements=true, batch_versioned_data=true)에서
+ * @Version 엔티티의 UPDATE를 JDBC batch로 묶어도 낙관적 락 충돌이 감지되는지 확인하는 테스트.
+ * (테스트 트랜잭션은 롤백되고, 다른 트랜잭션에서 올린 version 값만 남는다)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("perf")
+@Transactional
+class MenuVersionBatchTests {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("batch로 묶인 UPDATE 중 한 행의 버전이 그 사이 바뀌었으면 OptimisticLockException이 발생하는지 확인")
+    void testVersionConflictInBatch() {
+
+        // given : 두 메뉴를 읽어 수정한다.
+        Menu first = entityManager.find(Menu.class, 1);
+        Menu second = entityManager.find(Menu.class, 2);
+        first.modifyMenuName(first.getMenuName() + "(수정)");
+        second.modifyMenuName(second.getMenuName() + "(수정)");
+
+        // given : 다른 트랜잭션이 두 번째 메뉴를 먼저 수정해 커밋한다.
+        TransactionTemplate otherTransaction = new TransactionTemplate(transactionManager);
+        otherTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        otherTransaction.executeWithoutResult(status ->
+            jdbcTemplate.update("UPDATE tbl_menu SET version = version + 1 WHERE menu_code = ?", 2));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long preparedBefore = statistics.getPrepareStatementCount();
+
+        // when & then : 두 UPDATE가 한 batch로 실행되고, 두 번째 행의 처리 건수 0이 충돌로 보고된다.
+        assertThrows(OptimisticLockException.class, () -> entityManager.flush());
+        assertEquals(1, statistics.getPrepareStatementCount() - preparedBefore);   // 두 UPDATE가 문장 하나(batch)로 실행되었다.
+    }
+}
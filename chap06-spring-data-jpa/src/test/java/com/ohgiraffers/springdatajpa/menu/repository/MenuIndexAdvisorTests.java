@@ -0,0 +1,70 @@
+package com.ohgiraffers.springdatajpa.menu.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuSearchCondition;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MenuIndexAdvisor의 인덱스 컬럼 순서(Equality → Sort → Range)와 추천 순서/중복 제외를 확인하는 테스트.
+ */
+class MenuIndexAdvisorTests {
+
+    private static MenuSearchCondition condition(Character orderableStatus, List<Integer> categoryCodes,
+        Integer minPrice, String namePrefix) {
+        MenuSearchCondition condition = new MenuSearchCondition();
+        condition.setOrderableStatus(orderableStatus);
+        condition.setCategoryCodes(categoryCodes);
+        condition.setMinPrice(minPrice);
+        condition.setNamePrefix(namePrefix);
+        return condition;
+    }
+
+    @Test
+    @DisplayName("동등 조건 → 정렬 컬럼 → 범위 조건 순으로 컬럼을 배치하고, PK 정렬과 중복 컬럼은 넣지 않는지 확인")
+    void testIndexColumns() {
+
+        // when & then
+        assertEquals(List.of("orderable_status", "category_code", "menu_name", "menu_price"),
+            MenuIndexAdvisor.indexColumns(condition('Y', List.of(4, 5), 10000, null), "menuName"));
+
+        // 범위 조건이 둘이면 가격 조건 하나만 둔다.
+        assertEquals(List.of("category_code", "menu_price"),
+            MenuIndexAdvisor.indexColumns(condition(null, List.of(4), 10000, "마늘"), "menuCode"));
+
+        // 정렬 컬럼과 범위 컬럼이 같으면 한 번만 둔다.
+        assertEquals(List.of("orderable_status", "menu_price"),
+            MenuIndexAdvisor.indexColumns(condition('Y', null, 10000, null), "menuPrice"));
+
+        // 빈 IN 목록, 공백 접두어는 조건이 아니다.
+        assertEquals(List.of(), MenuIndexAdvisor.indexColumns(condition(null, List.of(), null, " "), "menuCode"));
+    }
+
+    @Test
+    @DisplayName("사용 빈도순으로 추천하고, 이미 추천한 인덱스의 앞부분과 같은 조합은 제외하는지 확인")
+    void testRecommendIndexes() {
+
+        // given
+        MenuIndexAdvisor advisor = new MenuIndexAdvisor();
+        for (int i = 0; i < 3; i++) {
+            advisor.record(condition('Y', List.of(4), null, null), "menuPrice");
+        }
+        advisor.record(condition('Y', null, null, null), "menuCode");          // 위 인덱스의 앞부분
+        advisor.record(condition(null, null, null, "마"), "menuCode");
+        advisor.record(condition(null, null, null, "마"), "menuCode");
+        advisor.record(condition(null, null, null, null), "menuCode");        // 조건 없음 : 집계하지 않는다.
+
+        // when
+        List<String> ddl = advisor.recommendIndexes(5);
+
+        // then
+        assertEquals(List.of(
+            "CREATE INDEX idx_menu_orderable_status_category_code_menu_price"
+                + " ON tbl_menu (orderable_status, category_code, menu_price); -- 3회 사용",
+            "CREATE INDEX idx_menu_menu_name ON tbl_menu (menu_name); -- 2회 사용"), ddl);
+        assertEquals(1, advisor.recommendIndexes(1).size());
+        assertEquals(3, advisor.getUsage().size());
+    }
+}
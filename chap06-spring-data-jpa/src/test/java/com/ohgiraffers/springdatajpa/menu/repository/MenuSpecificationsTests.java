@@ -0,0 +1,78 @@
+package com.ohgiraffers.springdatajpa.menu.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuSearchCondition;
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * MenuSpecifications.of()로 만든 조건이 전체 메뉴를 메모리에서 거른 결과와 같은지 확인하는 테스트.
+ */
+@SpringBootTest
+class MenuSpecificationsTests {
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    private List<Integer> findMenuCodes(MenuSearchCondition condition) {
+        return menuRepository.findAll(MenuSpecifications.of(condition), Sort.by("menuCode")).stream()
+            .map(Menu::getMenuCode)
+            .toList();
+    }
+
+    @Test
+    @DisplayName("값이 있는 조건만 AND로 조합되는지 확인")
+    void testCombinedConditions() {
+
+        // given
+        MenuSearchCondition condition = new MenuSearchCondition();
+        condition.setCategoryCodes(List.of(4, 5, 6));
+        condition.setOrderableStatus('Y');
+        condition.setMinPrice(5000);
+        condition.setMaxPrice(20000);
+        condition.setAfterMenuCode(3);
+
+        // when
+        List<Integer> menuCodes = findMenuCodes(condition);
+
+        // then
+        List<Integer> expected = menuRepository.findAll(Sort.by("menuCode")).stream()
+            .filter(menu -> List.of(4, 5, 6).contains(menu.getCategoryCode()))
+            .filter(menu -> menu.getOrderableStatus() == 'Y')
+            .filter(menu -> menu.getMenuPrice() >= 5000 && menu.getMenuPrice() <= 20000)
+            .filter(menu -> menu.getMenuCode() > 3)
+            .map(Menu::getMenuCode)
+            .toList();
+        assertEquals(expected, menuCodes);
+    }
+
+    @Test
+    @DisplayName("조건이 없으면 전체를, 접두어 검색은 %와 _를 문자 그대로 취급하는지 확인")
+    void testEmptyConditionAndPrefix() {
+
+        // given
+        MenuSearchCondition empty = new MenuSearchCondition();
+        empty.setCategoryCodes(List.of());
+        empty.setNamePrefix("  ");
+        Menu first = menuRepository.findAll(Sort.by("menuCode")).get(0);
+
+        MenuSearchCondition prefix = new MenuSearchCondition();
+        prefix.setNamePrefix(first.getMenuName().substring(0, 1));
+
+        MenuSearchCondition wildcard = new MenuSearchCondition();
+        wildcard.setNamePrefix("%");
+
+        // when & then
+        assertEquals(menuRepository.count(), findMenuCodes(empty).size());
+        assertTrue(findMenuCodes(prefix).contains(first.getMenuCode()));
+        assertFalse(findMenuCodes(wildcard).contains(first.getMenuCode()));
+    }
+}
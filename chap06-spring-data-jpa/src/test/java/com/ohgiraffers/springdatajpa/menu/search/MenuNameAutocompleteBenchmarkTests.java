@@ -0,0 +1,113 @@
+package com.ohgiraffers.springdatajpa.menu.search;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 메뉴명 100만 건에서 MenuNameAutocomplete의 접두어 조회 지연 시간(p99)을 측정한다.
+ * <p>
+ * - 실행 : ./gradlew test -Pbenchmark --tests '*MenuNameAutocompleteBenchmarkTests'
+ * - 메뉴명은 고정 시드의 무작위 한글 음절 2~8자로 만들고, 정렬 배열만 있는 경우와
+ *   변경분(delta, tombstone)이 쌓여 병합이 일어나는 경우를 모두 측정한다.
+ * - 조회마다 System.nanoTime()으로 잰 값의 99번째 백분위가 1ms 미만이어야 한다.
+ */
+@Tag("benchmark")
+class MenuNameAutocompleteBenchmarkTests {
+
+    private static final int MENU_COUNT = 1_000_000;
+    private static final int CHANGE_COUNT = 50_000;      // 압축 기준(정렬 배열의 1/8)보다 작게 두어 delta에 남긴다.
+    private static final int QUERY_COUNT = 200_000;
+    private static final int WARM_UP_QUERIES = 50_000;
+    private static final int LIMIT = 10;
+    private static final long P99_LIMIT_NANOS = 1_000_000;
+
+    /* 메뉴명에 자주 쓰이는 음절 (무작위 음절만 쓰면 접두어가 거의 겹치지 않아 조회 구간이 비현실적으로 짧아진다) */
+    private static final String COMMON_SYLLABLES = "김치볶음밥닭갈비된장찌개불고기떡볶이라면냉면비빔국수짜장짬뽕탕수육돈까스우동초밥";
+
+    @Test
+    @DisplayName("메뉴명 100만 건에서 접두어 조회의 p99가 1ms 미만인지 확인")
+    void testCompleteLatency() {
+
+        // given
+        Random random = new Random(42);
+        Map<Integer, String> menuNames = new HashMap<>(MENU_COUNT * 2);
+        for (int menuCode = 1; menuCode <= MENU_COUNT; menuCode++) {
+            menuNames.put(menuCode, randomName(random));
+        }
+        MenuNameAutocomplete autocomplete = new MenuNameAutocomplete();
+        autocomplete.rebuild(menuNames);
+        String[] prefixes = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            prefixes[i] = randomPrefix(random, menuNames.get(1 + random.nextInt(MENU_COUNT)));
+        }
+
+        // when : 정렬 배열만 있는 경우
+        long baseP99 = p99(autocomplete, prefixes);
+
+        // when : 변경분이 쌓여 정렬 배열과 delta를 병합하는 경우
+        for (int i = 0; i < CHANGE_COUNT; i++) {
+            int menuCode = 1 + random.nextInt(MENU_COUNT);
+            if (i % 2 == 0) {
+                autocomplete.put(menuCode, randomName(random));
+            } else {
+                autocomplete.remove(menuCode);
+            }
+        }
+        long mergedP99 = p99(autocomplete, prefixes);
+
+        // then
+        System.out.printf("메뉴 %,d건 : 정렬 배열 p99 %.3fms, 변경분 %,d건 병합 p99 %.3fms%n",
+            MENU_COUNT, baseP99 / 1_000_000.0, CHANGE_COUNT, mergedP99 / 1_000_000.0);
+        assertTrue(baseP99 < P99_LIMIT_NANOS, "정렬 배열 조회 p99 : " + baseP99 + "ns");
+        assertTrue(mergedP99 < P99_LIMIT_NANOS, "병합 조회 p99 : " + mergedP99 + "ns");
+    }
+
+    /* 예열 후 조회마다 시간을 재어 99번째 백분위(나노초)를 구한다. */
+    private static long p99(MenuNameAutocomplete autocomplete, String[] prefixes) {
+        long found = 0;
+        for (int i = 0; i < WARM_UP_QUERIES; i++) {
+            found += autocomplete.complete(prefixes[i % prefixes.length], LIMIT).size();
+        }
+        long[] latencies = new long[prefixes.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            long start = System.nanoTime();
+            found += autocomplete.complete(prefixes[i], LIMIT).size();
+            latencies[i] = System.nanoTime() - start;
+        }
+        assertTrue(found > 0);
+        Arrays.sort(latencies);
+        return latencies[(int) Math.ceil(latencies.length * 0.99) - 1];
+    }
+
+    private static String randomName(Random random) {
+        int length = 2 + random.nextInt(7);
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            if (random.nextInt(4) == 0) {
+                name.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+            } else {
+                name.append(COMMON_SYLLABLES.charAt(random.nextInt(COMMON_SYLLABLES.length())));
+            }
+        }
+        return name.toString();
+    }
+
+    /* 메뉴명의 앞 1~3음절. 마지막 음절은 절반의 확률로 초성만 남겨 입력 중인 상태를 흉내 낸다. */
+    private static String randomPrefix(Random random, String name) {
+        int length = 1 + random.nextInt(Math.min(3, name.length()));
+        String prefix = name.substring(0, length);
+        char last = prefix.charAt(length - 1);
+        if (random.nextBoolean()) {
+            char choseong = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".charAt((last - '가') / (21 * 28));
+            prefix = prefix.substring(0, length - 1) + choseong;
+        }
+        return prefix;
+    }
+}
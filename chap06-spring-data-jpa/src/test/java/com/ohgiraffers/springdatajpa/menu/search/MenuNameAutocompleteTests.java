@@ -0,0 +1,56 @@
+package com.ohgiraffers.springdatajpa.menu.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MenuNameAutocomplete의 자모 단위 접두어 검색과 증분 반영을 확인하는 테스트.
+ */
+class MenuNameAutocompleteTests {
+
+    private MenuNameAutocomplete autocomplete;
+
+    @BeforeEach
+    void initAutocomplete() {
+        autocomplete = new MenuNameAutocomplete();
+        autocomplete.rebuild(Map.of(
+            1, "닭갈비",
+            2, "달고나라떼",
+            3, "다시마",
+            4, "과일빙수",
+            5, "괜찮은 밥"
+        ));
+    }
+
+    @Test
+    @DisplayName("완성되지 않은 음절(초성, 받침 입력 중)도 접두어로 일치하는지 확인")
+    void testPartialSyllable() {
+
+        // when & then
+        assertEquals(List.of(1, 2, 3), autocomplete.complete("ㄷ", 10));
+        assertEquals(List.of(1, 2), autocomplete.complete("달", 10));    // "닭"의 겹받침 입력 중
+        assertEquals(List.of(4, 5), autocomplete.complete("고", 10));    // "과"의 이중모음 입력 중
+        assertEquals(List.of(5), autocomplete.complete("괜찮 ", 10));
+        assertEquals(List.of(1), autocomplete.complete("ㄷ", 1));
+    }
+
+    @Test
+    @DisplayName("추가/변경/삭제가 다시 만들지 않아도 조회 결과에 반영되는지 확인")
+    void testIncrementalUpdate() {
+
+        // when
+        autocomplete.put(6, "달걀말이");
+        autocomplete.put(1, "치킨");
+        autocomplete.remove(3);
+
+        // then
+        assertEquals(List.of(6, 2), autocomplete.complete("다", 10));
+        assertEquals(List.of(1), autocomplete.complete("ㅊ", 10));
+        assertEquals(5, autocomplete.size());
+    }
+}
@@ -0,0 +1,78 @@
+package com.ohgiraffers.springdatajpa.menu.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MenuNameIndex의 한글 부분 일치 검색과 정렬, 색인 갱신을 확인하는 테스트.
+ */
+class MenuNameIndexTests {
+
+    private MenuNameIndex index;
+
+    @BeforeEach
+    void initIndex() {
+        index = new MenuNameIndex();
+        index.put(1, "열무김치라떼");
+        index.put(2, "우럭스무디");
+        index.put(3, "마늘빵");
+        index.put(4, "흑마늘 아이스크림");
+        index.put(5, "늘마빵");
+        index.put(6, "마늘");
+    }
+
+    @Test
+    @DisplayName("부분 일치하는 메뉴를 완전 일치 → 앞부분 일치 → 짧은 이름 순으로 찾는지 확인")
+    void testSearchRanking() {
+
+        // when
+        List<Integer> result = index.search("마늘", 10);
+
+        // then : "늘마빵"은 글자는 같지만 순서가 달라 제외된다.
+        assertEquals(List.of(6, 3, 4), result);
+    }
+
+    @Test
+    @DisplayName("공백을 무시하고 한 글자 검색도 가능한지 확인")
+    void testSearchNormalization() {
+
+        // when & then
+        assertEquals(List.of(4), index.search("마늘 아이스", 10));
+        assertEquals(List.of(3, 5), index.search("빵", 10));
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("메뉴명 변경과 삭제가 색인에 반영되는지 확인")
+    void testUpdateAndRemove() {
+
+        // when
+        index.put(3, "치즈빵");
+        index.remove(6);
+
+        // then
+        assertEquals(List.of(4), index.search("마늘", 10));
+        assertEquals(List.of(3), index.search("치즈", 10));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    @DisplayName("putAll로 한 번에 색인한 결과가 put을 반복한 결과와 같은지 확인")
+    void testPutAll() {
+
+        // when : 새 메뉴 추가와 기존 메뉴명 변경이 섞여 있다.
+        index.putAll(Map.of(7, "마늘 스무디", 3, "치즈빵", 8, "마늘"));
+
+        // then
+        assertEquals(List.of(6, 8, 7, 4), index.search("마늘", 10));
+        assertEquals(List.of(2, 7), index.search("스무디", 10));
+        assertEquals(List.of(3), index.search("치즈", 10));
+        assertEquals(8, index.size());
+    }
+}
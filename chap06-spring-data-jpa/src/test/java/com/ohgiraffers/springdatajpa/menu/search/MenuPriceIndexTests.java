@@ -0,0 +1,68 @@
+package com.ohgiraffers.springdatajpa.menu.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MenuPriceIndex의 범위 조회(초과/미만/사이), 정렬, limit, 증분 반영을 확인하는 테스트.
+ */
+class MenuPriceIndexTests {
+
+    private MenuPriceIndex index;
+
+    @BeforeEach
+    void initIndex() {
+        index = new MenuPriceIndex();
+        index.rebuild(Map.of(1, 5000, 2, 12000, 3, 8000, 4, 12000, 5, 30000));
+    }
+
+    @Test
+    @DisplayName("가격 범위 조건과 정렬 방향, limit에 맞게 메뉴 코드를 조회하는지 확인")
+    void testFindMenuCodes() {
+
+        // when & then
+        assertEquals(List.of(5, 4, 2), index.findMenuCodes(10001, Integer.MAX_VALUE, true, 0));   // 10000 초과
+        assertEquals(List.of(1, 3), index.findMenuCodes(Integer.MIN_VALUE, 11999, false, 0));    // 12000 미만
+        assertEquals(List.of(3, 2), index.findMenuCodes(8000, 12000, false, 2));                  // 사이 + limit
+        assertEquals(List.of(), index.findMenuCodes(30001, 40000, false, 10));
+    }
+
+    @Test
+    @DisplayName("가격 변경/추가/삭제가 색인에 반영되는지 확인")
+    void testUpdate() {
+
+        // when
+        index.put(1, 50000);
+        index.put(6, 7000);
+        index.remove(5);
+
+        // then
+        assertEquals(List.of(1, 4, 2, 3, 6), index.findMenuCodes(Integer.MIN_VALUE, Integer.MAX_VALUE, true, 0));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    @DisplayName("putAll로 한 번에 반영한 결과가 put을 반복한 결과와 같은지 확인")
+    void testPutAll() {
+
+        // given
+        MenuPriceIndex expected = new MenuPriceIndex();
+        expected.rebuild(Map.of(1, 5000, 2, 12000, 3, 8000, 4, 12000, 5, 30000));
+        Map<Integer, Integer> changes = Map.of(1, 50000, 2, 12000, 6, 7000, 7, 12000, 8, 1000);
+        changes.forEach(expected::put);
+
+        // when : 가격 변경, 같은 가격, 새 메뉴가 섞여 있다.
+        index.putAll(changes);
+
+        // then
+        assertEquals(expected.findMenuCodes(Integer.MIN_VALUE, Integer.MAX_VALUE, false, 0),
+            index.findMenuCodes(Integer.MIN_VALUE, Integer.MAX_VALUE, false, 0));
+        assertEquals(List.of(8, 6, 3, 2, 4, 7, 5, 1), index.findMenuCodes(Integer.MIN_VALUE, Integer.MAX_VALUE, false, 0));
+        assertEquals(8, index.size());
+    }
+}
@@ -0,0 +1,103 @@
+package com.ohgiraffers.springdatajpa.menu.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.event.MenuBatchCreatedEvent;
+import com.ohgiraffers.springdatajpa.menu.event.MenuChangedEvent;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * MenuPriceRepository가 재구성 도중의 변경을 새 색인에 다시 적용하고, 다음 재구성에 남기지 않는지 확인하는 테스트.
+ * (DB 대신 MenuRepository 목을 사용해, 가격을 읽는 도중에 변경 이벤트가 도착하는 상황을 만든다)
+ */
+class MenuPriceRepositoryTests {
+
+    private final MenuRepository menuRepository = mock(MenuRepository.class);
+    private final MenuPriceRepository priceRepository = new MenuPriceRepository(menuRepository, Duration.ofMinutes(15));
+
+    private static List<Object[]> rows(int... codeAndPrice) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < codeAndPrice.length; i += 2) {
+            rows.add(new Object[]{codeAndPrice[i], codeAndPrice[i + 1]});
+        }
+        return rows;
+    }
+
+    private static MenuChangedEvent event(MenuChangedEvent.Type type, int menuCode, int menuPrice) {
+        MenuDTO menu = new MenuDTO();
+        menu.setMenuCode(menuCode);
+        menu.setMenuPrice(menuPrice);
+        return new MenuChangedEvent(type, menu);
+    }
+
+    @Test
+    @DisplayName("재구성 중에 들어온 등록/수정/삭제가 새 색인에 반영되는지 확인")
+    void testChangesDuringRebuild() {
+
+        // given : 가격을 읽은 직후, 색인을 교체하기 전에 다른 트랜잭션의 변경이 커밋된다.
+        when(menuRepository.findMenuPricesAfter(anyInt(), any(Pageable.class))).thenAnswer(invocation -> {
+            priceRepository.onMenuChanged(event(MenuChangedEvent.Type.UPDATED, 1, 9000));
+            priceRepository.onMenuChanged(event(MenuChangedEvent.Type.DELETED, 2, 2000));
+            priceRepository.onMenuChanged(event(MenuChangedEvent.Type.CREATED, 3, 3000));
+            return rows(1, 1000, 2, 2000);
+        });
+
+        // when
+        priceRepository.rebuild();
+
+        // then
+        assertTrue(priceRepository.isFresh());
+        assertEquals(List.of(3, 1), priceRepository.findMenuCodes(0, Integer.MAX_VALUE, false, 0));
+        assertEquals(List.of(1), priceRepository.findMenuCodes(5000, 10000, false, 0));
+    }
+
+    @Test
+    @DisplayName("재구성이 끝난 뒤의 변경은 다음 재구성에서 다시 적용되지 않는지 확인")
+    void testNoStaleReplay() {
+
+        // given
+        when(menuRepository.findMenuPricesAfter(anyInt(), any(Pageable.class)))
+            .thenReturn(rows(1, 1000))
+            .thenReturn(rows(1, 7000));
+        priceRepository.rebuild();
+        priceRepository.onMenuChanged(event(MenuChangedEvent.Type.UPDATED, 1, 5000));
+
+        // when : 그 뒤 DB에서 직접 바뀐 가격(7000)으로 다시 만든다.
+        priceRepository.rebuild();
+
+        // then : 이미 지나간 변경(5000)이 DB 값을 덮어쓰면 안 된다.
+        assertEquals(List.of(1), priceRepository.findMenuCodes(7000, 7000, false, 0));
+        assertTrue(priceRepository.findMenuCodes(5000, 5000, false, 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("재구성 중에 묶음으로 등록된 메뉴도 새 색인에 반영되는지 확인")
+    void testBatchCreatedDuringRebuild() {
+
+        // given
+        when(menuRepository.findMenuPricesAfter(anyInt(), any(Pageable.class))).thenAnswer(invocation -> {
+            priceRepository.onMenuBatchCreated(new MenuBatchCreatedEvent(List.of(
+                event(MenuChangedEvent.Type.CREATED, 2, 2000).getMenu(),
+                event(MenuChangedEvent.Type.CREATED, 3, 500).getMenu())));
+            return rows(1, 1000);
+        });
+
+        // when
+        priceRepository.rebuild();
+
+        // then
+        assertEquals(List.of(3, 1, 2), priceRepository.findMenuCodes(0, Integer.MAX_VALUE, false, 0));
+    }
+}
@@ -0,0 +1,82 @@
+package com.ohgiraffers.springdatajpa.menu.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import com.ohgiraffers.springdatajpa.menu.event.MenuChangedEvent;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * MenuSearchRepository가 전체 적재 도중에 커밋된 변경을 적재가 끝난 뒤에도 잃지 않는지 확인하는 테스트.
+ * (DB 대신 MenuRepository 목을 사용해, 페이지를 읽는 도중에 변경 이벤트가 도착하는 상황을 만든다)
+ */
+class MenuSearchRepositoryTests {
+
+    private final MenuRepository menuRepository = mock(MenuRepository.class);
+    private final MenuSearchRepository searchRepository = new MenuSearchRepository(menuRepository);
+
+    private static Menu menuEntity(int menuCode, String menuName) {
+        Menu menu = mock(Menu.class);
+        when(menu.getMenuCode()).thenReturn(menuCode);
+        when(menu.getMenuName()).thenReturn(menuName);
+        return menu;
+    }
+
+    private static MenuChangedEvent event(MenuChangedEvent.Type type, int menuCode, String menuName) {
+        MenuDTO menu = new MenuDTO();
+        menu.setMenuCode(menuCode);
+        menu.setMenuName(menuName);
+        return new MenuChangedEvent(type, menu);
+    }
+
+    @Test
+    @DisplayName("적재 중에 들어온 등록/수정/삭제가 부분 일치 검색과 자동완성 모두에 남아 있는지 확인")
+    void testChangesDuringLoad() {
+
+        // given : 페이지를 읽은 직후(색인에 넣기 전) 다른 트랜잭션의 변경이 커밋된다.
+        List<Menu> rows = List.of(menuEntity(1, "마늘빵"), menuEntity(2, "닭갈비"));
+        when(menuRepository.findByMenuCodeGreaterThan(anyInt(), any(Pageable.class))).thenAnswer(invocation -> {
+            searchRepository.onMenuChanged(event(MenuChangedEvent.Type.UPDATED, 1, "치즈빵"));
+            searchRepository.onMenuChanged(event(MenuChangedEvent.Type.DELETED, 2, "닭갈비"));
+            searchRepository.onMenuChanged(event(MenuChangedEvent.Type.CREATED, 3, "달고나라떼"));
+            return rows;
+        });
+
+        // when
+        searchRepository.load();
+
+        // then
+        assertTrue(searchRepository.isLoaded());
+        assertEquals(List.of(1), searchRepository.searchMenuCodesByName("치즈", 10));
+        assertTrue(searchRepository.searchMenuCodesByName("마늘", 10).isEmpty());
+        assertEquals(List.of(3), searchRepository.autocompleteMenuCodes("달", 10));
+        assertEquals(List.of(1), searchRepository.autocompleteMenuCodes("ㅊ", 10));
+    }
+
+    @Test
+    @DisplayName("적재가 끝난 뒤의 변경은 곧바로 검색 결과에 반영되는지 확인")
+    void testChangesAfterLoad() {
+
+        // given
+        List<Menu> rows = List.of(menuEntity(1, "마늘빵"));
+        when(menuRepository.findByMenuCodeGreaterThan(anyInt(), any(Pageable.class))).thenReturn(rows);
+        searchRepository.load();
+
+        // when
+        searchRepository.onMenuChanged(event(MenuChangedEvent.Type.CREATED, 2, "흑마늘 아이스크림"));
+
+        // then
+        assertEquals(List.of(1, 2), searchRepository.searchMenuCodesByName("마늘", 10));
+        assertEquals(List.of(2), searchRepository.autocompleteMenuCodes("흑", 10));
+    }
+}
@@ -0,0 +1,176 @@
+package com.ohgiraffers.springdatajpa.menu.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 여러 스레드가 같은 메뉴의 주문 수를 동시에 늘리고, 그 사이 반영(flush)과 조회가 섞여도 합계가 정확한지 확인하는 테스트.
+ * (테스트용 메뉴를 등록해 사용하고, 테스트가 끝나면 메뉴와 집계 행을 지운다)
+ */
+@SpringBootTest(properties = "menu.order-counter.flush-interval=3600000")   // 반영은 테스트에서 직접 호출한다.
+class MenuOrderCounterServiceTests {
+
+    private static final String MENU_NAME = "주문수테스트메뉴";
+    private static final int THREAD_COUNT = 32;
+    private static final int INCREMENTS_PER_THREAD = 2_000;
+    private static final int MEMORY_INCREMENTS = 1_000_000;
+    private static final long MIN_INCREMENTS_PER_SECOND = 100_000;
+
+    @Autowired
+    private MenuOrderCounterService menuOrderCounterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    private int menuCode;
+
+    @BeforeEach
+    void registMenu() {
+        jdbcTemplate.update("INSERT INTO tbl_menu (menu_name, menu_price, category_code, orderable_status)"
+            + " VALUES (?, 1000, 4, 'Y')", MENU_NAME);
+        menuCode = jdbcTemplate.queryForObject("SELECT MAX(menu_code) FROM tbl_menu WHERE menu_name = ?",
+            Integer.class, MENU_NAME);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        menuOrderCounterService.flush();
+        jdbcTemplate.update("DELETE FROM tbl_menu_order_count WHERE menu_code = ?", menuCode);
+        jdbcTemplate.update("DELETE FROM tbl_menu WHERE menu_name = ?", MENU_NAME);
+    }
+
+    @Test
+    @DisplayName("동시에 증가시키면서 반영과 조회를 반복해도 최종 주문 수가 정확하고, 조회 값이 줄어들지 않는지 확인")
+    void testConcurrentIncrement() throws Exception {
+
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // when : 증가 스레드들과 함께, 반영 스레드가 반영과 조회를 계속 반복한다.
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < INCREMENTS_PER_THREAD; n++) {
+                    menuOrderCounterService.increment(menuCode);
+                }
+                return null;
+            }));
+        }
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+        Future<?> flusher = flushExecutor.submit(() -> {
+            long previous = 0;
+            while (running.get()) {
+                menuOrderCounterService.flush();
+                long current = menuOrderCounterService.getOrderCount(menuCode);
+                assertTrue(current >= previous, "반영 도중에도 조회 값이 줄어들면 안 된다 : " + previous + " → " + current);
+                previous = current;
+            }
+        });
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        running.set(false);
+        flusher.get();      // 반영 스레드에서 검증이 실패했다면 여기서 예외가 발생한다.
+        executor.shutdown();
+        flushExecutor.shutdown();
+
+        // then : 메모리와 DB를 합친 값, 그리고 모두 반영한 뒤의 DB 값이 정확히 일치해야 한다.
+        long expected = (long) THREAD_COUNT * INCREMENTS_PER_THREAD;
+        assertEquals(expected, menuOrderCounterService.getOrderCount(menuCode));
+        menuOrderCounterService.flush();
+        assertEquals(expected, jdbcTemplate.queryForObject(
+            "SELECT SUM(order_count) FROM tbl_menu_order_count WHERE menu_code = ?", Long.class, menuCode));
+    }
+
+    @Test
+    @DisplayName("반영 없이 동시에 증가시킬 때 증가분이 유실되지 않고 초당 10만 건 이상 처리하는지 확인")
+    void testConcurrentIncrementThroughput() throws Exception {
+
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        int incrementsPerThread = MEMORY_INCREMENTS / THREAD_COUNT;
+        menuOrderCounterService.increment(menuCode);     // 존재 여부 확인(DB 조회)은 측정에서 뺀다.
+        long pendingBefore = menuOrderCounterService.pendingCount();
+
+        // when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < incrementsPerThread; n++) {
+                    menuOrderCounterService.increment(menuCode);
+                }
+                return null;
+            }));
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        // then
+        long total = (long) incrementsPerThread * THREAD_COUNT;
+        long incrementsPerSecond = total * 1_000_000_000L / Math.max(1, elapsedNanos);
+        System.out.println("주문 수 증가 처리량 : " + incrementsPerSecond + "건/초");
+        assertEquals(pendingBefore + total, menuOrderCounterService.pendingCount());
+        assertTrue(incrementsPerSecond >= MIN_INCREMENTS_PER_SECOND,
+            "초당 증가 처리량이 목표보다 낮다 : " + incrementsPerSecond);
+    }
+
+    @Test
+    @DisplayName("메뉴가 삭제되면 반영 전 증가분과 DB 집계 행이 함께 지워지는지 확인")
+    void testEvictOnMenuDeleted() {
+
+        // given
+        menuOrderCounterService.increment(menuCode, 3);
+        menuOrderCounterService.flush();
+        menuOrderCounterService.increment(menuCode, 2);
+
+        // when
+        menuRepository.deleteById(menuCode);
+
+        // then
+        assertEquals(0, menuOrderCounterService.getOrderCount(menuCode));
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM tbl_menu_order_count WHERE menu_code = ?", Long.class, menuCode));
+        assertThrows(IllegalArgumentException.class, () -> menuOrderCounterService.increment(menuCode));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 메뉴의 주문 수는 집계하지 않는지 확인")
+    void testIncrementUnknownMenu() {
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> menuOrderCounterService.increment(-1));
+        assertThrows(IllegalArgumentException.class, () -> menuOrderCounterService.increment(menuCode + 100_000));
+        assertThrows(IllegalArgumentException.class, () -> menuOrderCounterService.increment(menuCode, 0));
+    }
+}
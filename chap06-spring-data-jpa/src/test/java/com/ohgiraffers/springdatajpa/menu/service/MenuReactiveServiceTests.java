@@ -0,0 +1,67 @@
+package com.ohgiraffers.springdatajpa.menu.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * MenuReactiveService의 키셋 페이징 스트리밍과 단건 조회를 확인하는 테스트.
+ */
+@SpringBootTest(properties = "menu.reactive.page-size=3")   // 여러 페이지를 이어 붙이도록 페이지를 작게 준다.
+class MenuReactiveServiceTests {
+
+    @Autowired
+    private MenuReactiveService menuReactiveService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Test
+    @DisplayName("페이지를 나누어 조회해도 전체 메뉴를 menuCode 오름차순으로 빠짐없이 스트리밍하는지 확인")
+    void testStreamMenuList() {
+
+        // given
+        List<Integer> expected = menuRepository.findAll(Sort.by("menuCode")).stream()
+            .map(Menu::getMenuCode)
+            .toList();
+
+        // when
+        List<Integer> streamed = menuReactiveService.streamMenuList()
+            .map(MenuDTO::getMenuCode)
+            .collectList()
+            .block();
+
+        // then
+        assertEquals(expected, streamed);
+    }
+
+    @Test
+    @DisplayName("구독자가 일부만 요청하면 그만큼만 받고 끝나는지 확인")
+    void testStreamMenuListTake() {
+
+        // when
+        List<MenuDTO> firstTwo = menuReactiveService.streamMenuList().take(2).collectList().block();
+
+        // then
+        assertEquals(2, firstTwo.size());
+        assertEquals(true, firstTwo.get(0).getMenuCode() < firstTwo.get(1).getMenuCode());
+    }
+
+    @Test
+    @DisplayName("단건 조회는 메뉴가 있으면 값을, 없으면 빈 Mono를 반환하는지 확인")
+    void testFindMenuByMenuCode() {
+
+        // when & then
+        assertEquals(1, menuReactiveService.findMenuByMenuCode(1).block().getMenuCode());
+        assertNull(menuReactiveService.findMenuByMenuCode(-1).block());
+    }
+}
@@ -0,0 +1,129 @@
+package com.ohgiraffers.springdatajpa.menu.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ohgiraffers.springdatajpa.common.OptimisticLockRetryExecutor;
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 같은 메뉴를 여러 스레드가 동시에 수정할 때 낙관적 락 + 재시도로 수정이 유실되지 않는지 확인하는 테스트.
+ */
+@SpringBootTest(properties = {
+    // 64개 스레드가 한 행을 두고 경합하므로 모든 요청이 결국 성공하도록 시도 횟수를 넉넉히 준다.
+    "menu.optimistic-lock.max-attempts=200",
+    "menu.optimistic-lock.max-backoff-ms=50"
+})
+class MenuServiceConcurrencyTests {
+
+    private static final int THREAD_COUNT = 64;
+    private static final int MENU_CODE = 1;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private OptimisticLockRetryExecutor optimisticLockRetryExecutor;
+
+    @Test
+    @DisplayName("64개 스레드가 같은 메뉴를 동시에 수정해도 수정이 유실되지 않는지 확인")
+    void testConcurrentModifyMenu() throws Exception {
+
+        // given
+        Menu before = menuRepository.findById(MENU_CODE).orElseThrow();
+        String originalName = before.getMenuName();
+        long conflictsBefore = optimisticLockRetryExecutor.getMetrics().getConflicts();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when : 모든 스레드가 동시에 출발하도록 latch로 맞춘 뒤 각자 다른 이름으로 수정
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            String menuName = "동시수정" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                MenuDTO menuDTO = new MenuDTO();
+                menuDTO.setMenuCode(MENU_CODE);
+                menuDTO.setMenuName(menuName);
+                menuService.modifyMenu(menuDTO);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();   // 재시도를 모두 소진한 요청이 있으면 여기서 예외가 발생해 테스트가 실패한다.
+        }
+        executor.shutdown();
+
+        // then : 성공한 수정마다 버전이 정확히 1씩 증가해야 한다. (덮어쓰기로 사라진 수정이 없음)
+        Menu after = menuRepository.findById(MENU_CODE).orElseThrow();
+        assertEquals(before.getVersion() + THREAD_COUNT, after.getVersion());
+        assertTrue(after.getMenuName().startsWith("동시수정"));
+        System.out.println("metrics = " + optimisticLockRetryExecutor.getMetrics());
+        assertTrue(optimisticLockRetryExecutor.getMetrics().getConflicts() > conflictsBefore,
+            "동시에 출발한 수정 사이에 충돌이 한 번 이상 발생해 재시도되어야 한다.");
+
+        // 원래 이름으로 되돌린다.
+        restoreMenuName(originalName);
+    }
+
+    @Test
+    @DisplayName("64개 스레드가 현재 값을 읽어 1씩 늘려도 최종 값에 모든 증가가 반영되는지 확인")
+    void testConcurrentReadModifyWrite() throws Exception {
+
+        // given : 메뉴 이름을 숫자 카운터로 사용한다. (읽은 값 + 1을 저장하므로 덮어쓰기가 있으면 합계가 모자란다)
+        String originalName = menuRepository.findById(MENU_CODE).orElseThrow().getMenuName();
+        restoreMenuName("0");
+        long conflictsBefore = optimisticLockRetryExecutor.getMetrics().getConflicts();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                optimisticLockRetryExecutor.execute(() -> {
+                    Menu menu = menuRepository.findById(MENU_CODE).orElseThrow();
+                    menu.modifyMenuName(String.valueOf(Integer.parseInt(menu.getMenuName()) + 1));
+                });
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(String.valueOf(THREAD_COUNT), menuRepository.findById(MENU_CODE).orElseThrow().getMenuName());
+        assertTrue(optimisticLockRetryExecutor.getMetrics().getConflicts() > conflictsBefore);
+
+        restoreMenuName(originalName);
+    }
+
+    private void restoreMenuName(String menuName) {
+        MenuDTO restore = new MenuDTO();
+        restore.setMenuCode(MENU_CODE);
+        restore.setMenuName(menuName);
+        menuService.modifyMenu(restore);
+    }
+}
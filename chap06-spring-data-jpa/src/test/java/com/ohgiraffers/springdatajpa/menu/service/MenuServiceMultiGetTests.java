@@ -0,0 +1,47 @@
+package com.ohgiraffers.springdatajpa.menu.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * MenuService.findMenusByMenuCodes(multi-get)의 순서 유지, 중복 제거, 최대 개수 제한을 확인하는 테스트.
+ */
+@SpringBootTest(properties = {
+    "menu.multi-get.chunk-size=2",    // IN 절이 여러 번으로 나뉘도록 작게 준다.
+    "menu.multi-get.max-codes=10"
+})
+class MenuServiceMultiGetTests {
+
+    @Autowired
+    private MenuService menuService;
+
+    @Test
+    @DisplayName("요청한 순서대로 반환하고, 중복 코드는 한 번만, 없는 코드는 빼고 반환하는지 확인")
+    void testFindMenusByMenuCodes() {
+
+        // when
+        List<MenuDTO> menus = menuService.findMenusByMenuCodes(List.of(3, 1, 999_999, 3, 2, 5));
+
+        // then
+        assertEquals(List.of(3, 1, 2, 5), menus.stream().map(MenuDTO::getMenuCode).toList());
+        assertEquals(menuService.findMenuByMenuCode(2).getMenuName(), menus.get(2).getMenuName());
+    }
+
+    @Test
+    @DisplayName("중복을 뺀 코드 수가 최대 개수를 넘으면 조회하지 않는지 확인")
+    void testMaxCodes() {
+
+        // when & then : 중복은 한 번으로 세므로 같은 코드 20개는 허용된다.
+        assertEquals(1, menuService.findMenusByMenuCodes(Collections.nCopies(20, 1)).size());
+        assertThrows(IllegalArgumentException.class,
+            () -> menuService.findMenusByMenuCodes(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11)));
+    }
+}
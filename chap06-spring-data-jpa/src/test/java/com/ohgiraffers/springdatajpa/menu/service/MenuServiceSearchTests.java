@@ -0,0 +1,91 @@
+package com.ohgiraffers.springdatajpa.menu.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ohgiraffers.springdatajpa.menu.dto.MenuDTO;
+import com.ohgiraffers.springdatajpa.menu.dto.MenuSearchCondition;
+import com.ohgiraffers.springdatajpa.menu.entity.Menu;
+import com.ohgiraffers.springdatajpa.menu.repository.MenuRepository;
+import com.ohgiraffers.springdatajpa.menu.search.MenuPriceRepository;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * MenuService.searchMenus의 정렬/페이징 조건 검증과, 가격 조회(findByMenuPrice)가 가격 색인에서 DB와 같은 결과를 내는지 확인하는 테스트.
+ */
+@SpringBootTest
+class MenuServiceSearchTests {
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuPriceRepository menuPriceRepository;
+
+    private static MenuSearchCondition condition(String sort, String direction, Integer afterMenuCode) {
+        MenuSearchCondition condition = new MenuSearchCondition();
+        condition.setSort(sort);
+        condition.setDirection(direction);
+        condition.setAfterMenuCode(afterMenuCode);
+        return condition;
+    }
+
+    @Test
+    @DisplayName("키셋 페이징에서 menuCode 오름차순 외의 정렬, 잘못된 정렬 방향은 무시하지 않고 거부하는지 확인")
+    void testRejectInvalidSort() {
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> menuService.searchMenus(condition("menuPrice", "asc", 0)));
+        assertThrows(IllegalArgumentException.class, () -> menuService.searchMenus(condition("menuCode", "desc", 0)));
+        assertThrows(IllegalArgumentException.class, () -> menuService.searchMenus(condition("menuPrice", "up", null)));
+        assertThrows(IllegalArgumentException.class, () -> menuService.searchMenus(condition("menuCode", "x", 0)));
+    }
+
+    @Test
+    @DisplayName("허용된 정렬 조건은 그대로 적용되는지 확인")
+    void testValidSort() {
+
+        // when
+        List<MenuDTO> keyset = menuService.searchMenus(condition("menuCode", "ASC", 0)).getContent();
+        List<MenuDTO> byPrice = menuService.searchMenus(condition("menuPrice", "desc", null)).getContent();
+
+        // then
+        assertEquals(keyset.stream().sorted(Comparator.comparingInt(MenuDTO::getMenuCode)).toList(), keyset);
+        assertEquals(byPrice.stream().sorted(Comparator.comparingInt(MenuDTO::getMenuPrice).reversed()).toList(),
+            byPrice);
+    }
+
+    @Test
+    @DisplayName("기준 가격보다 비싼 메뉴를 가격 색인에서 조회해도 DB 조회와 같은 메뉴를 같은 순서로 반환하는지 확인")
+    void testFindByMenuPriceFromIndex() {
+
+        // given
+        menuPriceRepository.rebuild();
+        int menuPrice = 10000;
+        List<Integer> expected = menuRepository.findByMenuPriceGreaterThan(menuPrice,
+                Sort.by("menuPrice").descending().and(Sort.by("menuCode").descending()))
+            .stream()
+            .map(Menu::getMenuCode)
+            .toList();
+
+        // when
+        List<Integer> found = menuService.findByMenuPrice(menuPrice).stream()
+            .map(MenuDTO::getMenuCode)
+            .toList();
+
+        // then
+        assertTrue(menuPriceRepository.isFresh());
+        assertEquals(expected, found);
+        assertEquals(List.of(), menuService.findByMenuPrice(Integer.MAX_VALUE));
+    }
+}